@@ -0,0 +1,77 @@
+package benchmarks;
+
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import onlythree.imanager.commons.exceptions.IllegalValueException;
+import onlythree.imanager.logic.DateTimeUtil;
+import onlythree.imanager.logic.parser.DateTimeExtractor;
+import onlythree.imanager.model.task.Deadline;
+import onlythree.imanager.model.task.StartEndDateTime;
+import onlythree.imanager.model.task.exceptions.IllegalDateTimeException;
+
+/**
+ * Measures turning natural language date-times into {@code ZonedDateTime}s, on its own and as part of
+ * extracting the date-times from the arguments of a command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateTimeParsingBenchmark {
+
+    private static final int IMPORT_SIZE = 10000;
+
+    @Param({"tomorrow", "tmr 9am", "next friday 5pm", "25 dec 2099 9am", "2099-04-10 14:00", "in 3 days"})
+    public String dateTime;
+
+    private List<String> importedDateTimes;
+
+    @Setup
+    public void setUp() {
+        DateTimeUtil.initializeNatty();
+        importedDateTimes = Collections.nCopies(IMPORT_SIZE, dateTime);
+    }
+
+    @Benchmark
+    public ZonedDateTime parseDateTimeString() throws IllegalValueException {
+        return DateTimeUtil.parseDateTimeString(dateTime);
+    }
+
+    /** Parses as many date-times as a large import, in parallel. */
+    @Benchmark
+    public List<ZonedDateTime> parseAll() throws IllegalValueException {
+        return DateTimeUtil.parseAll(importedDateTimes);
+    }
+
+    @Benchmark
+    public Optional<Deadline> extractDeadline() throws IllegalDateTimeException {
+        DateTimeExtractor extractor = new DateTimeExtractor("submit report by " + dateTime);
+        extractor.processDeadline();
+        return extractor.getProcessedDeadline();
+    }
+
+    @Benchmark
+    public Optional<StartEndDateTime> extractStartEndDateTime() throws IllegalDateTimeException {
+        DateTimeExtractor extractor = new DateTimeExtractor("project meeting from " + dateTime + " to 2099-01-01");
+        extractor.processStartEndDateTime();
+        return extractor.getProcessedStartEndDateTime();
+    }
+}
@@ -0,0 +1,62 @@
+package benchmarks;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import onlythree.imanager.model.ModelManager;
+import onlythree.imanager.model.UserPrefs;
+
+/**
+ * Measures filtering the shown task list, by name keywords and by the views based on the time now.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int taskCount;
+
+    private final Set<String> keywords = new HashSet<>(Arrays.asList("groceries", "report"));
+    private ModelManager model;
+
+    @Setup
+    public void setUp() {
+        model = new ModelManager(SyntheticTaskLists.generate(taskCount), new UserPrefs());
+    }
+
+    @Benchmark
+    public int updateFilteredTaskList() {
+        model.updateFilteredTaskList(keywords);
+        return model.getFilteredTaskList().size();
+    }
+
+    @Benchmark
+    public int updateFilteredListToShowToday() {
+        model.updateFilteredListToShowToday();
+        return model.getFilteredTaskList().size();
+    }
+
+    @Benchmark
+    public int updateFilteredListToShowOverdue() {
+        model.updateFilteredListToShowOverdue();
+        return model.getFilteredTaskList().size();
+    }
+}
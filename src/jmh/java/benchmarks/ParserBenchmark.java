@@ -0,0 +1,41 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import onlythree.imanager.logic.commands.Command;
+import onlythree.imanager.logic.parser.Parser;
+
+/**
+ * Measures parsing a command typed by the user, from commands without any date-time to commands with two.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({"add buy groceries t/home", "add submit report by next friday 5pm t/work",
+            "add project meeting from tomorrow 2pm to tomorrow 4pm", "edit 3 by 25 dec 2099 9am",
+            "find groceries report", "view upcoming 3d"})
+    public String commandText;
+
+    private final Parser parser = new Parser();
+
+    @Benchmark
+    public Command parseCommand() {
+        return parser.parseCommand(commandText);
+    }
+}
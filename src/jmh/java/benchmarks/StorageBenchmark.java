@@ -0,0 +1,66 @@
+package benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import onlythree.imanager.commons.exceptions.DataConversionException;
+import onlythree.imanager.model.ReadOnlyTaskList;
+import onlythree.imanager.model.TaskList;
+import onlythree.imanager.storage.XmlTaskListStorage;
+
+/**
+ * Measures saving and loading a whole task list as an xml file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int taskCount;
+
+    private TaskList taskList;
+    private File file;
+    private XmlTaskListStorage storage;
+
+    @Setup
+    public void setUp() throws IOException {
+        taskList = SyntheticTaskLists.generate(taskCount);
+        file = File.createTempFile("StorageBenchmark", ".xml");
+        storage = new XmlTaskListStorage(file.getPath());
+        storage.saveTaskList(taskList);
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public void saveTaskList() throws IOException {
+        storage.saveTaskList(taskList);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyTaskList> readTaskList() throws DataConversionException, IOException {
+        return storage.readTaskList();
+    }
+}
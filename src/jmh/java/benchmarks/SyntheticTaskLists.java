@@ -0,0 +1,61 @@
+package benchmarks;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+import onlythree.imanager.commons.exceptions.IllegalValueException;
+import onlythree.imanager.model.TaskList;
+import onlythree.imanager.model.tag.UniqueTagList;
+import onlythree.imanager.model.task.Deadline;
+import onlythree.imanager.model.task.Name;
+import onlythree.imanager.model.task.StartEndDateTime;
+import onlythree.imanager.model.task.Task;
+import onlythree.imanager.model.task.exceptions.IllegalDateTimeException;
+
+/**
+ * Generates task lists of any size for the benchmarks.
+ * The same size always gives the same tasks, so that results can be compared between runs.
+ */
+public class SyntheticTaskLists {
+
+    /** Words used in the task names, so that finding by name matches a share of the tasks. */
+    public static final String[] NAME_WORDS = {
+        "buy", "call", "write", "review", "submit", "plan", "meeting", "report", "groceries", "project"
+    };
+    private static final String[] TAG_NAMES = {"work", "home", "school", "urgent", "later"};
+
+    private SyntheticTaskLists() {}
+
+    /**
+     * Returns a task list of {@code taskCount} tasks. A third of the tasks are floating, a third have a deadline
+     * and a third have a start and end date-time, spread from a month ago to a month from now.
+     */
+    public static TaskList generate(int taskCount) {
+        TaskList taskList = new TaskList();
+        ZonedDateTime now = ZonedDateTime.now();
+        try {
+            for (int i = 0; i < taskCount; i++) {
+                taskList.addTask(generateTask(i, now));
+            }
+        } catch (IllegalValueException | IllegalDateTimeException e) {
+            throw new AssertionError("Generated tasks should be valid", e);
+        }
+        return taskList;
+    }
+
+    private static Task generateTask(int i, ZonedDateTime now)
+            throws IllegalValueException, IllegalDateTimeException {
+        Name name = new Name(NAME_WORDS[i % NAME_WORDS.length] + " " + NAME_WORDS[(i / 7) % NAME_WORDS.length]
+                + " " + i);
+        ZonedDateTime dateTime = now.plusHours((i % 1440) - 720);
+        Optional<Deadline> deadline = Optional.empty();
+        Optional<StartEndDateTime> startEndDateTime = Optional.empty();
+        if (i % 3 == 1) {
+            deadline = Optional.of(new Deadline(dateTime, true));
+        } else if (i % 3 == 2) {
+            startEndDateTime = Optional.of(new StartEndDateTime(dateTime, dateTime.plusHours(2), true));
+        }
+        UniqueTagList tags = new UniqueTagList(TAG_NAMES[i % TAG_NAMES.length]);
+        return new Task(name, deadline, startEndDateTime, tags, i % 4 == 0);
+    }
+}
@@ -0,0 +1,60 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import onlythree.imanager.model.TaskList;
+
+/**
+ * Measures the heap retained by a task list, reported per task as the {@code retainedBytesPerTask} counter.
+ * The time of each run includes the garbage collections needed to measure the heap, so it is not meaningful.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TaskFootprintBenchmark {
+
+    private static final int GC_RUNS = 5;
+
+    @Param({"10000", "100000"})
+    public int taskCount;
+
+    /**
+     * The heap footprint of the task list generated in an iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long retainedBytesPerTask;
+    }
+
+    @Benchmark
+    public TaskList generateTaskList(Footprint footprint) {
+        long usedBefore = usedHeapAfterGc();
+        TaskList taskList = SyntheticTaskLists.generate(taskCount);
+        footprint.retainedBytesPerTask = (usedHeapAfterGc() - usedBefore) / taskCount;
+        return taskList;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < GC_RUNS; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
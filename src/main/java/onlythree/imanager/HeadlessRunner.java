@@ -0,0 +1,272 @@
+package onlythree.imanager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import onlythree.imanager.commons.core.Config;
+import onlythree.imanager.commons.core.LogsCenter;
+import onlythree.imanager.commons.core.MetricsCenter;
+import onlythree.imanager.commons.exceptions.DataConversionException;
+import onlythree.imanager.commons.util.ConfigUtil;
+import onlythree.imanager.commons.util.StringUtil;
+import onlythree.imanager.logic.Logic;
+import onlythree.imanager.logic.LogicManager;
+import onlythree.imanager.logic.commands.ExitCommand;
+import onlythree.imanager.logic.commands.RedoCommand;
+import onlythree.imanager.logic.commands.UndoCommand;
+import onlythree.imanager.logic.commands.exceptions.CommandException;
+import onlythree.imanager.model.Model;
+import onlythree.imanager.model.ModelManager;
+import onlythree.imanager.model.ReadOnlyTaskList;
+import onlythree.imanager.model.TaskList;
+import onlythree.imanager.model.UserPrefs;
+import onlythree.imanager.storage.Storage;
+import onlythree.imanager.storage.StorageManager;
+
+/**
+ * An entry point that runs a script of commands against the task list without starting JavaFX or the UI,
+ * e.g. for cron jobs and bulk loading.
+ *
+ * The script has one command per line, as typed in the command box. Blank lines and lines starting with
+ * {@code #} are skipped, and {@code exit} stops the script. The task list is saved every
+ * {@code checkpointInterval} commands and once at the end, instead of after every command.
+ *
+ * Usage: {@code HeadlessRunner [--config CONFIG_FILE] [--checkpoint COMMANDS] [SCRIPT_FILE]}, reading the
+ * script from standard input if no script file is given. Exits with status 1 if any command failed.
+ */
+public class HeadlessRunner {
+    private static final Logger logger = LogsCenter.getLogger(HeadlessRunner.class);
+
+    public static final String MESSAGE_USAGE = "Usage: HeadlessRunner [--config CONFIG_FILE] "
+            + "[--checkpoint COMMANDS] [SCRIPT_FILE]";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s: %3$s";
+
+    private static final String COMMENT_PREFIX = "#";
+    private static final int EXIT_STATUS_COMMAND_FAILED = 1;
+    private static final int EXIT_STATUS_INVALID_USAGE = 2;
+
+    private final Logic logic;
+    private final Model model;
+    private final Storage storage;
+    private final int checkpointInterval;
+    private final PrintStream errors;
+
+    /**
+     * @param checkpointInterval the number of commands run between saves, or 0 to only save at the end
+     * @param errors where the commands that fail are reported
+     */
+    public HeadlessRunner(Logic logic, Model model, Storage storage, int checkpointInterval, PrintStream errors) {
+        assert checkpointInterval >= 0;
+        this.logic = logic;
+        this.model = model;
+        this.storage = storage;
+        this.checkpointInterval = checkpointInterval;
+        this.errors = errors;
+    }
+
+    /**
+     * Runs every command in {@code script} and saves the task list.
+     * @throws IOException if the script cannot be read or the task list cannot be saved
+     */
+    public RunSummary run(Reader script) throws IOException {
+        BufferedReader reader = new BufferedReader(script);
+        long startNanos = System.nanoTime();
+        int commandCount = 0;
+        int failedCount = 0;
+        int saveCount = 0;
+        int commandsSinceCheckpoint = 0;
+
+        model.beginBatch();
+        try {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+                String commandWord = commandText.split("\\s+")[0];
+                if (commandWord.equals(ExitCommand.COMMAND_WORD)) {
+                    break;
+                }
+
+                boolean isUndoOrRedo = commandWord.equals(UndoCommand.COMMAND_WORD)
+                        || commandWord.equals(RedoCommand.COMMAND_WORD);
+                if (isUndoOrRedo) {
+                    // undo and redo work on whole commands, so the batch so far must be committed first
+                    model.commit();
+                }
+                try {
+                    logic.execute(commandText);
+                } catch (CommandException ce) {
+                    failedCount++;
+                    errors.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, commandText, ce.getMessage()));
+                } finally {
+                    if (isUndoOrRedo) {
+                        model.beginBatch();
+                    }
+                }
+                commandCount++;
+
+                commandsSinceCheckpoint++;
+                if (commandsSinceCheckpoint == checkpointInterval) {
+                    commitAndSave();
+                    model.beginBatch();
+                    saveCount++;
+                    commandsSinceCheckpoint = 0;
+                }
+            }
+        } finally {
+            // there is no batch if committing or saving failed at a checkpoint, and that failure is then thrown
+            if (model.isInBatch()) {
+                commitAndSave();
+                saveCount++;
+            }
+        }
+
+        return new RunSummary(commandCount, failedCount, saveCount, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Commits the batch of changes made so far and writes them to the task list file.
+     */
+    private void commitAndSave() throws IOException {
+        model.commit();
+        storage.flushTaskList();
+    }
+
+    /**
+     * The number of commands run by {@link #run(Reader)} and how long they took.
+     */
+    public static class RunSummary {
+        private final int commandCount;
+        private final int failedCount;
+        private final int saveCount;
+        private final long elapsedNanos;
+
+        RunSummary(int commandCount, int failedCount, int saveCount, long elapsedNanos) {
+            this.commandCount = commandCount;
+            this.failedCount = failedCount;
+            this.saveCount = saveCount;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getCommandCount() {
+            return commandCount;
+        }
+
+        public int getFailedCount() {
+            return failedCount;
+        }
+
+        public int getSaveCount() {
+            return saveCount;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public double getCommandsPerSecond() {
+            return elapsedNanos == 0 ? 0 : commandCount * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Ran %d commands (%d failed) in %d ms, %.1f commands/s, saved %d times",
+                    commandCount, failedCount, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    getCommandsPerSecond(), saveCount);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        String configFilePath = Config.DEFAULT_CONFIG_FILE;
+        int checkpointInterval = 0;
+        String scriptFilePath = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--config")) {
+                    configFilePath = args[++i];
+                } else if (args[i].equals("--checkpoint")) {
+                    checkpointInterval = Integer.parseInt(args[++i]);
+                } else if (scriptFilePath == null && !args[i].startsWith("--")) {
+                    scriptFilePath = args[i];
+                } else {
+                    throw new IllegalArgumentException("Unexpected argument " + args[i]);
+                }
+            }
+            if (checkpointInterval < 0) {
+                throw new IllegalArgumentException("Negative checkpoint interval " + checkpointInterval);
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(EXIT_STATUS_INVALID_USAGE);
+        }
+
+        Config config = readConfig(configFilePath);
+        LogsCenter.init(config);
+        Storage storage = new StorageManager(config.getTaskListFilePath(), config.getUserPrefsFilePath(),
+                Math.max(0, config.getTaskListSaveDelayInMillis()));
+        Model model = new ModelManager(readTaskList(storage), readUserPrefs(storage));
+        Logic logic = new LogicManager(model, storage);
+
+        HeadlessRunner runner = new HeadlessRunner(logic, model, storage, checkpointInterval, System.err);
+        RunSummary summary;
+        try (Reader script = scriptFilePath == null
+                ? new InputStreamReader(System.in, StandardCharsets.UTF_8)
+                : Files.newBufferedReader(Paths.get(scriptFilePath), StandardCharsets.UTF_8)) {
+            summary = runner.run(script);
+        }
+        logger.info(summary.toString());
+        System.out.println(summary);
+        try {
+            MetricsCenter.getInstance().saveSnapshot(config.getMetricsFilePath());
+        } catch (IOException e) {
+            logger.warning("Failed to save metrics " + StringUtil.getDetails(e));
+        }
+        LogsCenter.flush();
+        System.exit(summary.getFailedCount() > 0 ? EXIT_STATUS_COMMAND_FAILED : 0);
+    }
+
+    private static Config readConfig(String configFilePath) {
+        try {
+            return ConfigUtil.readConfig(configFilePath).orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePath + " is not in the correct format. "
+                    + "Using default config properties");
+            return new Config();
+        }
+    }
+
+    private static ReadOnlyTaskList readTaskList(Storage storage) throws IOException {
+        try {
+            Optional<ReadOnlyTaskList> taskListOptional = storage.readTaskList();
+            if (!taskListOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with an empty TaskList");
+            }
+            return taskListOptional.orElseGet(TaskList::new);
+        } catch (DataConversionException e) {
+            // unlike the app, a script must not overwrite a data file that it could not read
+            throw new IOException("Data file not in the correct format", e);
+        }
+    }
+
+    private static UserPrefs readUserPrefs(Storage storage) {
+        try {
+            return storage.readUserPrefs().orElse(new UserPrefs());
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Problem while reading user prefs. Using default user prefs");
+            return new UserPrefs();
+        }
+    }
+}
@@ -1,8 +1,15 @@
 package onlythree.imanager;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -13,6 +20,7 @@ import javafx.stage.Stage;
 import onlythree.imanager.commons.core.Config;
 import onlythree.imanager.commons.core.EventsCenter;
 import onlythree.imanager.commons.core.LogsCenter;
+import onlythree.imanager.commons.core.MetricsCenter;
 import onlythree.imanager.commons.core.Version;
 import onlythree.imanager.commons.events.ui.ExitAppRequestEvent;
 import onlythree.imanager.commons.exceptions.DataConversionException;
@@ -39,36 +47,115 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 0, 0, true);
 
+    private static final int STARTUP_THREAD_COUNT = 3;
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
     protected UserPrefs userPrefs;
-
+    /** Completes once the task list read from storage has been put into the model. */
+    protected CompletableFuture<Void> taskListShown;
+    private final CompletableFuture<Void> windowShown = new CompletableFuture<>();
+    private long startupStartNanos;
+    private final Map<String, Long> startupPhaseMillis = Collections.synchronizedMap(new LinkedHashMap<>());
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing iManager ]===========================");
-        // Initialize Natty first as it requires some startup time, so the user don't receive delay in adding tasks
-        DateTimeUtil.initializeNatty();
-
         super.init();
-
-        config = initConfig(getApplicationParameter("config"));
-        storage = new StorageManager(config.getTaskListFilePath(), config.getUserPrefsFilePath());
-
-        userPrefs = initPrefs(config);
+        startupStartNanos = System.nanoTime();
+
+        // The startup steps run as a graph on a few threads: Natty warm-up, which takes some time but is only
+        // needed by the first command with a date, runs alongside reading the config, user prefs and task list.
+        // The window is shown once the config and user prefs are ready, and the tasks are added to it once the
+        // task list has been read.
+        ExecutorService startupExecutor = Executors.newFixedThreadPool(STARTUP_THREAD_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "Startup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletableFuture<Void> nattyReady = CompletableFuture.runAsync(
+                timed("Natty warm-up", DateTimeUtil::initializeNatty), startupExecutor);
+        CompletableFuture<Config> configReady = CompletableFuture.supplyAsync(
+                timed("config", () -> initConfig(getApplicationParameter("config"))), startupExecutor);
+        CompletableFuture<Storage> storageReady = configReady.thenApply(this::initStorage);
+        CompletableFuture<UserPrefs> prefsReady = storageReady.thenApplyAsync(unused -> {
+            return timed("user prefs", () -> initPrefs(config)).get();
+        }, startupExecutor);
+        CompletableFuture<ReadOnlyTaskList> taskListReady = storageReady.thenApplyAsync(readyStorage -> {
+            return timed("task list", () -> readInitialData(readyStorage)).get();
+        }, startupExecutor);
+        CompletableFuture.allOf(nattyReady, prefsReady, taskListReady)
+                .whenComplete((unused, e) -> startupExecutor.shutdown());
+
+        userPrefs = prefsReady.join();
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        model = new ModelManager(userPrefs);
 
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic, config, userPrefs);
 
         initEventsCenter();
+
+        taskListShown = new CompletableFuture<>();
+        taskListReady.thenAccept(initialData -> Platform.runLater(() -> showInitialData(initialData)));
+        taskListShown.runAfterBoth(windowShown, this::logTimeToInteractive);
+    }
+
+    /**
+     * Returns {@code step} wrapped to record the time it takes as the startup phase {@code phase}.
+     */
+    private <T> Supplier<T> timed(String phase, Supplier<T> step) {
+        return () -> {
+            long startNanos = System.nanoTime();
+            try {
+                return step.get();
+            } finally {
+                recordStartupPhase(phase, startNanos);
+            }
+        };
+    }
+
+    private Runnable timed(String phase, Runnable step) {
+        Supplier<Void> timedStep = timed(phase, () -> {
+            step.run();
+            return null;
+        });
+        return timedStep::get;
+    }
+
+    private void recordStartupPhase(String phase, long startNanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        startupPhaseMillis.put(phase, millis);
+        logger.info("Startup phase " + phase + " took " + millis + "ms");
+    }
+
+    private Storage initStorage(Config config) {
+        this.config = config;
+        storage = new StorageManager(config.getTaskListFilePath(), config.getUserPrefsFilePath(),
+                Math.max(0, config.getTaskListSaveDelayInMillis()));
+        return storage;
+    }
+
+    /**
+     * Puts the task list read from storage into the model. Must be called on the JavaFX application thread, as
+     * the task list panels show the tasks as they are added.
+     */
+    private void showInitialData(ReadOnlyTaskList initialData) {
+        long startNanos = System.nanoTime();
+        model.setInitialData(initialData);
+        recordStartupPhase("showing tasks", startNanos);
+        taskListShown.complete(null);
+    }
+
+    private void logTimeToInteractive() {
+        logger.info("iManager interactive " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startupStartNanos)
+                + "ms after starting to initialize, startup phases: " + startupPhaseMillis);
     }
 
     private String getApplicationParameter(String parameterName) {
@@ -76,7 +163,7 @@ public class MainApp extends Application {
         return applicationParameters.get(parameterName);
     }
 
-    private Model initModelManager(Storage storage, UserPrefs userPrefs) {
+    private ReadOnlyTaskList readInitialData(Storage storage) {
         Optional<ReadOnlyTaskList> taskListOptional;
         ReadOnlyTaskList initialData;
         try {
@@ -93,7 +180,7 @@ public class MainApp extends Application {
             initialData = new TaskList();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
     }
 
     private void initLogging(Config config) {
@@ -167,7 +254,10 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting iManager " + MainApp.VERSION);
+        long startNanos = System.nanoTime();
         ui.start(primaryStage);
+        recordStartupPhase("showing window", startNanos);
+        windowShown.complete(null);
     }
 
     @Override
@@ -179,13 +269,24 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flushTaskList();
+        } catch (IOException e) {
+            logger.severe("Failed to save task list " + StringUtil.getDetails(e));
+        }
+        try {
+            MetricsCenter.getInstance().saveSnapshot(config.getMetricsFilePath());
+        } catch (IOException e) {
+            logger.warning("Failed to save metrics " + StringUtil.getDetails(e));
+        }
         Platform.exit();
+        LogsCenter.flush();
         System.exit(0);
     }
 
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         this.stop();
     }
 
@@ -0,0 +1,251 @@
+package onlythree.imanager.commons.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@link Handler} that publishes log records to its target handlers on a background thread, so that the
+ * threads that log (e.g. the JavaFX application thread) never wait for the console or a log file.
+ *
+ * Records wait in a ring buffer of fixed capacity. What happens to a record logged while the buffer is full
+ * is decided by the {@link OverflowPolicy}; dropped records are counted and reported in a warning once the
+ * buffer has room again.
+ */
+public class AsyncLogHandler extends Handler {
+
+    /**
+     * What to do with a record that is logged while the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Discards the record, so that logging never waits. */
+        DROP,
+        /** Waits until the background thread has made room for the record, so that no record is lost. */
+        BLOCK
+    }
+
+    public static final String MESSAGE_RECORDS_DROPPED = "Dropped %1$d log records as the log buffer was full";
+
+    private static final long CLOSE_TIMEOUT_IN_MILLIS = 1000;
+
+    private final List<Handler> targets;
+    private final Thread drainThread;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Condition drained = lock.newCondition();
+
+    // the ring buffer, holding size records from index head onwards; guarded by lock
+    private LogRecord[] buffer;
+    private int head;
+    private int size;
+    private boolean isDraining;
+    private boolean isClosed;
+    private long droppedCount;
+    private long unreportedDroppedCount;
+    private volatile OverflowPolicy overflowPolicy;
+
+    /**
+     * @param capacity the number of records that can wait to be published
+     * @param targets the handlers that the records are published to, in order
+     */
+    public AsyncLogHandler(int capacity, OverflowPolicy overflowPolicy, Handler... targets) {
+        assert capacity > 0;
+        assert overflowPolicy != null;
+        this.buffer = new LogRecord[capacity];
+        this.overflowPolicy = overflowPolicy;
+        this.targets = new ArrayList<>(Arrays.asList(targets));
+
+        drainThread = new Thread(this::drain, "LogsCenter-drain");
+        drainThread.setDaemon(true);
+        drainThread.start();
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        assert overflowPolicy != null;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Returns the number of records that can wait to be published.
+     */
+    public int getCapacity() {
+        lock.lock();
+        try {
+            return buffer.length;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Changes the number of records that can wait to be published, keeping the records already waiting.
+     * If more records than {@code capacity} are waiting, the oldest records are kept and the rest are dropped.
+     */
+    public void setCapacity(int capacity) {
+        assert capacity > 0;
+        lock.lock();
+        try {
+            LogRecord[] newBuffer = new LogRecord[capacity];
+            int keptCount = Math.min(size, capacity);
+            for (int i = 0; i < keptCount; i++) {
+                newBuffer[i] = buffer[(head + i) % buffer.length];
+            }
+            recordDropped(size - keptCount);
+            buffer = newBuffer;
+            head = 0;
+            size = keptCount;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of records dropped so far because the buffer was full.
+     */
+    public long getDroppedCount() {
+        lock.lock();
+        try {
+            return droppedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        // the source of a record is only found from the stack of the thread that logged it
+        record.getSourceClassName();
+
+        lock.lock();
+        try {
+            while (!isClosed && size == buffer.length && overflowPolicy == OverflowPolicy.BLOCK) {
+                notFull.awaitUninterruptibly();
+            }
+            if (isClosed) {
+                return;
+            }
+            if (size == buffer.length) {
+                recordDropped(1);
+                return;
+            }
+            buffer[(head + size) % buffer.length] = record;
+            size++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until every record logged so far has been published, then flushes the target handlers.
+     */
+    @Override
+    public void flush() {
+        lock.lock();
+        try {
+            while (!isClosed && (size > 0 || isDraining)) {
+                drained.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+        targets.forEach(Handler::flush);
+    }
+
+    /**
+     * Publishes the records that are waiting, then closes the target handlers.
+     * Records logged after this are discarded.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            isClosed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+            drained.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            drainThread.join(CLOSE_TIMEOUT_IN_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        targets.forEach(Handler::close);
+    }
+
+    private void recordDropped(long count) {
+        droppedCount += count;
+        unreportedDroppedCount += count;
+    }
+
+    /**
+     * Publishes records to the targets as they are logged, until this handler is closed and the buffer is empty.
+     */
+    private void drain() {
+        List<LogRecord> records = new ArrayList<>();
+        while (true) {
+            long dropped;
+            lock.lock();
+            try {
+                isDraining = false;
+                drained.signalAll();
+                while (!isClosed && size == 0) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (isClosed && size == 0) {
+                    return;
+                }
+                // takes every waiting record at once, so that loggers wait for the lock as little as possible
+                while (size > 0) {
+                    records.add(buffer[head]);
+                    buffer[head] = null;
+                    head = (head + 1) % buffer.length;
+                    size--;
+                }
+                dropped = unreportedDroppedCount;
+                unreportedDroppedCount = 0;
+                isDraining = true;
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            records.forEach(this::publishToTargets);
+            records.clear();
+            if (dropped > 0) {
+                LogRecord warning = new LogRecord(Level.WARNING, String.format(MESSAGE_RECORDS_DROPPED, dropped));
+                warning.setLoggerName(AsyncLogHandler.class.getSimpleName());
+                publishToTargets(warning);
+            }
+            targets.forEach(Handler::flush);
+        }
+    }
+
+    private void publishToTargets(LogRecord record) {
+        for (Handler target : targets) {
+            try {
+                target.publish(record);
+            } catch (RuntimeException e) {
+                reportError("Failed to publish log record", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+}
@@ -13,9 +13,13 @@ public class Config {
     // Config values customizable through config file
     private String appTitle = "iManager";
     private Level logLevel = Level.INFO;
+    private int logBufferCapacity = 1024;
+    private AsyncLogHandler.OverflowPolicy logOverflowPolicy = AsyncLogHandler.OverflowPolicy.DROP;
     private String userPrefsFilePath = "preferences.json";
     private String taskListFilePath = "data/tasklist.xml";
     private String taskListName = "MyTaskList";
+    private long taskListSaveDelayInMillis = 200;
+    private String metricsFilePath = "data/metrics.json";
 
 
     public String getAppTitle() {
@@ -34,6 +38,28 @@ public class Config {
         this.logLevel = logLevel;
     }
 
+    /**
+     * Returns the number of log messages that can wait to be written out by the background logging thread.
+     */
+    public int getLogBufferCapacity() {
+        return logBufferCapacity;
+    }
+
+    public void setLogBufferCapacity(int logBufferCapacity) {
+        this.logBufferCapacity = logBufferCapacity;
+    }
+
+    /**
+     * Returns what happens to a log message when too many are already waiting to be written out.
+     */
+    public AsyncLogHandler.OverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(AsyncLogHandler.OverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
     public String getUserPrefsFilePath() {
         return userPrefsFilePath;
     }
@@ -58,6 +84,29 @@ public class Config {
         this.taskListName = taskListName;
     }
 
+    /**
+     * Returns the time in milliseconds that a change to the task list waits for further changes to be
+     * saved together with.
+     */
+    public long getTaskListSaveDelayInMillis() {
+        return taskListSaveDelayInMillis;
+    }
+
+    public void setTaskListSaveDelayInMillis(long taskListSaveDelayInMillis) {
+        this.taskListSaveDelayInMillis = taskListSaveDelayInMillis;
+    }
+
+    /**
+     * Returns the path of the file that the performance metrics are written to when the app exits.
+     */
+    public String getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(String metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
 
     @Override
     public boolean equals(Object other) {
@@ -72,14 +121,19 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
+                && logBufferCapacity == o.logBufferCapacity
+                && Objects.equals(logOverflowPolicy, o.logOverflowPolicy)
                 && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
                 && Objects.equals(taskListFilePath, o.taskListFilePath)
-                && Objects.equals(taskListName, o.taskListName);
+                && Objects.equals(taskListName, o.taskListName)
+                && taskListSaveDelayInMillis == o.taskListSaveDelayInMillis
+                && Objects.equals(metricsFilePath, o.metricsFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath, taskListFilePath, taskListName);
+        return Objects.hash(appTitle, logLevel, logBufferCapacity, logOverflowPolicy, userPrefsFilePath,
+                taskListFilePath, taskListName, taskListSaveDelayInMillis, metricsFilePath);
     }
 
     @Override
@@ -87,9 +141,12 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("App title : " + appTitle);
         sb.append("\nCurrent log level : " + logLevel);
+        sb.append("\nLog buffer : " + logBufferCapacity + " messages, " + logOverflowPolicy + " when full");
         sb.append("\nPreference file Location : " + userPrefsFilePath);
         sb.append("\nLocal data file location : " + taskListFilePath);
         sb.append("\nTaskList name : " + taskListName);
+        sb.append("\nTaskList save delay : " + taskListSaveDelayInMillis + "ms");
+        sb.append("\nMetrics file location : " + metricsFilePath);
         return sb.toString();
     }
 
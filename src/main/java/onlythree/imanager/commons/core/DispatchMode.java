@@ -0,0 +1,17 @@
+package onlythree.imanager.commons.core;
+
+/**
+ * The thread that an event handler is run on by the {@link EventsCenter}, as declared with {@link DispatchOn}.
+ */
+public enum DispatchMode {
+    /** Runs the handler on the thread that posted the event, before {@code post} returns. */
+    CALLER,
+    /**
+     * Runs the handler on the JavaFX application thread, for handlers that change the UI. The handler is run
+     * straight away if the event is posted on the JavaFX thread, and on the posting thread if JavaFX has not
+     * been started, e.g. in tests.
+     */
+    FX_THREAD,
+    /** Runs the handler on a shared pool of background threads, for handlers that may be slow. */
+    BACKGROUND
+}
@@ -0,0 +1,19 @@
+package onlythree.imanager.commons.core;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the thread that an event handler, i.e. a method annotated with
+ * {@link com.google.common.eventbus.Subscribe}, is run on. Handlers without it are run with
+ * {@link DispatchMode#CALLER}.
+ *
+ * Whatever the mode, the handlers of an object that share a mode receive events in the order they were posted.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface DispatchOn {
+    DispatchMode value();
+}
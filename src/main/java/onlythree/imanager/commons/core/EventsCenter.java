@@ -1,18 +1,49 @@
 package onlythree.imanager.commons.core;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
 
+import javafx.application.Platform;
 import onlythree.imanager.commons.events.BaseEvent;
 
 /**
  * Manages the event dispatching of the app.
+ *
+ * Handlers are the methods annotated with {@link Subscribe} of the objects registered with
+ * {@link #registerHandler(Object)}, and receive every posted event that is an instance of their parameter type.
+ * Each handler is run on the thread declared with {@link DispatchOn}. Events posted by a handler run on the
+ * posting thread are delivered after the event being handled has been delivered to every handler.
  */
 public class EventsCenter {
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
-    private final EventBus eventBus;
+    private static final int BACKGROUND_THREAD_COUNT = 2;
     private static EventsCenter instance;
+    private static ExecutorService backgroundPool;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    // the events posted on each thread that are waiting to be delivered, in the order they were posted
+    private final ThreadLocal<Queue<Delivery>> pendingDeliveries = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<Boolean> isDelivering = ThreadLocal.withInitial(() -> false);
+    // the time each thread has spent posting events, not counting events posted by the handlers of other events
+    private final ThreadLocal<DispatchTime> dispatchTime = ThreadLocal.withInitial(DispatchTime::new);
 
     public static EventsCenter getInstance() {
         if (instance == null) {
@@ -26,21 +57,273 @@ public class EventsCenter {
     }
 
     private EventsCenter() {
-        eventBus = new EventBus();
     }
 
+    /**
+     * Registers every method of {@code handler} annotated with {@link Subscribe}, including private and
+     * inherited ones. Registering the same handler again has no effect.
+     */
     public EventsCenter registerHandler(Object handler) {
-        eventBus.register(handler);
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.target == handler) {
+                return this;
+            }
+        }
+
+        Map<DispatchMode, SerialQueue> queues = new EnumMap<>(DispatchMode.class);
+        Set<String> overriddenMethods = new HashSet<>();
+        for (Class<?> clazz = handler.getClass(); clazz != null; clazz = clazz.getSuperclass()) {
+            for (Method method : clazz.getDeclaredMethods()) {
+                if (!method.isAnnotationPresent(Subscribe.class) || method.isSynthetic()) {
+                    continue;
+                }
+                assert method.getParameterCount() == 1 : method + " must have exactly one parameter";
+                if (!overriddenMethods.add(method.getName() + method.getParameterTypes()[0].getName())) {
+                    continue;
+                }
+                DispatchOn dispatchOn = method.getAnnotation(DispatchOn.class);
+                DispatchMode mode = dispatchOn == null ? DispatchMode.CALLER : dispatchOn.value();
+                method.setAccessible(true);
+                subscribers.add(new Subscriber(handler, method, mode,
+                        mode == DispatchMode.CALLER ? null : queues.computeIfAbsent(mode, EventsCenter::createQueue)));
+            }
+        }
         return this;
     }
 
     /**
-     * Posts an event to the event bus.
+     * Posts an event to the handlers of its type.
+     * The time taken by the handlers run on this thread is recorded in the {@link MetricsCenter} histogram
+     * {@code event.<event class>.dispatch}, in nanoseconds.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
-        logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        logger.info(() -> "------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
+        DispatchTime time = dispatchTime.get();
+        long startNanos = System.nanoTime();
+        time.depth++;
+        try {
+            List<Subscriber> receivers = new ArrayList<>();
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.eventType.isInstance(event)) {
+                    receivers.add(subscriber);
+                }
+            }
+            pendingDeliveries.get().add(new Delivery(event, receivers, startNanos));
+            deliverPendingEvents();
+        } finally {
+            time.depth--;
+            long elapsedNanos = System.nanoTime() - startNanos;
+            if (time.depth == 0) {
+                time.totalNanos += elapsedNanos;
+            }
+            MetricsCenter.getInstance().getHistogram("event." + event.getClass().getSimpleName() + ".dispatch")
+                    .record(elapsedNanos);
+        }
         return this;
     }
 
+    /**
+     * Returns the total time in nanoseconds that the current thread has spent posting events so far.
+     * Only differences between two calls on the same thread are meaningful.
+     */
+    public long getDispatchNanosOfCurrentThread() {
+        return dispatchTime.get().totalNanos;
+    }
+
+    /**
+     * Delivers the events posted on this thread, unless they are already being delivered further up the stack.
+     */
+    private void deliverPendingEvents() {
+        if (isDelivering.get()) {
+            return;
+        }
+        isDelivering.set(true);
+        try {
+            Queue<Delivery> deliveries = pendingDeliveries.get();
+            Delivery delivery;
+            while ((delivery = deliveries.poll()) != null) {
+                for (Subscriber subscriber : delivery.receivers) {
+                    subscriber.dispatch(delivery.event, delivery.postedNanos);
+                }
+            }
+        } finally {
+            isDelivering.set(false);
+        }
+    }
+
+    private static SerialQueue createQueue(DispatchMode mode) {
+        switch (mode) {
+        case FX_THREAD:
+            return new SerialQueue(EventsCenter::runOnFxThread, Platform::isFxApplicationThread);
+        case BACKGROUND:
+            return new SerialQueue(getBackgroundPool(), () -> false);
+        default:
+            throw new AssertionError("Handlers run on the caller have no queue");
+        }
+    }
+
+    /**
+     * Runs {@code task} on the JavaFX application thread, or straight away if JavaFX has not been started.
+     */
+    private static void runOnFxThread(Runnable task) {
+        try {
+            Platform.runLater(task);
+        } catch (IllegalStateException e) {
+            task.run();
+        }
+    }
+
+    private static synchronized ExecutorService getBackgroundPool() {
+        if (backgroundPool == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            backgroundPool = Executors.newFixedThreadPool(BACKGROUND_THREAD_COUNT, runnable -> {
+                Thread thread = new Thread(runnable, "EventsCenter-background-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return backgroundPool;
+    }
+
+    /**
+     * A handler method of a registered object.
+     * Its metrics are recorded in the {@link MetricsCenter} histograms {@code subscriber.<class>.<method>.*}:
+     * {@code handle} is the time taken by the method and, for handlers that are not run on the caller,
+     * {@code wait} is the time an event waited to be handled and {@code queueDepth} the number of events
+     * waiting when it was posted.
+     */
+    private static class Subscriber {
+        private final Object target;
+        private final Method method;
+        private final Class<?> eventType;
+        private final DispatchMode mode;
+        private final SerialQueue queue;
+        private final String metricsPrefix;
+
+        Subscriber(Object target, Method method, DispatchMode mode, SerialQueue queue) {
+            this.target = target;
+            this.method = method;
+            this.eventType = method.getParameterTypes()[0];
+            this.mode = mode;
+            this.queue = queue;
+            String className = target.getClass().getSimpleName().isEmpty() // e.g. for an anonymous class
+                    ? target.getClass().getName() : target.getClass().getSimpleName();
+            this.metricsPrefix = "subscriber." + className + "." + method.getName() + ".";
+        }
+
+        void dispatch(BaseEvent event, long postedNanos) {
+            if (mode == DispatchMode.CALLER) {
+                invoke(event);
+                return;
+            }
+            MetricsCenter metrics = MetricsCenter.getInstance();
+            int queueDepth = queue.submit(() -> {
+                metrics.getHistogram(metricsPrefix + "wait").record(System.nanoTime() - postedNanos);
+                invoke(event);
+            });
+            metrics.getHistogram(metricsPrefix + "queueDepth").record(queueDepth);
+        }
+
+        private synchronized void invoke(BaseEvent event) {
+            long startNanos = System.nanoTime();
+            try {
+                method.invoke(target, event);
+            } catch (InvocationTargetException e) {
+                // like a failed event handler of Guava's EventBus, the failure does not stop other handlers
+                logger.log(Level.SEVERE, "Exception thrown by event handler " + method, e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new AssertionError("Event handlers are made accessible when registered", e);
+            } finally {
+                MetricsCenter.getInstance().getHistogram(metricsPrefix + "handle")
+                        .record(System.nanoTime() - startNanos);
+            }
+        }
+    }
+
+    /**
+     * Runs tasks one at a time in the order they were submitted, using an executor that may run them on
+     * any thread.
+     */
+    private static class SerialQueue {
+        private final Executor executor;
+        private final BooleanSupplier canRunOnCurrentThread;
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private boolean isRunning;
+
+        /**
+         * @param canRunOnCurrentThread whether a task may be run straight away on the submitting thread when no
+         *     other task is waiting
+         */
+        SerialQueue(Executor executor, BooleanSupplier canRunOnCurrentThread) {
+            this.executor = executor;
+            this.canRunOnCurrentThread = canRunOnCurrentThread;
+        }
+
+        /**
+         * Submits {@code task} to be run after the tasks submitted before it.
+         * Returns the number of tasks waiting to be run, including {@code task}.
+         */
+        int submit(Runnable task) {
+            int depth;
+            boolean shouldStart;
+            synchronized (this) {
+                tasks.add(task);
+                depth = tasks.size();
+                shouldStart = !isRunning;
+                isRunning = true;
+            }
+            if (shouldStart) {
+                if (canRunOnCurrentThread.getAsBoolean()) {
+                    runNext();
+                } else {
+                    executor.execute(this::runNext);
+                }
+            }
+            return depth;
+        }
+
+        /**
+         * Runs the next task, then has the executor run the task after it, so that the tasks of one queue do
+         * not hold up the other work of the executor's threads.
+         */
+        private void runNext() {
+            Runnable task;
+            synchronized (this) {
+                task = tasks.poll();
+            }
+            try {
+                task.run();
+            } finally {
+                boolean hasMoreTasks;
+                synchronized (this) {
+                    hasMoreTasks = !tasks.isEmpty();
+                    isRunning = hasMoreTasks;
+                }
+                if (hasMoreTasks) {
+                    executor.execute(this::runNext);
+                }
+            }
+        }
+    }
+
+    /**
+     * An event posted on a thread and the handlers it is to be delivered to.
+     */
+    private static class Delivery {
+        private final BaseEvent event;
+        private final List<Subscriber> receivers;
+        private final long postedNanos;
+
+        Delivery(BaseEvent event, List<Subscriber> receivers, long postedNanos) {
+            this.event = event;
+            this.receivers = receivers;
+            this.postedNanos = postedNanos;
+        }
+    }
+
+    private static class DispatchTime {
+        private long totalNanos;
+        private int depth;
+    }
+
 }
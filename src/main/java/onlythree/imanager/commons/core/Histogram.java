@@ -0,0 +1,91 @@
+package onlythree.imanager.commons.core;
+
+/**
+ * A thread safe histogram of non-negative values, such as latencies in nanoseconds or allocated bytes.
+ *
+ * Values are counted in buckets that split each power of two into {@value #SUB_BUCKET_COUNT} equal parts, so that
+ * a histogram takes the same small amount of memory however many values are recorded. A percentile is returned as
+ * the largest value its bucket can hold, which is at most 12.5% more than the actual value.
+ */
+public class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = bucketIndexOf(Long.MAX_VALUE) + 1;
+
+    private final long[] bucketCounts = new long[BUCKET_COUNT];
+    private long count;
+    private long sum;
+    private long max;
+
+    /**
+     * Records {@code value}, which must not be negative.
+     */
+    public synchronized void record(long value) {
+        assert value >= 0;
+        bucketCounts[bucketIndexOf(value)]++;
+        count++;
+        sum += value;
+        max = Math.max(max, value);
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the mean of the recorded values, or 0 if there are none.
+     */
+    public synchronized double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Returns a value that at least {@code percentile} percent of the recorded values are not more than,
+     * or 0 if there are none.
+     */
+    public synchronized long getPercentile(double percentile) {
+        assert percentile >= 0 && percentile <= 100;
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += bucketCounts[i];
+            if (seen >= rank) {
+                return Math.min(largestValueOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the index of the bucket that {@code value} is counted in.
+     */
+    static int bucketIndexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the largest value counted in the bucket at {@code index}.
+     */
+    static long largestValueOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKET_COUNT;
+        long bucketWidth = 1L << (exponent - SUB_BUCKET_BITS);
+        return ((SUB_BUCKET_COUNT + subBucket) << (exponent - SUB_BUCKET_BITS)) + bucketWidth - 1;
+    }
+}
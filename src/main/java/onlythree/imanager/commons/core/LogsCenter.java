@@ -5,6 +5,7 @@ import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
 import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
@@ -16,6 +17,10 @@ import onlythree.imanager.commons.events.BaseEvent;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written by an {@link AsyncLogHandler} on a background thread, so logging never waits for the
+ *   console or the file. Build expensive messages with a {@code Supplier}, e.g. {@code logger.fine(() -> ...)},
+ *   so that they are only built if the logger's level allows them. Call {@link #flush()} before exiting, so that
+ *   the last messages are not lost; messages still waiting when the JVM shuts down are written by a shutdown hook.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
@@ -25,6 +30,7 @@ public class LogsCenter {
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
     private static FileHandler fileHandler;
     private static ConsoleHandler consoleHandler;
+    private static AsyncLogHandler asyncHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
@@ -34,19 +40,33 @@ public class LogsCenter {
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
+        if (asyncHandler != null) {
+            asyncHandler.setCapacity(config.getLogBufferCapacity());
+            asyncHandler.setOverflowPolicy(config.getLogOverflowPolicy());
+        }
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
+    /**
+     * Waits until every message logged so far has been written out.
+     */
+    public static void flush() {
+        if (asyncHandler != null) {
+            asyncHandler.flush();
+        }
+    }
+
     /**
      * Creates a logger with the given name the given name.
      */
     public static Logger getLogger(String name) {
         Logger logger = Logger.getLogger(name);
         logger.setUseParentHandlers(false);
+        // messages below the level are then rejected by the logger, before their suppliers are called
+        logger.setLevel(currentLogLevel);
 
         removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
+        addAsyncHandler(logger);
 
         return Logger.getLogger(name);
     }
@@ -59,9 +79,13 @@ public class LogsCenter {
         return getLogger(clazz.getSimpleName());
     }
 
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) consoleHandler = createConsoleHandler();
-        logger.addHandler(consoleHandler);
+    private static void addAsyncHandler(Logger logger) {
+        if (asyncHandler == null) {
+            asyncHandler = createAsyncHandler();
+            // the background thread is a daemon, so it would otherwise be stopped with messages still waiting
+            Runtime.getRuntime().addShutdownHook(new Thread(asyncHandler::close, "LogsCenter-shutdown"));
+        }
+        logger.addHandler(asyncHandler);
     }
 
     private static void removeHandlers(Logger logger) {
@@ -71,13 +95,18 @@ public class LogsCenter {
         }
     }
 
-    private static void addFileHandler(Logger logger) {
+    private static AsyncLogHandler createAsyncHandler() {
+        Config defaults = new Config();
+        consoleHandler = createConsoleHandler();
         try {
-            if (fileHandler == null) fileHandler = createFileHandler();
-            logger.addHandler(fileHandler);
+            fileHandler = createFileHandler();
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            consoleHandler.publish(new LogRecord(Level.WARNING, "Error adding file handler for logger."));
+            return new AsyncLogHandler(defaults.getLogBufferCapacity(), defaults.getLogOverflowPolicy(),
+                    consoleHandler);
         }
+        return new AsyncLogHandler(defaults.getLogBufferCapacity(), defaults.getLogOverflowPolicy(),
+                consoleHandler, fileHandler);
     }
 
     private static FileHandler createFileHandler() throws IOException {
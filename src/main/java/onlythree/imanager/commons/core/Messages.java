@@ -9,5 +9,6 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_TASK_DISPLAYED_INDEX = "The task index provided is invalid";
     public static final String MESSAGE_TASKS_FOUND_OVERVIEW = "%1$d tasks found!";
+    public static final String MESSAGE_TASK_LIST_LOADING = "Your tasks are still loading, please try again in a moment";
 
 }
@@ -0,0 +1,104 @@
+package onlythree.imanager.commons.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.logging.Logger;
+
+import onlythree.imanager.commons.util.FileUtil;
+import onlythree.imanager.commons.util.JsonUtil;
+
+/**
+ * Keeps the performance metrics of the app, as {@link Histogram}s identified by name, e.g. the latencies of each
+ * phase of every command. Names are dot separated, starting with the component that records them.
+ */
+public class MetricsCenter {
+    private static final Logger logger = LogsCenter.getLogger(MetricsCenter.class);
+    private static final MetricsCenter instance = new MetricsCenter();
+
+    private static final com.sun.management.ThreadMXBean threadBean = getThreadBeanWithAllocatedBytes();
+
+    private final ConcurrentSkipListMap<String, Histogram> histograms = new ConcurrentSkipListMap<>();
+
+    public static MetricsCenter getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns the histogram named {@code name}, creating it if there is none yet.
+     */
+    public Histogram getHistogram(String name) {
+        return histograms.computeIfAbsent(name, unused -> new Histogram());
+    }
+
+    /**
+     * Returns every histogram by name, in the order of their names.
+     */
+    public SortedMap<String, Histogram> getHistograms() {
+        return Collections.unmodifiableSortedMap(histograms);
+    }
+
+    /** Removes every histogram. */
+    public void clear() {
+        histograms.clear();
+    }
+
+    /**
+     * Writes the count, mean, 50th and 99th percentile and maximum of every histogram to the JSON file at
+     * {@code filePath}.
+     */
+    public void saveSnapshot(String filePath) throws IOException {
+        Map<String, HistogramSnapshot> snapshot = new TreeMap<>();
+        histograms.forEach((name, histogram) -> snapshot.put(name, new HistogramSnapshot(histogram)));
+        FileUtil.createParentDirsOfFile(new File(filePath));
+        JsonUtil.saveJsonFile(snapshot, filePath);
+        logger.info("Saved metrics snapshot to " + filePath);
+    }
+
+    /**
+     * Returns the number of bytes allocated on the heap by the current thread so far, or -1 if the JVM cannot
+     * tell. Only differences between two calls on the same thread are meaningful.
+     */
+    public static long getAllocatedBytesOfCurrentThread() {
+        if (threadBean == null) {
+            return -1;
+        }
+        return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadBeanWithAllocatedBytes() {
+        java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        if (!allocationBean.isThreadAllocatedMemorySupported() || !allocationBean.isThreadAllocatedMemoryEnabled()) {
+            return null;
+        }
+        return allocationBean;
+    }
+
+    /**
+     * The summary of a histogram written to the snapshot file.
+     */
+    private static class HistogramSnapshot {
+        private final long count;
+        private final double mean;
+        private final long p50;
+        private final long p99;
+        private final long max;
+
+        HistogramSnapshot(Histogram histogram) {
+            count = histogram.getCount();
+            mean = histogram.getMean();
+            p50 = histogram.getPercentile(50);
+            p99 = histogram.getPercentile(99);
+            max = histogram.getMax();
+        }
+    }
+}
@@ -1,19 +1,37 @@
 package onlythree.imanager.commons.events.model;
 
+import java.util.Collections;
+import java.util.List;
+
 import onlythree.imanager.commons.events.BaseEvent;
 import onlythree.imanager.model.ReadOnlyTaskList;
+import onlythree.imanager.model.history.TaskListChange;
 
 /** Indicates the TaskList in the model has changed*/
 public class TaskListChangedEvent extends BaseEvent {
 
     public final ReadOnlyTaskList data;
 
+    /**
+     * The changes made to the TaskList since the previous event, in order.
+     * Empty if the changes are not known, in which case the whole of {@link #data} should be treated as changed.
+     */
+    public final List<TaskListChange> changes;
+
     public TaskListChangedEvent(ReadOnlyTaskList data) {
+        this(data, Collections.emptyList());
+    }
+
+    public TaskListChangedEvent(ReadOnlyTaskList data, List<TaskListChange> changes) {
+        assert changes != null;
         this.data = data;
+        this.changes = Collections.unmodifiableList(changes);
     }
 
     @Override
     public String toString() {
-        return "number of tasks " + data.getTaskList().size() + ", number of tags " + data.getTagList().size();
+        return "number of tasks " + data.getTaskList().size() + ", number of tags " + data.getTagList().size()
+                + ", number of changes " + changes.size()
+                + (changes.isEmpty() ? "" : " (" + TaskListChange.summarize(changes) + ")");
     }
 }
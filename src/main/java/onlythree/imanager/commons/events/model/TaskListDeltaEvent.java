@@ -0,0 +1,31 @@
+package onlythree.imanager.commons.events.model;
+
+import onlythree.imanager.commons.events.BaseEvent;
+import onlythree.imanager.model.ReadOnlyTaskList;
+import onlythree.imanager.model.history.TaskListDelta;
+
+/**
+ * Indicates which tasks in the TaskList in the model have changed since the previous event, by their ids.
+ * Raised right after each {@link TaskListChangedEvent}, for handlers that only need to look at the changed tasks.
+ */
+public class TaskListDeltaEvent extends BaseEvent {
+
+    public final ReadOnlyTaskList data;
+
+    /**
+     * The net change to each task since the previous event.
+     * If it is a reset, the whole of {@link #data} should be treated as changed.
+     */
+    public final TaskListDelta delta;
+
+    public TaskListDeltaEvent(ReadOnlyTaskList data, TaskListDelta delta) {
+        assert delta != null;
+        this.data = data;
+        this.delta = delta;
+    }
+
+    @Override
+    public String toString() {
+        return "number of tasks " + data.getTaskList().size() + ", " + delta;
+    }
+}
@@ -0,0 +1,221 @@
+package onlythree.imanager.logic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import com.joestelmach.natty.DateGroup;
+import com.joestelmach.natty.Parser;
+
+/**
+ * A bounded least recently used cache of Natty parse results, keyed by the normalized text, the minute of the
+ * reference date-time and the time zone of the parser.
+ *
+ * Natty resolves relative expressions such as "tmr" or "in 3 hours" against the reference date-time, down to
+ * its seconds. So when a result is first parsed, the text is parsed again with another reference in the same
+ * minute to find out whether the result moves with the reference. Such a result is returned shifted by the
+ * difference between the reference it was parsed with and the reference of the lookup, so it is the same as if
+ * it had been parsed again. Results that change with the reference in any other way are not cached.
+ *
+ * Not thread safe, the caller must make sure that only one thread uses the cache and its parser at a time.
+ * The hit and miss counts may be read from any thread.
+ */
+public class DateTimeParseCache {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final long MILLIS_PER_MINUTE = TimeUnit.MINUTES.toMillis(1);
+
+    private final Parser parser;
+    private final String zoneId;
+    private final Map<Key, Entry> entries;
+    // only changed by the thread using the cache, but may be read by others
+    private volatile long hitCount;
+    private volatile long missCount;
+
+    /**
+     * @param parser the parser used for results not in the cache, must use the time zone {@code zoneId}
+     * @param capacity the maximum number of results kept, must be positive
+     */
+    public DateTimeParseCache(Parser parser, String zoneId, int capacity) {
+        assert parser != null && zoneId != null;
+        assert capacity > 0;
+        this.parser = parser;
+        this.zoneId = zoneId;
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the date groups Natty finds in {@code text} relative to {@code reference}.
+     * The returned list and date groups must not be modified.
+     */
+    public List<DateGroup> parse(String text, Date reference) {
+        Key key = new Key(normalize(text), Math.floorDiv(reference.getTime(), MILLIS_PER_MINUTE), zoneId);
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            hitCount++;
+            return entry.resolve(reference.getTime());
+        }
+
+        missCount++;
+        List<DateGroup> dateGroups = parser.parse(text, reference);
+        Entry newEntry = createEntry(text, reference.getTime(), dateGroups);
+        if (newEntry != null) {
+            entries.put(key, newEntry);
+        }
+        return Collections.unmodifiableList(dateGroups);
+    }
+
+    /** Returns the number of lookups that were answered from the cache. */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /** Returns the number of lookups that had to be parsed by Natty. */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /** Removes every cached result and resets the hit and miss counts. */
+    public void clear() {
+        entries.clear();
+        hitCount = 0;
+        missCount = 0;
+    }
+
+    /**
+     * Returns {@code text} in the form used as a key of the cache. Natty ignores case and repeated whitespace.
+     */
+    static String normalize(String text) {
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the entry for {@code dateGroups} parsed from {@code text} relative to {@code reference},
+     * or null if the result cannot be cached.
+     */
+    private Entry createEntry(String text, long reference, List<DateGroup> dateGroups) {
+        long minuteStart = Math.floorDiv(reference, MILLIS_PER_MINUTE) * MILLIS_PER_MINUTE;
+        long probeReference = minuteStart + (reference - minuteStart + MILLIS_PER_MINUTE / 2) % MILLIS_PER_MINUTE;
+        List<DateGroup> probeDateGroups = parser.parse(text, new Date(probeReference));
+
+        if (haveDatesShiftedBy(dateGroups, probeDateGroups, 0)) {
+            return new Entry(dateGroups, reference, false);
+        }
+        if (haveDatesShiftedBy(dateGroups, probeDateGroups, probeReference - reference)) {
+            return new Entry(dateGroups, reference, true);
+        }
+        return null;
+    }
+
+    /**
+     * Returns true if {@code shifted} has the same dates as {@code original}, each moved by {@code millis}.
+     */
+    private static boolean haveDatesShiftedBy(List<DateGroup> original, List<DateGroup> shifted, long millis) {
+        if (original.size() != shifted.size()) {
+            return false;
+        }
+        for (int i = 0; i < original.size(); i++) {
+            List<Date> originalDates = original.get(i).getDates();
+            List<Date> shiftedDates = shifted.get(i).getDates();
+            if (originalDates.size() != shiftedDates.size()) {
+                return false;
+            }
+            for (int j = 0; j < originalDates.size(); j++) {
+                if (shiftedDates.get(j).getTime() - originalDates.get(j).getTime() != millis) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a copy of {@code source} with every date moved by {@code millis}.
+     */
+    private static DateGroup copyWithDatesShiftedBy(DateGroup source, long millis) {
+        DateGroup copy = new DateGroup();
+        for (Date date : source.getDates()) {
+            copy.addDate(new Date(date.getTime() + millis));
+        }
+        copy.setSyntaxTree(source.getSyntaxTree());
+        copy.setDateInferred(source.isDateInferred());
+        copy.setIsTimeInferred(source.isTimeInferred());
+        copy.setRecurring(source.isRecurring());
+        copy.setRecurringUntil(source.getRecursUntil());
+        copy.setText(source.getText());
+        copy.setFullText(source.getFullText());
+        copy.setLine(source.getLine());
+        copy.setPosition(source.getPosition());
+        copy.setParseLocations(source.getParseLocations());
+        return copy;
+    }
+
+    private static class Key {
+        private final String text;
+        private final long referenceMinute;
+        private final String zoneId;
+
+        Key(String text, long referenceMinute, String zoneId) {
+            this.text = text;
+            this.referenceMinute = referenceMinute;
+            this.zoneId = zoneId;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key otherKey = (Key) other;
+            return text.equals(otherKey.text) && referenceMinute == otherKey.referenceMinute
+                    && zoneId.equals(otherKey.zoneId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(text, referenceMinute, zoneId);
+        }
+    }
+
+    private static class Entry {
+        private final List<DateGroup> dateGroups;
+        private final long reference;
+        private final boolean isRelativeToReference;
+
+        Entry(List<DateGroup> dateGroups, long reference, boolean isRelativeToReference) {
+            this.dateGroups = Collections.unmodifiableList(dateGroups);
+            this.reference = reference;
+            this.isRelativeToReference = isRelativeToReference;
+        }
+
+        /**
+         * Returns the date groups as if they had been parsed relative to {@code lookupReference}.
+         */
+        List<DateGroup> resolve(long lookupReference) {
+            if (!isRelativeToReference || lookupReference == reference) {
+                return dateGroups;
+            }
+            List<DateGroup> shifted = new ArrayList<>(dateGroups.size());
+            for (DateGroup dateGroup : dateGroups) {
+                shifted.add(copyWithDatesShiftedBy(dateGroup, lookupReference - reference));
+            }
+            return Collections.unmodifiableList(shifted);
+        }
+    }
+}
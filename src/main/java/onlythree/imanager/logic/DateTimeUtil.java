@@ -2,9 +2,14 @@ package onlythree.imanager.logic;
 
 import java.text.SimpleDateFormat;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.TimeZone;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.antlr.runtime.tree.Tree;
 
@@ -20,7 +25,19 @@ import onlythree.imanager.commons.exceptions.IllegalValueException;
  */
 public class DateTimeUtil {
 
-    private static Parser dateTimeParser = new Parser(TimeZone.getTimeZone(DateTimeFormats.SYSTEM_TIME_ZONE));
+    /**
+     * Natty parsers are not safe for concurrent use, so every thread parses with its own parser and parse cache.
+     * The caches are not kept anywhere else, so the cache of a thread that has ended (e.g. a worker retired by the
+     * fork-join pool) can be garbage collected.
+     */
+    private static final ThreadLocal<DateTimeParseCache> parseCache = ThreadLocal.withInitial(
+            DateTimeUtil::createParseCache);
+    /** The hit and miss counts of the parse caches of all threads, including those that have ended. */
+    private static final LongAdder parseCacheHitCount = new LongAdder();
+    private static final LongAdder parseCacheMissCount = new LongAdder();
+
+    /** The number of date-times parsed by each fork-join task of {@link #parseAll(List)} at most. */
+    private static final int PARSE_ALL_BATCH_SIZE = 256;
 
     private static final String NATTY_TOKEN_DATE_TIME_ALTERNATIVE = "DATE_TIME_ALTERNATIVE";
     private static final String NATTY_TOKEN_DATE_TIME = "DATE_TIME";
@@ -39,14 +56,66 @@ public class DateTimeUtil {
         // TODO find a better way to do initialize Natty
         // Hack: Initialize Natty by parsing a valid date-time string
         // because some startup time is required for Natty
-        dateTimeParser.parse("tmr");
+        // Most of the startup time is spent loading Natty's grammar, which is shared by the parsers of all threads
+        parse("tmr", new Date());
+    }
+
+    private static DateTimeParseCache createParseCache() {
+        Parser parser = new Parser(TimeZone.getTimeZone(DateTimeFormats.SYSTEM_TIME_ZONE));
+        return new DateTimeParseCache(parser, DateTimeFormats.SYSTEM_TIME_ZONE.getId(),
+                DateTimeParseCache.DEFAULT_CAPACITY);
+    }
+
+    /** Returns the number of date-times parsed that were answered from the parse caches of all threads. */
+    public static long getParseCacheHitCount() {
+        return parseCacheHitCount.sum();
+    }
+
+    /** Returns the number of date-times parsed that were not in the parse caches of any thread. */
+    public static long getParseCacheMissCount() {
+        return parseCacheMissCount.sum();
+    }
+
+    /**
+     * Returns the date groups found by Natty in {@code dateTime} relative to {@code reference},
+     * using the parse cache of the current thread for repeated date-times.
+     */
+    private static List<DateGroup> parse(String dateTime, Date reference) {
+        DateTimeParseCache cache = parseCache.get();
+        long missCountBefore = cache.getMissCount();
+        List<DateGroup> dateGroups = cache.parse(dateTime, reference);
+        if (cache.getMissCount() == missCountBefore) {
+            parseCacheHitCount.increment();
+        } else {
+            parseCacheMissCount.increment();
+        }
+        return dateGroups;
+    }
+
+    /**
+     * Returns the date-time in {@code dateTime} if it is in one of the common formats recognized by
+     * {@link FastDateTimeParser}, which gives the same result as Natty without the cost of running it.
+     */
+    private static Optional<FastDateTimeParser.Result> parseFast(String dateTime, Date reference) {
+        // Natty only has millisecond precision, so the reference is given as a Date to be no more precise
+        return FastDateTimeParser.parse(dateTime,
+                ZonedDateTime.ofInstant(reference.toInstant(), DateTimeFormats.SYSTEM_TIME_ZONE));
     }
 
     /**
      * Parses Date strings into a {@code ZonedDateTime}.
      */
     public static ZonedDateTime parseDateTimeString(String dateTime) throws IllegalValueException {
-        DateGroup dateGroup = parseDateTimeStringHelper(dateTime);
+        return parseDateTimeString(dateTime, new Date());
+    }
+
+    private static ZonedDateTime parseDateTimeString(String dateTime, Date reference) throws IllegalValueException {
+        Optional<FastDateTimeParser.Result> fastResult = parseFast(dateTime, reference);
+        if (fastResult.isPresent()) {
+            return fastResult.get().getDateTime();
+        }
+
+        DateGroup dateGroup = parseDateTimeStringHelper(dateTime, reference);
         // the date group returned should contain one and only one date.
         assert dateGroup.getDates() != null && dateGroup.getDates().size() == 1;
 
@@ -56,10 +125,35 @@ public class DateTimeUtil {
         return zonedDateTime;
     }
 
+    /**
+     * Parses Date strings into {@code ZonedDateTime}s in parallel on the common fork-join pool, in the same order.
+     * Every date-time is parsed relative to the same current date-time.
+     * @throws IllegalValueException of the first date string that is not valid, if any.
+     */
+    public static List<ZonedDateTime> parseAll(List<String> dateTimes) throws IllegalValueException {
+        assert dateTimes != null;
+        ParseAllTask task = new ParseAllTask(dateTimes, new Date(), 0, dateTimes.size());
+        ForkJoinPool.commonPool().invoke(task);
+        for (IllegalValueException error : task.errors) {
+            if (error != null) {
+                throw error;
+            }
+        }
+        return Arrays.asList(task.results);
+    }
+
     public static ZonedDateTime parseEditedDateTimeString(String dateTime, ZonedDateTime previousDateTime)
             throws IllegalValueException {
 
-        DateGroup dateGroup = parseDateTimeStringHelper(dateTime);
+        Date now = new Date();
+        Optional<FastDateTimeParser.Result> fastResult = parseFast(dateTime, now);
+        if (fastResult.isPresent()
+                && (fastResult.get().isRelativeDate() || fastResult.get().hasDateAndTimeSpecified())) {
+            // same as below, the date-time does not depend on the previous date-time
+            return fastResult.get().getDateTime();
+        }
+
+        DateGroup dateGroup = parseDateTimeStringHelper(dateTime, now);
         // the date group returned should contain one and only one date.
         assert dateGroup.getDates() != null && dateGroup.getDates().size() == 1;
 
@@ -159,7 +253,7 @@ public class DateTimeUtil {
             ZonedDateTime previousDateTime) throws IllegalValueException {
         // Convert back to old java.util.Date class for use in Natty
         Date previousDateTimeAsOldDateClass = Date.from(previousDateTime.toInstant());
-        List<DateGroup> dateGroups = dateTimeParser.parse(dateTime, previousDateTimeAsOldDateClass);
+        List<DateGroup> dateGroups = parse(dateTime, previousDateTimeAsOldDateClass);
 
         checkForSingleDateGroup(dateGroups, dateTime);
 
@@ -179,8 +273,9 @@ public class DateTimeUtil {
     /**
      * Returns a DateGroup representing the date-time with extra information about it.
      */
-    private static DateGroup parseDateTimeStringHelper(String dateTime) throws IllegalValueException {
-        final List<DateGroup> dateGroups = dateTimeParser.parse(dateTime);
+    private static DateGroup parseDateTimeStringHelper(String dateTime, Date reference)
+            throws IllegalValueException {
+        final List<DateGroup> dateGroups = parse(dateTime, reference);
 
         checkForSingleDateGroup(dateGroups, dateTime);
 
@@ -232,7 +327,12 @@ public class DateTimeUtil {
      * Returns true if a String contains only a single date-time string parseable by Natty, otherwise returns false.
      */
     public static boolean isSingleDateTimeString(String dateTime) {
-        final List<DateGroup> dateGroups = dateTimeParser.parse(dateTime);
+        Date now = new Date();
+        if (parseFast(dateTime, now).isPresent()) {
+            return true;
+        }
+
+        final List<DateGroup> dateGroups = parse(dateTime, now);
 
 
         if (!isSingleDateGroup(dateGroups)) {
@@ -282,4 +382,49 @@ public class DateTimeUtil {
         assert dateAlternatives.size() == 1;
         return true;
     }
+
+    /**
+     * Parses a range of the date strings given to {@link #parseAll(List)}, splitting it in half until it is small
+     * enough to parse on one thread.
+     */
+    private static class ParseAllTask extends RecursiveAction {
+        private final List<String> dateTimes;
+        private final Date reference;
+        private final int from;
+        private final int to;
+        private final ZonedDateTime[] results;
+        private final IllegalValueException[] errors;
+
+        ParseAllTask(List<String> dateTimes, Date reference, int from, int to) {
+            this(dateTimes, reference, from, to, new ZonedDateTime[dateTimes.size()],
+                    new IllegalValueException[dateTimes.size()]);
+        }
+
+        private ParseAllTask(List<String> dateTimes, Date reference, int from, int to, ZonedDateTime[] results,
+                IllegalValueException[] errors) {
+            this.dateTimes = dateTimes;
+            this.reference = reference;
+            this.from = from;
+            this.to = to;
+            this.results = results;
+            this.errors = errors;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARSE_ALL_BATCH_SIZE) {
+                for (int i = from; i < to; i++) {
+                    try {
+                        results[i] = parseDateTimeString(dateTimes.get(i), reference);
+                    } catch (IllegalValueException e) {
+                        errors[i] = e;
+                    }
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ParseAllTask(dateTimes, reference, from, middle, results, errors),
+                    new ParseAllTask(dateTimes, reference, middle, to, results, errors));
+        }
+    }
 }
@@ -0,0 +1,299 @@
+package onlythree.imanager.logic;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+/**
+ * A hand-written recognizer for the date-time formats used most often, which are parsed much faster than by Natty.
+ * It gives the same results as Natty for every input it recognizes, and recognizes nothing else, so that any
+ * other input can be passed on to Natty.
+ *
+ * The recognized inputs are an optional date followed by an optional time, separated by spaces and an optional
+ * "at", ignoring case:
+ * <ul>
+ * <li>a date is {@code yyyy-M-d}, "today", "tomorrow" or "tmr"</li>
+ * <li>a time is {@code H:mm} or {@code H:mm:ss} from 0:00 to 23:59:59, or {@code h} or {@code h:mm} from 1 to 12
+ *     followed by "am" or "pm"</li>
+ * </ul>
+ * An {@code yyyy-M-d} date may also be followed by "T" and a 24-hour time. As with Natty, a missing date is today
+ * and a missing time is the time of the reference date-time. Dates such as 20/10 are not recognized because Natty
+ * reads them as US dates, or not as dates at all.
+ */
+class FastDateTimeParser {
+
+    private final String text;
+    private int position;
+
+    private LocalDate date;
+    private boolean isRelativeDate;
+    private LocalTime time;
+
+    private FastDateTimeParser(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Returns the date-time in {@code text} relative to {@code reference}, in the zone of {@code reference},
+     * or empty if {@code text} is not in a recognized format.
+     */
+    public static Optional<Result> parse(String text, ZonedDateTime reference) {
+        FastDateTimeParser parser = new FastDateTimeParser(text);
+        if (!parser.parse(reference.toLocalDate())) {
+            return Optional.empty();
+        }
+
+        LocalDate date = parser.date != null ? parser.date : reference.toLocalDate();
+        LocalTime time = parser.time != null ? parser.time : reference.toLocalTime();
+        return Optional.of(new Result(ZonedDateTime.of(date, time, reference.getZone()),
+                parser.date == null, parser.time == null, parser.isRelativeDate));
+    }
+
+    /**
+     * A date-time recognized by {@link FastDateTimeParser}, with the same details that Natty gives about it.
+     */
+    public static class Result {
+        private final ZonedDateTime dateTime;
+        private final boolean isDateInferred;
+        private final boolean isTimeInferred;
+        private final boolean isRelativeDate;
+
+        private Result(ZonedDateTime dateTime, boolean isDateInferred, boolean isTimeInferred,
+                boolean isRelativeDate) {
+            this.dateTime = dateTime;
+            this.isDateInferred = isDateInferred;
+            this.isTimeInferred = isTimeInferred;
+            this.isRelativeDate = isRelativeDate;
+        }
+
+        public ZonedDateTime getDateTime() {
+            return dateTime;
+        }
+
+        /** Returns true if no date was given, so today is used. */
+        public boolean isDateInferred() {
+            return isDateInferred;
+        }
+
+        /** Returns true if no time was given, so the time of the reference date-time is used. */
+        public boolean isTimeInferred() {
+            return isTimeInferred;
+        }
+
+        public boolean hasDateAndTimeSpecified() {
+            return !isDateInferred && !isTimeInferred;
+        }
+
+        /** Returns true if the date was given relative to today, e.g. "tomorrow". */
+        public boolean isRelativeDate() {
+            return isRelativeDate;
+        }
+    }
+
+    /**
+     * Reads the whole text, returning false as soon as it is not in a recognized format.
+     */
+    private boolean parse(LocalDate today) {
+        skipSpaces();
+        int start = position;
+        if (parseIsoDate()) {
+            if (position < text.length() && Character.toLowerCase(text.charAt(position)) == 't') {
+                position++;
+                return parseTwentyFourHourTime() && isAtEndAfterSpaces();
+            }
+        } else {
+            position = start;
+            date = null;
+            if (!parseRelativeDate(today)) {
+                // no date, so there must be a time
+                return parseTime() && isAtEndAfterSpaces();
+            }
+        }
+
+        boolean hasSpaces = skipSpaces();
+        if (position == text.length()) {
+            return true;
+        }
+        if (!hasSpaces) {
+            return false;
+        }
+        if (matchWord("at") && !skipSpaces()) {
+            return false;
+        }
+        return parseTime() && isAtEndAfterSpaces();
+    }
+
+    /**
+     * Reads a {@code yyyy-M-d} date. Returns false for dates that do not exist, such as 2026-02-30, as Natty
+     * moves them into the next month.
+     */
+    private boolean parseIsoDate() {
+        int year = readNumber(4, 4);
+        if (year < 0 || !skipChar('-')) {
+            return false;
+        }
+        int month = readNumber(1, 2);
+        if (month < 0 || !skipChar('-')) {
+            return false;
+        }
+        int day = readNumber(1, 2);
+        if (day < 0 || isDigitAt(position)) {
+            return false;
+        }
+        try {
+            date = LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            return false;
+        }
+        return true;
+    }
+
+    private boolean parseRelativeDate(LocalDate today) {
+        if (matchWord("today")) {
+            date = today;
+        } else if (matchWord("tomorrow") || matchWord("tmr")) {
+            date = today.plusDays(1);
+        } else {
+            return false;
+        }
+        isRelativeDate = true;
+        return true;
+    }
+
+    private boolean parseTime() {
+        int start = position;
+        if (parseTwelveHourTime()) {
+            return true;
+        }
+        position = start;
+        return parseTwentyFourHourTime();
+    }
+
+    /**
+     * Reads a time such as 9am, 9 pm or 9:30pm.
+     */
+    private boolean parseTwelveHourTime() {
+        int hour = readNumber(1, 2);
+        if (hour < 1 || hour > 12) {
+            return false;
+        }
+        int minute = 0;
+        if (skipChar(':')) {
+            minute = readMinuteOrSecond();
+            if (minute < 0) {
+                return false;
+            }
+        }
+        skipSpaces();
+        boolean isPm;
+        if (matchWord("am")) {
+            isPm = false;
+        } else if (matchWord("pm")) {
+            isPm = true;
+        } else {
+            return false;
+        }
+        time = LocalTime.of(hour % 12 + (isPm ? 12 : 0), minute);
+        return true;
+    }
+
+    /**
+     * Reads a time such as 9:30, 17:00 or 17:00:30.
+     */
+    private boolean parseTwentyFourHourTime() {
+        int hour = readNumber(1, 2);
+        if (hour < 0 || hour > 23 || !skipChar(':')) {
+            return false;
+        }
+        int minute = readMinuteOrSecond();
+        if (minute < 0) {
+            return false;
+        }
+        int second = 0;
+        if (skipChar(':')) {
+            second = readMinuteOrSecond();
+            if (second < 0) {
+                return false;
+            }
+        }
+        if (position < text.length() && !Character.isWhitespace(text.charAt(position))) {
+            return false;
+        }
+        time = LocalTime.of(hour, minute, second);
+        return true;
+    }
+
+    /**
+     * Reads a two digit number from 00 to 59, or returns -1.
+     */
+    private int readMinuteOrSecond() {
+        int start = position;
+        int value = readNumber(2, 2);
+        if (value > 59 || isDigitAt(position)) {
+            position = start;
+            return -1;
+        }
+        return value;
+    }
+
+    /**
+     * Reads a number of {@code minDigits} to {@code maxDigits} digits, or returns -1 without moving if there is
+     * none. A number with more than {@code maxDigits} digits is not read.
+     */
+    private int readNumber(int minDigits, int maxDigits) {
+        int start = position;
+        int value = 0;
+        while (isDigitAt(position) && position - start < maxDigits) {
+            value = value * 10 + (text.charAt(position) - '0');
+            position++;
+        }
+        if (position - start < minDigits || isDigitAt(position)) {
+            position = start;
+            return -1;
+        }
+        return value;
+    }
+
+    /**
+     * Reads {@code word}, ignoring case, if it is next and is not followed by another letter or digit.
+     */
+    private boolean matchWord(String word) {
+        int end = position + word.length();
+        if (!text.regionMatches(true, position, word, 0, word.length())
+                || (end < text.length() && Character.isLetterOrDigit(text.charAt(end)))) {
+            return false;
+        }
+        position = end;
+        return true;
+    }
+
+    private boolean skipChar(char c) {
+        if (position < text.length() && text.charAt(position) == c) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Skips any whitespace, returning true if there was any.
+     */
+    private boolean skipSpaces() {
+        int start = position;
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+        return position > start;
+    }
+
+    private boolean isAtEndAfterSpaces() {
+        skipSpaces();
+        return position == text.length();
+    }
+
+    private boolean isDigitAt(int index) {
+        return index < text.length() && text.charAt(index) >= '0' && text.charAt(index) <= '9';
+    }
+}
@@ -20,4 +20,7 @@ public interface Logic {
     /** Returns the filtered list of tasks */
     ObservableList<ReadOnlyTask> getFilteredTaskList();
 
+    /** Returns the filtered list of tasks shown by the view {@code typeOfList} of the view command */
+    ObservableList<ReadOnlyTask> getFilteredTaskList(String typeOfList);
+
 }
@@ -1,10 +1,14 @@
 package onlythree.imanager.logic;
 
+import java.util.Locale;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import onlythree.imanager.commons.core.ComponentManager;
+import onlythree.imanager.commons.core.EventsCenter;
 import onlythree.imanager.commons.core.LogsCenter;
+import onlythree.imanager.commons.core.Messages;
+import onlythree.imanager.commons.core.MetricsCenter;
 import onlythree.imanager.logic.commands.Command;
 import onlythree.imanager.logic.commands.CommandResult;
 import onlythree.imanager.logic.commands.exceptions.CommandException;
@@ -17,6 +21,12 @@ import onlythree.imanager.storage.Storage;
  * The main LogicManager of the app.
  */
 public class LogicManager extends ComponentManager implements Logic {
+    /** The phases of a command, recorded in {@link MetricsCenter} as {@code command.<name>.<phase>}. */
+    public static final String PHASE_PARSE = "parse";
+    public static final String PHASE_EXECUTE = "execute";
+    public static final String PHASE_EVENTS = "events";
+    public static final String ALLOCATED_BYTES = "allocatedBytes";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
@@ -29,14 +39,51 @@ public class LogicManager extends ComponentManager implements Logic {
 
     @Override
     public CommandResult execute(String commandText) throws CommandException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
+        if (!model.hasInitialData()) {
+            // the task list is still being read at startup, so changes made now would be lost
+            throw new CommandException(Messages.MESSAGE_TASK_LIST_LOADING);
+        }
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        long startNanos = System.nanoTime();
+        long startAllocatedBytes = MetricsCenter.getAllocatedBytesOfCurrentThread();
+        long startDispatchNanos = eventsCenter.getDispatchNanosOfCurrentThread();
+
         Command command = parser.parseCommand(commandText);
-        command.setData(model);
-        return command.execute();
+        long parsedNanos = System.nanoTime();
+        try {
+            command.setData(model);
+            return command.execute();
+        } finally {
+            long endNanos = System.nanoTime();
+            long eventNanos = eventsCenter.getDispatchNanosOfCurrentThread() - startDispatchNanos;
+            String prefix = "command." + getMetricsName(command) + ".";
+            MetricsCenter metrics = MetricsCenter.getInstance();
+            metrics.getHistogram(prefix + PHASE_PARSE).record(parsedNanos - startNanos);
+            metrics.getHistogram(prefix + PHASE_EXECUTE).record(Math.max(0, endNanos - parsedNanos - eventNanos));
+            metrics.getHistogram(prefix + PHASE_EVENTS).record(eventNanos);
+            if (startAllocatedBytes >= 0) {
+                metrics.getHistogram(prefix + ALLOCATED_BYTES)
+                        .record(Math.max(0, MetricsCenter.getAllocatedBytesOfCurrentThread() - startAllocatedBytes));
+            }
+        }
+    }
+
+    /**
+     * Returns the name that the metrics of {@code command} are recorded under, e.g. "add" for an AddCommand.
+     * Commands that could not be parsed are recorded together as "incorrect".
+     */
+    private static String getMetricsName(Command command) {
+        return command.getClass().getSimpleName().replaceFirst("Command$", "").toLowerCase(Locale.ROOT);
     }
 
     @Override
     public ObservableList<ReadOnlyTask> getFilteredTaskList() {
         return model.getFilteredTaskList();
     }
+
+    @Override
+    public ObservableList<ReadOnlyTask> getFilteredTaskList(String typeOfList) {
+        return model.getFilteredTaskList(typeOfList);
+    }
 }
@@ -59,7 +59,6 @@ public class AddCommand extends Command {
         model.addTask(toAdd);
         //@@author A0148052L
         model.pushCommand(COMMAND_WORD);
-        model.pushStatus(model.getTaskList());
         //@@author
         return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
     }
@@ -17,7 +17,6 @@ public class ClearCommand extends Command {
         model.resetData(new TaskList());
         //@@author A0148052L-reused
         model.pushCommand(COMMAND_WORD);
-        model.pushStatus(model.getTaskList());
         //@@author
         return new CommandResult(MESSAGE_SUCCESS);
     }
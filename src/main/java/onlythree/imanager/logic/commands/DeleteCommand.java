@@ -1,5 +1,9 @@
 package onlythree.imanager.logic.commands;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import onlythree.imanager.commons.core.Messages;
 import onlythree.imanager.commons.core.UnmodifiableObservableList;
 import onlythree.imanager.logic.commands.exceptions.CommandException;
@@ -7,23 +11,32 @@ import onlythree.imanager.model.task.IterableTaskList.TaskNotFoundException;
 import onlythree.imanager.model.task.ReadOnlyTask;
 
 /**
- * Deletes a task identified using it's last displayed index from the task list.
+ * Deletes the tasks identified using their last displayed indices from the task list.
  */
 public class DeleteCommand extends Command {
 
     public static final String COMMAND_WORD = "delete";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the task identified by the index number used in the last task listing.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Deletes the tasks identified by the index numbers used in the last task listing.\n"
+            + "Parameters: INDEX [, MORE_INDICES]... (positive integers or ranges of them)\n"
+            + "Example: " + COMMAND_WORD + " 1, 3-5";
 
     public static final String MESSAGE_DELETE_TASK_SUCCESS = "Deleted Task: %1$s";
+    public static final String MESSAGE_DELETE_TASKS_SUCCESS = "Deleted %1$d Tasks";
 
-    public final int targetIndex;
+    public final List<Integer> targetIndices;
 
     public DeleteCommand(int targetIndex) {
-        this.targetIndex = targetIndex;
+        this(Collections.singletonList(targetIndex));
+    }
+
+    /**
+     * @param targetIndices the distinct one-based indices of the tasks to delete, in ascending order
+     */
+    public DeleteCommand(List<Integer> targetIndices) {
+        assert !targetIndices.isEmpty() && targetIndices.get(0) > 0;
+        this.targetIndices = targetIndices;
     }
 
 
@@ -32,23 +45,29 @@ public class DeleteCommand extends Command {
 
         UnmodifiableObservableList<ReadOnlyTask> lastShownList = model.getFilteredTaskList();
 
-        if (lastShownList.size() < targetIndex) {
+        if (lastShownList.size() < targetIndices.get(targetIndices.size() - 1)) {
             throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
 
-        ReadOnlyTask taskToDelete = lastShownList.get(targetIndex - 1);
+        List<ReadOnlyTask> tasksToDelete = new ArrayList<>(targetIndices.size());
+        for (int targetIndex : targetIndices) {
+            tasksToDelete.add(lastShownList.get(targetIndex - 1));
+        }
 
         try {
-            model.deleteTask(taskToDelete);
+            // all the tasks are deleted as a single change, so that they are saved once
+            model.deleteTasks(tasksToDelete);
             //@@author A0148052L-reused
             model.pushCommand(COMMAND_WORD);
-            model.pushStatus(model.getTaskList());
             //@@author
         } catch (TaskNotFoundException pnfe) {
             throw new AssertionError("The target task cannot be missing");
         }
 
-        return new CommandResult(String.format(MESSAGE_DELETE_TASK_SUCCESS, taskToDelete));
+        if (tasksToDelete.size() == 1) {
+            return new CommandResult(String.format(MESSAGE_DELETE_TASK_SUCCESS, tasksToDelete.get(0)));
+        }
+        return new CommandResult(String.format(MESSAGE_DELETE_TASKS_SUCCESS, tasksToDelete.size()));
     }
 
 }
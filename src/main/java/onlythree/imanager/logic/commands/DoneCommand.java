@@ -1,6 +1,9 @@
 package onlythree.imanager.logic.commands;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import onlythree.imanager.commons.core.Messages;
 import onlythree.imanager.commons.exceptions.IllegalValueException;
@@ -16,48 +19,69 @@ public class DoneCommand extends Command {
 
     public static final String COMMAND_WORD = "done";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Marks an existing task "
-            + "by the index number used in the last task listing.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Marks existing tasks "
+            + "by the index numbers used in the last task listing.\n"
+            + "Parameters: INDEX [, MORE_INDICES]... (positive integers or ranges of them)\n"
+            + "Example: " + COMMAND_WORD + " 1, 3-5";
 
     public static final String MESSAGE_MARK_TASK_SUCCESS = "Marked Task: %1$s";
+    public static final String MESSAGE_MARK_TASKS_SUCCESS = "Marked %1$d Tasks";
 
-    private final int filteredTaskListIndex;
+    private final List<Integer> filteredTaskListIndices;
 
     /**
      * @param filteredTaskListIndex the index of the task in the filtered task list to edit
      */
     public DoneCommand(int filteredTaskListIndex) {
-        assert filteredTaskListIndex > 0;
-
-        // converts filteredTaskListIndex from one-based to zero-based.
-        this.filteredTaskListIndex = filteredTaskListIndex - 1;
+        this(Collections.singletonList(filteredTaskListIndex));
     }
 
+    //@@author
+    /**
+     * @param filteredTaskListIndices the distinct indices of the tasks in the filtered task list to edit,
+     *                                in ascending order
+     */
+    public DoneCommand(List<Integer> filteredTaskListIndices) {
+        assert !filteredTaskListIndices.isEmpty() && filteredTaskListIndices.get(0) > 0;
+
+        this.filteredTaskListIndices = filteredTaskListIndices;
+    }
 
+    //@@author A0135998H
     @Override
     public CommandResult execute() throws CommandException {
         List<ReadOnlyTask> lastShownList = model.getFilteredTaskList();
 
-        if (filteredTaskListIndex >= lastShownList.size()) {
+        if (filteredTaskListIndices.get(filteredTaskListIndices.size() - 1) > lastShownList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
-        ReadOnlyTask taskToEdit = lastShownList.get(filteredTaskListIndex);
 
-        Task editedTask;
-        try {
-            editedTask = new Task(taskToEdit);
-        } catch (IllegalValueException e) {
-            throw new AssertionError("Copying a valid task should always result in a valid task");
+        // all the tasks are marked as a single change, so that they are saved once
+        Map<Integer, Task> editedTasks = new LinkedHashMap<>();
+        for (int filteredTaskListIndex : filteredTaskListIndices) {
+            // converts filteredTaskListIndex from one-based to zero-based.
+            ReadOnlyTask taskToEdit = lastShownList.get(filteredTaskListIndex - 1);
+
+            Task editedTask;
+            try {
+                editedTask = new Task(taskToEdit);
+            } catch (IllegalValueException e) {
+                throw new AssertionError("Copying a valid task should always result in a valid task");
+            }
+            /* switch status of task */
+            editedTask.setComplete(!(taskToEdit.isComplete()));
+            editedTasks.put(filteredTaskListIndex - 1, editedTask);
         }
-        /* switch status of task */
-        editedTask.setComplete(!(taskToEdit.isComplete()));
+        ReadOnlyTask firstTaskToEdit = lastShownList.get(filteredTaskListIndices.get(0) - 1);
 
-        model.updateTask(filteredTaskListIndex, editedTask);
+        model.updateTasks(editedTasks);
+        model.pushCommand(COMMAND_WORD);
 
         model.updateFilteredListToShowDone();
-        return new CommandResult(String.format(MESSAGE_MARK_TASK_SUCCESS, taskToEdit));
+        if (filteredTaskListIndices.size() == 1) {
+            return new CommandResult(String.format(MESSAGE_MARK_TASK_SUCCESS, firstTaskToEdit));
+        }
+        return new CommandResult(String.format(MESSAGE_MARK_TASKS_SUCCESS, filteredTaskListIndices.size()));
     }
 
 }
@@ -90,7 +90,6 @@ public class EditCommand extends Command {
 
         //@@author A0148052L-reused
         model.pushCommand(COMMAND_WORD);
-        model.pushStatus(model.getTaskList());
         //@@author A0140023E
         return new CommandResult(String.format(MESSAGE_EDIT_TASK_SUCCESS, taskToEdit));
     }
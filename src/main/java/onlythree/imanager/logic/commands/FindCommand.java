@@ -1,9 +1,14 @@
 package onlythree.imanager.logic.commands;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
+import onlythree.imanager.model.tag.Tag;
+
 /**
- * Finds and lists all tasks in the task list where the name contains any of the argument keywords.
+ * Finds and lists all tasks in the task list where the name contains any of the argument keywords
+ * and that have at least one of the tags of each tag group.
  * Keyword matching is not case sensitive.
  */
 public class FindCommand extends Command {
@@ -12,18 +17,25 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all tasks where the names contain any of "
             + "the specified keywords (case insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " meeting task boss";
+            + "Tasks must also have any of the tags given after each t/.\n"
+            + "Parameters: [KEYWORD [MORE_KEYWORDS]...] [t/TAG [MORE_TAGS]...]...\n"
+            + "Example: " + COMMAND_WORD + " meeting task boss t/work t/urgent important";
 
     private final Set<String> keywords;
+    private final List<Set<Tag>> tagGroups;
 
     public FindCommand(Set<String> keywords) {
+        this(keywords, Collections.emptyList());
+    }
+
+    public FindCommand(Set<String> keywords, List<Set<Tag>> tagGroups) {
         this.keywords = keywords;
+        this.tagGroups = tagGroups;
     }
 
     @Override
     public CommandResult execute() {
-        model.updateFilteredTaskList(keywords);
+        model.updateFilteredTaskList(keywords, tagGroups);
         return new CommandResult(getMessageForTaskListShownSummary(model.getFilteredTaskList().size()));
     }
 
@@ -10,6 +10,8 @@ import java.io.IOException;
 import onlythree.imanager.commons.core.EventsCenter;
 import onlythree.imanager.commons.events.storage.FileLocationChangedEvent;
 import onlythree.imanager.commons.util.FileUtil;
+import onlythree.imanager.storage.BinaryTaskListStorage;
+import onlythree.imanager.storage.TaskListStorage;
 import onlythree.imanager.storage.XmlTaskListStorage;
 
 
@@ -22,12 +24,14 @@ import onlythree.imanager.storage.XmlTaskListStorage;
 public class SaveCommand extends Command {
     public static final String COMMAND_WORD = "save";
     public static final String MESSAGE_USAGE = COMMAND_WORD + " the path that you wish to save the file to/fileName.xml"
+                                               + " or fileName" + BinaryTaskListStorage.FILE_EXTENSION
                                                + "For example: " + COMMAND_WORD + "data/File.xml";
     public static final String MESSAGE_SUCCESS = "Task list has been saved!";
     public static final String MESSAGE_INVALID_FILE_PATH = "Do not have the permission to access the file path "
                                                      + "chosen or cannot find file." + "Please change file path.";
     public static final String MESSAGE_INVALID_FILE_NAME = "Did not enter file name "
-                                                           + "or did not end file name with '.xml'";
+                                                           + "or did not end file name with '.xml' or '"
+                                                           + BinaryTaskListStorage.FILE_EXTENSION + "'";
 
     private String filePath;
 
@@ -44,7 +48,9 @@ public class SaveCommand extends Command {
             File file = new File(filePath);
             FileUtil.createIfMissing(file);
             String message = String.format(MESSAGE_SUCCESS, filePath);
-            XmlTaskListStorage storage = new XmlTaskListStorage(filePath);
+            TaskListStorage storage = BinaryTaskListStorage.isBinaryFilePath(filePath)
+                    ? new BinaryTaskListStorage(filePath)
+                    : new XmlTaskListStorage(filePath);
             storage.saveTaskList(model.getTaskList(), filePath);
             EventsCenter.getInstance().post(new FileLocationChangedEvent(filePath, model.getTaskList()));
             return new CommandResult(message);
@@ -55,6 +61,10 @@ public class SaveCommand extends Command {
     }
 
     private boolean isFileNameInvalid(String filePath) {
-        return (!filePath.endsWith(".xml") || filePath.endsWith("\\.xml"));
+        return isFileNameInvalid(filePath, ".xml") && isFileNameInvalid(filePath, BinaryTaskListStorage.FILE_EXTENSION);
+    }
+
+    private boolean isFileNameInvalid(String filePath, String extension) {
+        return (!filePath.endsWith(extension) || filePath.endsWith("\\" + extension));
     }
 }
@@ -61,7 +61,7 @@ public class SelectCommand extends Command {
         sb.append(System.lineSeparator());
 
         sb.append("Tags: ");
-        task.getTags().forEach(sb::append);
+        task.getTagSet().forEach(sb::append);
 
         return sb.toString();
     }
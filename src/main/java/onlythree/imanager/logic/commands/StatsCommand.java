@@ -0,0 +1,80 @@
+package onlythree.imanager.logic.commands;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import onlythree.imanager.commons.core.Histogram;
+import onlythree.imanager.commons.core.MetricsCenter;
+import onlythree.imanager.logic.LogicManager;
+import onlythree.imanager.storage.StorageManager;
+
+/**
+ * Shows how long each kind of command has taken in each of its phases, and how long saving has taken,
+ * as recorded in the {@link MetricsCenter} since the app started.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how long commands have taken to run.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_HEADER = "Latency in ms as p50/p99/max, memory allocated in KB:";
+    public static final String MESSAGE_NO_STATS = "No commands have been run yet.";
+
+    private static final String COMMAND_PREFIX = "command.";
+    private static final String[] LATENCY_PHASES = {
+        LogicManager.PHASE_PARSE, LogicManager.PHASE_EXECUTE, LogicManager.PHASE_EVENTS
+    };
+    private static final long BYTES_PER_KB = 1024;
+
+    @Override
+    public CommandResult execute() {
+        SortedMap<String, Histogram> histograms = MetricsCenter.getInstance().getHistograms();
+
+        // the histograms of each command by phase, e.g. "add" -> "parse" -> histogram
+        SortedMap<String, Map<String, Histogram>> histogramsByCommand = new TreeMap<>();
+        histograms.forEach((name, histogram) -> {
+            if (name.startsWith(COMMAND_PREFIX)) {
+                String commandAndPhase = name.substring(COMMAND_PREFIX.length());
+                int separator = commandAndPhase.lastIndexOf('.');
+                histogramsByCommand.computeIfAbsent(commandAndPhase.substring(0, separator), unused -> new TreeMap<>())
+                        .put(commandAndPhase.substring(separator + 1), histogram);
+            }
+        });
+        if (histogramsByCommand.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_STATS);
+        }
+
+        StringBuilder sb = new StringBuilder(MESSAGE_HEADER);
+        histogramsByCommand.forEach((commandName, phases) -> {
+            sb.append("\n").append(commandName).append(" x").append(phases.get(LogicManager.PHASE_PARSE).getCount())
+                    .append(":");
+            for (String phase : LATENCY_PHASES) {
+                sb.append(" ").append(phase).append(" ").append(formatMillis(phases.get(phase)));
+            }
+            Histogram allocatedBytes = phases.get(LogicManager.ALLOCATED_BYTES);
+            if (allocatedBytes != null) {
+                sb.append(" allocated ").append(formatKilobytes(allocatedBytes));
+            }
+        });
+        Histogram saves = histograms.get(StorageManager.METRICS_SAVE);
+        if (saves != null) {
+            sb.append("\nsave x").append(saves.getCount()).append(": ").append(formatMillis(saves));
+        }
+        return new CommandResult(sb.toString());
+    }
+
+    private static String formatMillis(Histogram nanos) {
+        double nanosPerMilli = TimeUnit.MILLISECONDS.toNanos(1);
+        return String.format("%.2f/%.2f/%.2f", nanos.getPercentile(50) / nanosPerMilli,
+                nanos.getPercentile(99) / nanosPerMilli, nanos.getMax() / nanosPerMilli);
+    }
+
+    private static String formatKilobytes(Histogram bytes) {
+        return String.format("%d/%d/%d", bytes.getPercentile(50) / BYTES_PER_KB,
+                bytes.getPercentile(99) / BYTES_PER_KB, bytes.getMax() / BYTES_PER_KB);
+    }
+}
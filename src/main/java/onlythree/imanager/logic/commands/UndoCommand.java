@@ -2,7 +2,6 @@
 package onlythree.imanager.logic.commands;
 
 import onlythree.imanager.logic.commands.exceptions.CommandException;
-import onlythree.imanager.model.ReadOnlyTaskList;
 
 public class UndoCommand extends Command {
     public static final String COMMAND_WORD = "undo";
@@ -11,14 +10,10 @@ public class UndoCommand extends Command {
 
     @Override
     public CommandResult execute() throws CommandException {
-        if (model.isCommandStackEmpty()) {
+        if (!model.canUndo()) {
             return new CommandResult(UNDONE_FAIL);
         } else {
-            model.getPreviousCommand();
-            model.popCurrentStatus();
-            ReadOnlyTaskList prevStatus = model.getPrevStatus();
-            model.resetData(prevStatus);
-            model.setStatusAfterUndo(prevStatus);
+            model.undo();
             return new CommandResult(UNDONE_SUCCESSFUL);
         }
     }
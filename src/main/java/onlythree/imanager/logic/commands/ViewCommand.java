@@ -1,5 +1,6 @@
 package onlythree.imanager.logic.commands;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 
@@ -17,14 +18,16 @@ public class ViewCommand extends Command {
     public static final String TYPE_OVERDUE = "o";
     public static final String TYPE_PENDING = "p";
     public static final String TYPE_TODAY = "t";
+    public static final String TYPE_UPCOMING = "u";
+    public static final String TYPE_UPCOMING_IN_FULL = "upcoming";
 
     private static ArrayList<String> validCommands = new ArrayList<String>(Arrays.asList(
             TYPE_ALL, TYPE_DONE, TYPE_FLOATING, TYPE_OVERDUE, TYPE_PENDING, TYPE_TODAY));
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": View a type of specified tasks.\n"
-            + "Parameters: TYPE\n"
-            + "Example: " + COMMAND_WORD + " " + TYPE_DONE;
+            + ": View a type of specified tasks, or the tasks that are due or start within a duration.\n"
+            + "Parameters: TYPE or " + TYPE_UPCOMING_IN_FULL + " DURATION\n"
+            + "Example: " + COMMAND_WORD + " " + TYPE_DONE + ", " + COMMAND_WORD + " " + TYPE_UPCOMING_IN_FULL + " 3d";
 
 
     public static final String MESSAGE_SUCCESS_VIEW_ALL_TASKS = "List All Tasks";
@@ -33,17 +36,37 @@ public class ViewCommand extends Command {
     public static final String MESSAGE_SUCCESS_VIEW_OVERDUE_TASKS = "List all Overdue Tasks";
     public static final String MESSAGE_SUCCESS_VIEW_PENDING_TASKS = "List all Pending Tasks";
     public static final String MESSAGE_SUCCESS_VIEW_TODAY_TASKS = "List all Today's Tasks";
+    public static final String MESSAGE_SUCCESS_VIEW_UPCOMING_TASKS = "List all Tasks Upcoming in %1$s";
 
     private final String typeOfList;
+    private final Duration upcomingDuration;
 
     public ViewCommand(String typeOfList) {
         this.typeOfList = typeOfList;
+        this.upcomingDuration = null;
     }
 
+    //@@author
+    /**
+     * Creates a ViewCommand that lists the pending tasks that are due or start within {@code upcomingDuration}.
+     */
+    public ViewCommand(Duration upcomingDuration) {
+        assert upcomingDuration != null;
+        this.typeOfList = TYPE_UPCOMING;
+        this.upcomingDuration = upcomingDuration;
+    }
+
+    //@@author A0135998H
     public static boolean isValidCommand(String command) {
         return validCommands.contains(command);
     }
 
+    //@@author
+    public static boolean isUpcomingType(String type) {
+        return type.equals(TYPE_UPCOMING) || type.equals(TYPE_UPCOMING_IN_FULL);
+    }
+
+    //@@author A0135998H
     @Override
     public CommandResult execute() {
         switch(typeOfList) {
@@ -65,9 +88,26 @@ public class ViewCommand extends Command {
         case TYPE_TODAY:
             model.updateFilteredListToShowToday();
             return new CommandResult(MESSAGE_SUCCESS_VIEW_TODAY_TASKS);
+        case TYPE_UPCOMING:
+            model.updateFilteredListToShowUpcoming(upcomingDuration);
+            return new CommandResult(String.format(MESSAGE_SUCCESS_VIEW_UPCOMING_TASKS,
+                    describe(upcomingDuration)));
         default:
             model.updateFilteredListToShowAll();
             return new CommandResult(MESSAGE_SUCCESS_VIEW_ALL_TASKS);
         }
     }
+
+    //@@author
+    /**
+     * Returns {@code duration} in the largest of days, hours or minutes that it is a whole number of.
+     */
+    private static String describe(Duration duration) {
+        if (duration.toMinutes() % Duration.ofDays(1).toMinutes() == 0) {
+            return duration.toDays() + " day(s)";
+        } else if (duration.toMinutes() % Duration.ofHours(1).toMinutes() == 0) {
+            return duration.toHours() + " hour(s)";
+        }
+        return duration.toMinutes() + " minute(s)";
+    }
 }
@@ -2,6 +2,7 @@ package onlythree.imanager.logic.parser;
 
 import static onlythree.imanager.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.List;
 import java.util.Optional;
 
 import onlythree.imanager.logic.commands.Command;
@@ -19,13 +20,13 @@ public class DoneCommandParser {
      * and returns an DoneCommand object for execution.
      */
     public Command parse(String args) {
-        Optional<Integer> index = ParserUtil.parseIndex(args);
-        if (!index.isPresent()) {
+        Optional<List<Integer>> indices = ParserUtil.parseIndices(args);
+        if (!indices.isPresent()) {
             return new IncorrectCommand(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, DoneCommand.MESSAGE_USAGE));
         }
 
-        return new DoneCommand(index.get());
+        return new DoneCommand(indices.get());
     }
 
 }
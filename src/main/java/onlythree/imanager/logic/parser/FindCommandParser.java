@@ -1,16 +1,20 @@
 package onlythree.imanager.logic.parser;
 
 import static onlythree.imanager.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static onlythree.imanager.logic.parser.CliSyntax.KEYWORDS_ARGS_FORMAT;
+import static onlythree.imanager.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.regex.Matcher;
 
+import onlythree.imanager.commons.exceptions.IllegalValueException;
 import onlythree.imanager.logic.commands.Command;
 import onlythree.imanager.logic.commands.FindCommand;
 import onlythree.imanager.logic.commands.IncorrectCommand;
+import onlythree.imanager.model.tag.Tag;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -22,16 +26,43 @@ public class FindCommandParser {
      * and returns an FindCommand object for execution.
      */
     public Command parse(String args) {
-        final Matcher matcher = KEYWORDS_ARGS_FORMAT.matcher(args.trim());
-        if (!matcher.matches()) {
+        ArgumentTokenizer argsTokenizer = new ArgumentTokenizer(PREFIX_TAG);
+        argsTokenizer.tokenize(args);
+
+        // keywords delimited by whitespace
+        final Set<String> keywordSet = new HashSet<>();
+        argsTokenizer.getPreamble().ifPresent(keywords -> keywordSet.addAll(Arrays.asList(keywords.split("\\s+"))));
+
+        final List<Set<Tag>> tagGroups = new ArrayList<>();
+        try {
+            for (String tagNames : argsTokenizer.getAllValues(PREFIX_TAG).orElse(Collections.emptyList())) {
+                if (tagNames.isEmpty()) {
+                    return new IncorrectCommand(
+                            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+                }
+                tagGroups.add(parseTagGroup(tagNames));
+            }
+        } catch (IllegalValueException ive) {
+            return new IncorrectCommand(ive.getMessage());
+        }
+
+        if (keywordSet.isEmpty() && tagGroups.isEmpty()) {
             return new IncorrectCommand(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
+        return new FindCommand(keywordSet, tagGroups);
+    }
 
-        // keywords delimited by whitespace
-        final String[] keywords = matcher.group("keywords").split("\\s+");
-        final Set<String> keywordSet = new HashSet<>(Arrays.asList(keywords));
-        return new FindCommand(keywordSet);
+    /**
+     * Returns the tags in the value of one {@code t/} prefix, any of which a task may have to match.
+     * @throws IllegalValueException if any of the tag names is invalid
+     */
+    private Set<Tag> parseTagGroup(String tagNames) throws IllegalValueException {
+        final Set<Tag> tagGroup = new HashSet<>();
+        for (String tagName : tagNames.split("\\s+")) {
+            tagGroup.add(new Tag(tagName));
+        }
+        return tagGroup;
     }
 
 }
@@ -19,6 +19,7 @@ import onlythree.imanager.logic.commands.IncorrectCommand;
 import onlythree.imanager.logic.commands.RedoCommand;
 import onlythree.imanager.logic.commands.SaveCommand;
 import onlythree.imanager.logic.commands.SelectCommand;
+import onlythree.imanager.logic.commands.StatsCommand;
 import onlythree.imanager.logic.commands.UndoCommand;
 import onlythree.imanager.logic.commands.ViewCommand;
 
@@ -88,6 +89,9 @@ public class Parser {
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
+
         //@@author A0148052L
         case SaveCommand.COMMAND_WORD:
             return new SaveCommand(arguments.trim());
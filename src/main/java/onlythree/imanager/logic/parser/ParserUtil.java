@@ -1,6 +1,8 @@
 package onlythree.imanager.logic.parser;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -8,6 +10,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -29,6 +33,12 @@ import onlythree.imanager.model.task.exceptions.PastDateTimeException;
 public class ParserUtil {
 
     private static final Pattern INDEX_ARGS_FORMAT = Pattern.compile("(?<targetIndex>.+)");
+    private static final Pattern INDEX_RANGE_FORMAT = Pattern.compile("(?<first>\\S+?)\\s*-\\s*(?<last>\\S+)");
+    // no task list is shown with more tasks than this, and a larger range would take too long to expand
+    private static final int MAX_INDEX_COUNT = 100000;
+    private static final Pattern DURATION_ARGS_FORMAT =
+            Pattern.compile("(?<amount>\\d{1,6})\\s*(?<unit>m|mins?|h|hrs?|hours?|d|days?|w|wks?|weeks?)",
+                    Pattern.CASE_INSENSITIVE);
 
     /**
      * Returns the specified index in the {@code command} if it is a positive unsigned integer
@@ -48,6 +58,62 @@ public class ParserUtil {
 
     }
 
+    /**
+     * Returns the indices specified in {@code command} as a comma separated list of positive unsigned integers
+     * and ranges of them, e.g. {@code 3, 7, 9-12}, in ascending order without duplicates.
+     * Returns an {@code Optional.empty()} otherwise, or if a range ends before it starts.
+     */
+    public static Optional<List<Integer>> parseIndices(String command) {
+        SortedSet<Integer> indices = new TreeSet<>();
+        for (String item : command.trim().split("\\s*,\\s*", -1)) {
+            Matcher rangeMatcher = INDEX_RANGE_FORMAT.matcher(item);
+            String first = rangeMatcher.matches() ? rangeMatcher.group("first") : item;
+            String last = rangeMatcher.matches() ? rangeMatcher.group("last") : item;
+            if (!StringUtil.isUnsignedInteger(first) || !StringUtil.isUnsignedInteger(last)) {
+                return Optional.empty();
+            }
+            int firstIndex;
+            int lastIndex;
+            try {
+                firstIndex = Integer.parseInt(first);
+                lastIndex = Integer.parseInt(last);
+            } catch (NumberFormatException nfe) {
+                return Optional.empty();
+            }
+            if (firstIndex > lastIndex || lastIndex - firstIndex >= MAX_INDEX_COUNT - indices.size()) {
+                return Optional.empty();
+            }
+            for (int index = firstIndex; index <= lastIndex; index++) {
+                indices.add(index);
+            }
+        }
+        return Optional.of(new ArrayList<>(indices));
+    }
+
+    /**
+     * Returns the duration specified in {@code args} as an amount followed by a unit of minutes, hours, days or
+     * weeks, e.g. {@code 30m}, {@code 12h}, {@code 3d}, {@code 2 weeks}.
+     * Returns an {@code Optional.empty()} otherwise.
+     */
+    public static Optional<Duration> parseDuration(String args) {
+        final Matcher matcher = DURATION_ARGS_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+
+        long amount = Long.parseLong(matcher.group("amount"));
+        switch (Character.toLowerCase(matcher.group("unit").charAt(0))) {
+        case 'm':
+            return Optional.of(Duration.ofMinutes(amount));
+        case 'h':
+            return Optional.of(Duration.ofHours(amount));
+        case 'd':
+            return Optional.of(Duration.ofDays(amount));
+        default:
+            return Optional.of(Duration.ofDays(amount * 7));
+        }
+    }
+
     /**
      * Returns a new Set populated by all elements in the given list of strings
      * Returns an empty set if the given {@code Optional} is empty,
@@ -2,6 +2,9 @@ package onlythree.imanager.logic.parser;
 
 import static onlythree.imanager.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.time.Duration;
+import java.util.Optional;
+
 import onlythree.imanager.logic.commands.Command;
 import onlythree.imanager.logic.commands.IncorrectCommand;
 import onlythree.imanager.logic.commands.ViewCommand;
@@ -17,6 +20,18 @@ public class ViewCommandParser {
      * and returns an ViewCommand object for execution.
      */
     public Command parse(String args) {
+        String[] typeAndDuration = args.trim().toLowerCase().split("\\s+", 2);
+        if (ViewCommand.isUpcomingType(typeAndDuration[0])) {
+            Optional<Duration> duration = typeAndDuration.length == 2
+                    ? ParserUtil.parseDuration(typeAndDuration[1])
+                    : Optional.empty();
+            if (!duration.isPresent()) {
+                return new IncorrectCommand(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
+            }
+            return new ViewCommand(duration.get());
+        }
+
         String typeOfList = args.trim().toLowerCase();
 
         if (!ViewCommand.isValidCommand(typeOfList)) {
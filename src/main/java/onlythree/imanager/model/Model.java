@@ -1,8 +1,13 @@
 package onlythree.imanager.model;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import onlythree.imanager.commons.core.UnmodifiableObservableList;
+import onlythree.imanager.model.tag.Tag;
 import onlythree.imanager.model.task.IterableTaskList;
 import onlythree.imanager.model.task.ReadOnlyTask;
 import onlythree.imanager.model.task.Task;
@@ -14,12 +19,27 @@ public interface Model {
     /** Clears existing backing model and replaces with the provided new data. */
     void resetData(ReadOnlyTaskList newData);
 
+    /**
+     * Replaces the task list with {@code initialData} as read from storage when the app starts.
+     * Unlike {@link #resetData(ReadOnlyTaskList)}, this is not recorded as a change to be saved or undone.
+     */
+    void setInitialData(ReadOnlyTaskList initialData);
+
+    /** Returns true once the task list read from storage is in the model. */
+    boolean hasInitialData();
+
     /** Returns the TaskList */
     ReadOnlyTaskList getTaskList();
 
     /** Deletes the given task. */
     void deleteTask(ReadOnlyTask target) throws IterableTaskList.TaskNotFoundException;
 
+    /**
+     * Deletes the given tasks as a single change to the task list, so that it is saved once.
+     * No task is deleted if any of them is not in the task list.
+     */
+    void deleteTasks(Collection<? extends ReadOnlyTask> targets) throws IterableTaskList.TaskNotFoundException;
+
     /** Adds the given task */
     void addTask(Task task);
 
@@ -29,42 +49,60 @@ public interface Model {
      * @throws IndexOutOfBoundsException if {@code filteredTaskListIndex} < 0 or >= the size of the filtered list.
      */
     void updateTask(int filteredTaskListIndex, ReadOnlyTask editedTask);
-    //@@author A0148052L
-    /** Check if commandStack is empty*/
-    boolean isCommandStackEmpty();
-
-    /** Check if undoneCommand stack is empty*/
-    boolean isUndoneCommandEmpty();
 
-    /** Check if undoneStatus stack is empty*/
-    boolean isUndoneStatusEmpty();
+    /**
+     * Updates the task located at each filtered task list index in {@code editedTasks} with the task it maps to,
+     * as a single change to the task list, so that it is saved once.
+     *
+     * @throws IndexOutOfBoundsException if any index is < 0 or >= the size of the filtered list.
+     */
+    void updateTasks(Map<Integer, ? extends ReadOnlyTask> editedTasks);
 
-    /** Pushes the command to commandStack*/
-    void pushCommand(String command);
+    /** Returns true if there is a command that can be undone. */
+    boolean canUndo();
 
-    /** Pushes the currentStatus to statusStack*/
-    void pushStatus(ReadOnlyTaskList currentStatus);
+    /** Returns true if there is an undone command that can be redone. */
+    boolean canRedo();
 
-    /** Sets the status after undo*/
-    void setStatusAfterUndo(ReadOnlyTaskList statusAfterUndo);
+    /**
+     * Marks the end of a command, grouping all changes made since the previous command so that they are
+     * undone and redone together. Does nothing if no changes were made.
+     */
+    void pushCommand(String commandWord);
 
-    /** Pops the latest undone status from undoneStatus stack and push it to statusStack*/
-    void popUndoneStatus();
+    /**
+     * Reverts the changes made by the most recent command.
+     * Should only be called if {@link #canUndo()} is true.
+     */
+    void undo();
 
-    /** Pops the latest undone command from undoneCommand stack and push it to commandStack*/
-    void popUndoneCommand();
+    /**
+     * Re-applies the changes made by the most recently undone command.
+     * Should only be called if {@link #canRedo()} is true.
+     */
+    void redo();
 
-    /** Pops the current status from statusStack*/
-    void popCurrentStatus();
+    /**
+     * Starts a batch: until {@link #commit()} or {@link #rollback()}, changes to the task list and the commands
+     * pushed take effect on the task list right away, but no events are raised for them and they are not
+     * recorded for undo or saving. Batches cannot be nested, and undo and redo cannot be used in a batch.
+     */
+    void beginBatch();
 
-    /** Returns the latest command*/
-    String getPreviousCommand();
+    /** Returns true if a batch has been started and not yet committed or rolled back. */
+    boolean isInBatch();
 
-    /** Returns the latest status*/
-    TaskList getPrevStatus();
+    /**
+     * Ends the batch, raising a single event for all of its changes to the task list and to the shown list.
+     * The changes are recorded for undo as if the commands pushed in the batch had been pushed outside of it.
+     */
+    void commit();
 
-    /** Returns the status after undo operation*/
-    TaskList getStatusAfterUndo();
+    /**
+     * Ends the batch, reverting its changes one by one and showing the list that was shown when it started,
+     * filtered as it was then. No events are raised.
+     */
+    void rollback();
 
     //@@author A0140023E
     /** Returns the index of the direct source list given the index from the filtered task list */
@@ -74,6 +112,13 @@ public interface Model {
     /** Returns the filtered task list as an {@code UnmodifiableObservableList<ReadOnlyTask>} */
     UnmodifiableObservableList<ReadOnlyTask> getFilteredTaskList();
 
+    /**
+     * Returns the filtered task list of the view {@code typeOfList} as an
+     * {@code UnmodifiableObservableList<ReadOnlyTask>}. It is kept up to date while other views are shown.
+     * @param typeOfList one of the types of {@link onlythree.imanager.logic.commands.ViewCommand}
+     */
+    UnmodifiableObservableList<ReadOnlyTask> getFilteredTaskList(String typeOfList);
+
     /** Updates the filter of the filtered task list to show all tasks */
     void updateFilteredListToShowAll();
 
@@ -92,6 +137,20 @@ public interface Model {
     /** Updates the filter of the filtered task list to show all today tasks */
     void updateFilteredListToShowToday();
 
+    /** Updates the filter of the filtered task list to show the pending tasks that are due or start within
+     * {@code duration} from now */
+    void updateFilteredListToShowUpcoming(Duration duration);
+
     /** Updates the filter of the filtered task list to filter by the given keywords */
     void updateFilteredTaskList(Set<String> keywords);
+
+    /**
+     * Updates the filter of the filtered task list to show the tasks with a name containing any of
+     * {@code keywords} and with at least one tag of each group in {@code tagGroups}.
+     * No keywords or no tag groups mean that the names or the tags are not checked.
+     */
+    void updateFilteredTaskList(Set<String> keywords, List<Set<Tag>> tagGroups);
+
+    /** Returns the number of tasks in the task list that have {@code tag}. */
+    int getTagUsageCount(Tag tag);
 }
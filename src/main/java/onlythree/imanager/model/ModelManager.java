@@ -1,21 +1,36 @@
 package onlythree.imanager.model;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.Stack;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import onlythree.imanager.commons.core.ComponentManager;
 import onlythree.imanager.commons.core.LogsCenter;
 import onlythree.imanager.commons.core.UnmodifiableObservableList;
 import onlythree.imanager.commons.events.model.TaskListChangedEvent;
+import onlythree.imanager.commons.events.model.TaskListDeltaEvent;
 import onlythree.imanager.commons.events.model.ViewListChangedEvent;
 import onlythree.imanager.commons.events.ui.JumpToListRequestEvent;
-import onlythree.imanager.commons.util.CollectionUtil;
-import onlythree.imanager.commons.util.StringUtil;
 import onlythree.imanager.logic.commands.ViewCommand;
+import onlythree.imanager.model.history.CommandJournal;
+import onlythree.imanager.model.history.TaskListChange;
+import onlythree.imanager.model.history.TaskListDelta;
+import onlythree.imanager.model.tag.Tag;
 import onlythree.imanager.model.task.Deadline;
 import onlythree.imanager.model.task.IterableTaskList.TaskNotFoundException;
 import onlythree.imanager.model.task.ReadOnlyTask;
@@ -30,33 +45,40 @@ public class ModelManager extends ComponentManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final TaskList taskList;
-    private final FilteredList<ReadOnlyTask> filteredTasks;
-    //@@author A0148052L
-    private Stack<TaskList> statusStack;
-    private Stack<String> commandStack;
-    private Stack<TaskList> undoneStatus;
-    private Stack<String> undoneCommand;
-    private TaskList statusAfterUndo;
-    //@@author
+    // the view list of each type of ViewCommand, and the one that is shown
+    private final Map<String, FilteredList<ReadOnlyTask>> viewLists;
+    private FilteredList<ReadOnlyTask> filteredTasks;
+    private final CommandJournal journal;
+    private List<TaskListChange> unsavedChanges = new ArrayList<>();
+    // the batch that changes are deferred to, or null if changes take effect immediately
+    private Batch batch;
+    private boolean hasInitialData;
 
     /**
      * Initializes a ModelManager with the given taskList and userPrefs.
      */
     public ModelManager(ReadOnlyTaskList taskList, UserPrefs userPrefs) {
+        this(userPrefs);
+        assert taskList != null;
+
+        logger.fine("Initializing with task list: " + taskList);
+        setInitialData(taskList);
+    }
+
+    /**
+     * Initializes a ModelManager with an empty task list and the given userPrefs.
+     * The task list read from storage is given later through {@link #setInitialData(ReadOnlyTaskList)}.
+     */
+    public ModelManager(UserPrefs userPrefs) {
         super();
-        assert !CollectionUtil.isAnyNull(taskList, userPrefs);
+        assert userPrefs != null;
 
-        logger.fine("Initializing with task list: " + taskList + " and user prefs " + userPrefs);
+        logger.fine("Initializing with user prefs " + userPrefs);
 
-        this.taskList = new TaskList(taskList);
-        filteredTasks = new FilteredList<>(this.taskList.getTaskList());
-        //@@author A0148052L
-        statusStack = new Stack<TaskList>();
-        commandStack = new Stack<String>();
-        undoneStatus = new Stack<TaskList>();
-        undoneCommand = new Stack<String>();
-        pushStatus(taskList);
-        //@@author
+        this.taskList = new TaskList();
+        viewLists = createViewLists();
+        filteredTasks = viewLists.get(ViewCommand.TYPE_ALL);
+        journal = new CommandJournal(userPrefs.getUndoHistoryLimit(), userPrefs.getUndoMemoryBudgetInBytes());
     }
 
     public ModelManager() {
@@ -65,30 +87,98 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void resetData(ReadOnlyTaskList newData) {
+        TaskList dataBefore = new TaskList(taskList);
         taskList.resetData(newData);
+        recordChange(TaskListChange.reset(dataBefore, new TaskList(taskList)));
         indicateTaskListChanged();
     }
 
+    @Override
+    public synchronized void setInitialData(ReadOnlyTaskList initialData) {
+        assert initialData != null;
+        taskList.resetData(initialData);
+        refreshOverdueView();
+        refreshTodayView();
+        hasInitialData = true;
+    }
+
+    @Override
+    public synchronized boolean hasInitialData() {
+        return hasInitialData;
+    }
+
     @Override
     public ReadOnlyTaskList getTaskList() {
         return taskList;
     }
 
-    /** Raises an event to indicate the model has changed */
+    @Override
+    public int getTagUsageCount(Tag tag) {
+        return taskList.getTagUsageCount(tag);
+    }
+
+    /** Raises the events to indicate the model has changed */
     private void indicateTaskListChanged() {
-        raise(new TaskListChangedEvent(taskList));
+        if (batch != null) {
+            return;
+        }
+        List<TaskListChange> changes = unsavedChanges;
+        unsavedChanges = new ArrayList<>();
+        raise(new TaskListChangedEvent(taskList, changes));
+        raise(new TaskListDeltaEvent(taskList, TaskListDelta.of(changes)));
+    }
+
+    /** Records a change made to the task list so that it can be undone and saved incrementally */
+    private void recordChange(TaskListChange change) {
+        if (batch != null) {
+            batch.changes.add(change);
+            return;
+        }
+        journal.record(change);
+        unsavedChanges.add(change);
     }
 
     //@@author A0135998H
     /** Raises an event to indicate the filteredList has changed */
     private void indicateViewListChanged(String typeOfListView) {
+        if (batch != null) {
+            batch.viewListType = typeOfListView;
+            return;
+        }
         raise(new ViewListChangedEvent(typeOfListView));
     }
 
+    //@@author
+    /** Raises an event to scroll the task list to the task at {@code taskIndex} */
+    private void indicateJumpToList(int taskIndex) {
+        if (batch != null) {
+            batch.jumpIndex = taskIndex;
+            return;
+        }
+        raise(new JumpToListRequestEvent(taskIndex));
+    }
+
     //@@author
     @Override
     public synchronized void deleteTask(ReadOnlyTask target) throws TaskNotFoundException {
-        taskList.removeTask(target);
+        deleteTasks(Collections.singletonList(target));
+    }
+
+    @Override
+    public synchronized void deleteTasks(Collection<? extends ReadOnlyTask> targets) throws TaskNotFoundException {
+        // removed from the last position, so that the positions of the other targets do not change
+        SortedSet<Integer> taskIndices = new TreeSet<>(Comparator.reverseOrder());
+        for (ReadOnlyTask target : targets) {
+            int taskIndex = taskList.indexOf(target);
+            if (taskIndex < 0) {
+                throw new TaskNotFoundException();
+            }
+            taskIndices.add(taskIndex);
+        }
+        for (int taskIndex : taskIndices) {
+            Task removed = taskList.removeTask(taskIndex);
+            recordChange(TaskListChange.removed(taskIndex, removed));
+        }
         indicateTaskListChanged();
     }
 
@@ -99,101 +189,129 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public synchronized void addTask(Task task) {
         int taskIndex = taskList.addTask(task);
+        recordChange(TaskListChange.added(taskIndex, task));
 
         updateFilteredListToShowAll();
 
         indicateTaskListChanged();
 
-        raise(new JumpToListRequestEvent(taskIndex));
+        indicateJumpToList(taskIndex);
     }
 
     //@@author
     @Override
     public void updateTask(int filteredTaskListIndex, ReadOnlyTask editedTask) {
-        assert editedTask != null;
-
-        int taskIndex = filteredTasks.getSourceIndex(filteredTaskListIndex);
+        updateTasks(Collections.singletonMap(filteredTaskListIndex, editedTask));
+    }
 
-        taskList.updateTask(taskIndex, editedTask);
+    @Override
+    public synchronized void updateTasks(Map<Integer, ? extends ReadOnlyTask> editedTasks) {
+        // an updated task may leave the filtered list, so every index is looked up before any task is updated
+        Map<Integer, ReadOnlyTask> editedTasksBySourceIndex = new TreeMap<>();
+        editedTasks.forEach((filteredTaskListIndex, editedTask) -> {
+            assert editedTask != null;
+            editedTasksBySourceIndex.put(filteredTasks.getSourceIndex(filteredTaskListIndex), editedTask);
+        });
 
+        editedTasksBySourceIndex.forEach((taskIndex, editedTask) -> {
+            Task before = taskList.updateTask(taskIndex, editedTask);
+            recordChange(TaskListChange.updated(taskIndex, before, taskList.getTask(taskIndex)));
+        });
         indicateTaskListChanged();
     }
 
-    //@@author A0148052L
-    @Override
-    public boolean isCommandStackEmpty() {
-        return commandStack.isEmpty();
-    }
+    //=========== Undo/Redo ================================================================================
 
     @Override
-    public boolean isUndoneCommandEmpty() {
-        return undoneCommand.isEmpty();
+    public boolean canUndo() {
+        return journal.canUndo();
     }
 
     @Override
-    public boolean isUndoneStatusEmpty() {
-        return undoneStatus.isEmpty();
+    public boolean canRedo() {
+        return journal.canRedo();
     }
 
     @Override
-    public void pushCommand(String command) {
-        commandStack.push(command);
+    public void pushCommand(String commandWord) {
+        if (batch != null) {
+            batch.pushCommand(commandWord);
+            return;
+        }
+        journal.commit(commandWord);
     }
 
     @Override
-    public void pushStatus(ReadOnlyTaskList currentStatus) {
-        TaskList presentStatus = new TaskList(currentStatus);
-        statusStack.push(presentStatus);
+    public synchronized void undo() {
+        assert batch == null;
+        unsavedChanges.addAll(journal.undo(taskList));
+        indicateTaskListChanged();
     }
 
     @Override
-    public void setStatusAfterUndo(ReadOnlyTaskList statusAfterUndo) {
-        TaskList theStatusAfterUndo = new TaskList(statusAfterUndo);
-        this.statusAfterUndo = theStatusAfterUndo;
+    public synchronized void redo() {
+        assert batch == null;
+        unsavedChanges.addAll(journal.redo(taskList));
+        indicateTaskListChanged();
     }
 
-    @Override
-    public void popUndoneStatus() {
-        TaskList latestUndoneStatus = undoneStatus.pop();
-        statusStack.push(latestUndoneStatus);
-    }
+    //=========== Batches =================================================================================
 
     @Override
-    public void popUndoneCommand() {
-        String latestUndoneCommand = undoneCommand.pop();
-        commandStack.push(latestUndoneCommand);
+    public synchronized void beginBatch() {
+        assert batch == null : "Batches cannot be nested";
+        Map<String, Predicate<? super ReadOnlyTask>> predicates = new HashMap<>();
+        viewLists.forEach((typeOfList, viewList) -> predicates.put(typeOfList, viewList.getPredicate()));
+        batch = new Batch(filteredTasks, predicates);
     }
 
     @Override
-    public void popCurrentStatus() {
-        if (!statusStack.isEmpty()) {
-            TaskList currentStatus = statusStack.pop();
-            undoneStatus.push(currentStatus);
-        }
+    public synchronized boolean isInBatch() {
+        return batch != null;
     }
 
     @Override
-    public String getPreviousCommand() {
-        String prevCommand;
-        if (commandStack.isEmpty()) {
-            prevCommand = null;
-        } else {
-            prevCommand = commandStack.pop();
-            undoneCommand.push(prevCommand);
+    public synchronized void commit() {
+        assert batch != null;
+        Batch committed = batch;
+        batch = null;
+
+        // recorded command by command, so that each command in the batch can still be undone on its own
+        int start = 0;
+        for (int i = 0; i < committed.commandWords.size(); i++) {
+            int end = committed.commandEnds.get(i);
+            committed.changes.subList(start, end).forEach(this::recordChange);
+            journal.commit(committed.commandWords.get(i));
+            start = end;
+        }
+        committed.changes.subList(start, committed.changes.size()).forEach(this::recordChange);
+        if (!committed.changes.isEmpty()) {
+            logger.fine("Committing batch of changes: " + TaskListChange.summarize(committed.changes));
+            indicateTaskListChanged();
+        }
+        if (committed.viewListType != null) {
+            indicateViewListChanged(committed.viewListType);
+        }
+        if (committed.jumpIndex >= 0) {
+            indicateJumpToList(committed.jumpIndex);
         }
-        return prevCommand;
-    }
-
-    @Override
-    public TaskList getPrevStatus() {
-        return statusStack.peek();
     }
 
     @Override
-    public TaskList getStatusAfterUndo() {
-        return this.statusAfterUndo;
+    public synchronized void rollback() {
+        assert batch != null;
+        Batch rolledBack = batch;
+        batch = null;
+
+        List<TaskListChange> changes = rolledBack.changes;
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revert(taskList);
+        }
+        rolledBack.predicatesBefore.forEach((typeOfList, predicate) -> {
+            viewLists.get(typeOfList).setPredicate(predicate);
+        });
+        filteredTasks = rolledBack.filteredTasksBefore;
     }
-   //@@author
 
     //=========== Filtered Task List Accessors =============================================================
 
@@ -209,62 +327,165 @@ public class ModelManager extends ComponentManager implements Model {
         return new UnmodifiableObservableList<>(filteredTasks);
     }
 
+    @Override
+    public UnmodifiableObservableList<ReadOnlyTask> getFilteredTaskList(String typeOfList) {
+        assert viewLists.containsKey(typeOfList);
+        return new UnmodifiableObservableList<>(viewLists.get(typeOfList));
+    }
+
     //@@author A0135998H
     @Override
     public void updateFilteredListToShowAll() {
-        indicateViewListChanged(ViewCommand.TYPE_ALL);
-        filteredTasks.setPredicate(null);
+        viewLists.get(ViewCommand.TYPE_ALL).setPredicate(null);
+        showView(ViewCommand.TYPE_ALL);
     }
 
     @Override
     public void updateFilteredListToShowDone() {
-        filteredTasks.setPredicate((Predicate<? super ReadOnlyTask>) task -> {
-            return task.isComplete();
-        });
-        indicateViewListChanged(ViewCommand.TYPE_DONE);
+        showView(ViewCommand.TYPE_DONE);
     }
 
     @Override
     public void updateFilteredListToShowFloating() {
-        filteredTasks.setPredicate((Predicate<? super ReadOnlyTask>) task -> {
-            return isFloating(task) && !(task.isComplete());
-        });
-        indicateViewListChanged(ViewCommand.TYPE_FLOATING);
+        showView(ViewCommand.TYPE_FLOATING);
     }
 
     @Override
     public void updateFilteredListToShowOverdue() {
-        filteredTasks.setPredicate((Predicate<? super ReadOnlyTask>) task -> {
-            return isOverdue(task) && !(task.isComplete());
-        });
-        indicateViewListChanged(ViewCommand.TYPE_OVERDUE);
+        refreshOverdueView();
+        showView(ViewCommand.TYPE_OVERDUE);
     }
 
     @Override
     public void updateFilteredListToShowPending() {
-        filteredTasks.setPredicate((Predicate<? super ReadOnlyTask>) task -> {
-            return !(task.isComplete());
-        });
-        indicateViewListChanged(ViewCommand.TYPE_PENDING);
+        showView(ViewCommand.TYPE_PENDING);
     }
 
     @Override
     public void updateFilteredListToShowToday() {
-        filteredTasks.setPredicate((Predicate<? super ReadOnlyTask>) task -> {
-            return isToday(task) && !(task.isComplete());
+        refreshTodayView();
+        showView(ViewCommand.TYPE_TODAY);
+    }
+
+    //@@author
+    @Override
+    public void updateFilteredListToShowUpcoming(Duration duration) {
+        assert duration != null && !duration.isNegative();
+        ZonedDateTime now = ZonedDateTime.now();
+        ZonedDateTime end = now.plus(duration);
+        Set<ReadOnlyTask> candidates = taskList.getTasksDueBetween(now, end);
+        candidates.addAll(taskList.getTasksStartingBetween(now, end));
+        updateFilteredTaskList(viewLists.get(ViewCommand.TYPE_ALL), candidates, task -> {
+            return isUpcoming(task, now, end) && !(task.isComplete());
         });
-        indicateViewListChanged(ViewCommand.TYPE_TODAY);
+        showView(ViewCommand.TYPE_ALL);
     }
 
     @Override
     public void updateFilteredTaskList(Set<String> keywords) {
-        indicateViewListChanged(ViewCommand.TYPE_ALL);
-        updateFilteredTaskList(new PredicateExpression(new NameQualifier(keywords)));
+        updateFilteredTaskList(keywords, Collections.emptyList());
+    }
+
+    @Override
+    public void updateFilteredTaskList(Set<String> keywords, List<Set<Tag>> tagGroups) {
+        assert !keywords.isEmpty() || !tagGroups.isEmpty();
+        List<Qualifier> qualifiers = new ArrayList<>();
+        if (!keywords.isEmpty()) {
+            qualifiers.add(new NameQualifier(keywords));
+        }
+        if (!tagGroups.isEmpty()) {
+            qualifiers.add(new TagQualifier(tagGroups));
+        }
+        updateFilteredTaskList(new PredicateExpression(new AllQualifier(qualifiers)));
+        showView(ViewCommand.TYPE_ALL);
     }
 
-    //@@author
     private void updateFilteredTaskList(Expression expression) {
-        filteredTasks.setPredicate(expression::satisfies);
+        viewLists.get(ViewCommand.TYPE_ALL).setPredicate(expression::satisfies);
+    }
+
+    /**
+     * Updates the filter of {@code viewList} to show the tasks in {@code candidates} that satisfy
+     * {@code qualifier}. {@code candidates} should be found with a range query on the task list, so that
+     * {@code qualifier} is only checked for the tasks that can satisfy it.
+     * Tasks put in the task list after this call are checked with {@code qualifier} alone.
+     */
+    private void updateFilteredTaskList(FilteredList<ReadOnlyTask> viewList, Set<ReadOnlyTask> candidates,
+            Predicate<ReadOnlyTask> qualifier) {
+        RangeQueryPredicate predicate = new RangeQueryPredicate(candidates, qualifier);
+        viewList.setPredicate(predicate);
+        predicate.startCheckingNewTasks();
+    }
+
+    /**
+     * Makes the view list of {@code typeOfList} the filtered task list, without filtering any tasks.
+     */
+    private void showView(String typeOfList) {
+        filteredTasks = viewLists.get(typeOfList);
+        indicateViewListChanged(typeOfList);
+    }
+
+    /**
+     * Creates a view list for each type of {@link ViewCommand}. Each view list follows the changes to the task
+     * list, only checking the tasks that changed, so switching between them does not filter the task list again.
+     */
+    private Map<String, FilteredList<ReadOnlyTask>> createViewLists() {
+        Map<String, FilteredList<ReadOnlyTask>> viewLists = new HashMap<>();
+        ObservableList<ReadOnlyTask> tasks = taskList.getTaskList();
+        viewLists.put(ViewCommand.TYPE_ALL, new FilteredList<>(tasks));
+        viewLists.put(ViewCommand.TYPE_DONE, new FilteredList<>(tasks, task -> task.isComplete()));
+        viewLists.put(ViewCommand.TYPE_FLOATING,
+                new FilteredList<>(tasks, task -> isFloating(task) && !(task.isComplete())));
+        viewLists.put(ViewCommand.TYPE_OVERDUE, new FilteredList<>(tasks));
+        viewLists.put(ViewCommand.TYPE_PENDING, new FilteredList<>(tasks, task -> !(task.isComplete())));
+        viewLists.put(ViewCommand.TYPE_TODAY, new FilteredList<>(tasks));
+        return viewLists;
+    }
+
+    /**
+     * Filters the overdue view list again, as tasks become overdue with time.
+     */
+    private void refreshOverdueView() {
+        ZonedDateTime now = ZonedDateTime.now();
+        updateFilteredTaskList(viewLists.get(ViewCommand.TYPE_OVERDUE), taskList.getTasksDueBefore(now), task -> {
+            return isOverdue(task, now) && !(task.isComplete());
+        });
+    }
+
+    /**
+     * Filters the today view list again, as tasks stop being in progress or due with time.
+     */
+    private void refreshTodayView() {
+        ZonedDateTime now = ZonedDateTime.now();
+        updateFilteredTaskList(viewLists.get(ViewCommand.TYPE_TODAY), taskList.getTasksDueFrom(now), task -> {
+            return isToday(task, now) && !(task.isComplete());
+        });
+    }
+
+    /**
+     * The changes made since {@link #beginBatch()}, and the events to raise for them once the batch is committed.
+     */
+    private static class Batch {
+        private final FilteredList<ReadOnlyTask> filteredTasksBefore;
+        // the filter of each view list, as e.g. find or add change them
+        private final Map<String, Predicate<? super ReadOnlyTask>> predicatesBefore;
+        private final List<TaskListChange> changes = new ArrayList<>();
+        // the commands pushed in the batch, and the number of changes made by the end of each of them
+        private final List<String> commandWords = new ArrayList<>();
+        private final List<Integer> commandEnds = new ArrayList<>();
+        private String viewListType;
+        private int jumpIndex = -1;
+
+        Batch(FilteredList<ReadOnlyTask> filteredTasksBefore,
+                Map<String, Predicate<? super ReadOnlyTask>> predicatesBefore) {
+            this.filteredTasksBefore = filteredTasksBefore;
+            this.predicatesBefore = predicatesBefore;
+        }
+
+        void pushCommand(String commandWord) {
+            commandWords.add(commandWord);
+            commandEnds.add(changes.size());
+        }
     }
 
     //========== Inner classes/interfaces used for filtering =================================================
@@ -293,6 +514,31 @@ public class ModelManager extends ComponentManager implements Model {
         }
     }
 
+    /**
+     * A predicate that only checks its qualifier for the candidates of a range query while the filtered list is
+     * filtering the tasks that the range query was made on, and for every task after that.
+     */
+    private static class RangeQueryPredicate implements Predicate<ReadOnlyTask> {
+
+        private final Set<ReadOnlyTask> candidates;
+        private final Predicate<ReadOnlyTask> qualifier;
+        private boolean isCheckingNewTasks = false;
+
+        RangeQueryPredicate(Set<ReadOnlyTask> candidates, Predicate<ReadOnlyTask> qualifier) {
+            this.candidates = candidates;
+            this.qualifier = qualifier;
+        }
+
+        void startCheckingNewTasks() {
+            isCheckingNewTasks = true;
+        }
+
+        @Override
+        public boolean test(ReadOnlyTask task) {
+            return (isCheckingNewTasks || candidates.contains(task)) && qualifier.test(task);
+        }
+    }
+
     interface Qualifier {
         boolean run(ReadOnlyTask task);
         String toString();
@@ -300,17 +546,16 @@ public class ModelManager extends ComponentManager implements Model {
 
     private class NameQualifier implements Qualifier {
         private Set<String> nameKeyWords;
+        private Predicate<ReadOnlyTask> nameContainsAnyKeyWord;
 
         NameQualifier(Set<String> nameKeyWords) {
             this.nameKeyWords = nameKeyWords;
+            this.nameContainsAnyKeyWord = taskList.nameContainsAnyWord(nameKeyWords);
         }
 
         @Override
         public boolean run(ReadOnlyTask task) {
-            return nameKeyWords.stream()
-                    .filter(keyword -> StringUtil.containsWordIgnoreCase(task.getName().value, keyword))
-                    .findAny()
-                    .isPresent();
+            return nameContainsAnyKeyWord.test(task);
         }
 
         @Override
@@ -319,9 +564,67 @@ public class ModelManager extends ComponentManager implements Model {
         }
     }
 
+    /**
+     * Qualifies the tasks with at least one tag of each tag group.
+     */
+    private class TagQualifier implements Qualifier {
+        private List<Set<Tag>> tagGroups;
+        private Predicate<ReadOnlyTask> hasAnyTagOfEachGroup;
+
+        TagQualifier(List<Set<Tag>> tagGroups) {
+            this.tagGroups = tagGroups;
+            this.hasAnyTagOfEachGroup = taskList.hasAnyTagOfEach(tagGroups);
+        }
+
+        @Override
+        public boolean run(ReadOnlyTask task) {
+            return hasAnyTagOfEachGroup.test(task);
+        }
+
+        @Override
+        public String toString() {
+            return "tags=" + tagGroups.stream()
+                    .map(group -> group.stream().map(Tag::toString).collect(Collectors.joining(" or ")))
+                    .collect(Collectors.joining(" and "));
+        }
+    }
+
+    /**
+     * Qualifies the tasks that satisfy all of its qualifiers.
+     */
+    private static class AllQualifier implements Qualifier {
+        private List<Qualifier> qualifiers;
+
+        AllQualifier(List<Qualifier> qualifiers) {
+            this.qualifiers = qualifiers;
+        }
+
+        @Override
+        public boolean run(ReadOnlyTask task) {
+            for (Qualifier qualifier : qualifiers) {
+                if (!qualifier.run(task)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return qualifiers.stream().map(Qualifier::toString).collect(Collectors.joining("; "));
+        }
+    }
+
     //@@author A0135998H
     public boolean isOverdue(ReadOnlyTask task) {
-        ZonedDateTime currentDateTime = ZonedDateTime.now();
+        return isOverdue(task, ZonedDateTime.now());
+    }
+
+    //@@author
+    /**
+     * Returns true if {@code task} is overdue at {@code currentDateTime}.
+     */
+    public boolean isOverdue(ReadOnlyTask task, ZonedDateTime currentDateTime) {
         if (task.getStartEndDateTime().isPresent()) {
             StartEndDateTime startEndDateTime = task.getStartEndDateTime().get();
             return currentDateTime.isAfter(startEndDateTime.getEndDateTime());
@@ -332,12 +635,21 @@ public class ModelManager extends ComponentManager implements Model {
         return false;
     }
 
+    //@@author A0135998H
     public boolean isFloating(ReadOnlyTask task) {
         return !(task.getStartEndDateTime().isPresent()) && !(task.getDeadline().isPresent());
     }
 
+    //@@author A0135998H
     public boolean isToday(ReadOnlyTask task) {
-        ZonedDateTime currentDateTime = ZonedDateTime.now();
+        return isToday(task, ZonedDateTime.now());
+    }
+
+    //@@author
+    /**
+     * Returns true if {@code task} is in progress, or its deadline has not passed, at {@code currentDateTime}.
+     */
+    public boolean isToday(ReadOnlyTask task, ZonedDateTime currentDateTime) {
         if (task.getStartEndDateTime().isPresent()) {
             StartEndDateTime startEndDateTime = task.getStartEndDateTime().get();
             return !(currentDateTime.isBefore(startEndDateTime.getStartDateTime())
@@ -349,4 +661,19 @@ public class ModelManager extends ComponentManager implements Model {
         return false;
     }
 
+    /**
+     * Returns true if {@code task} has a deadline, or a duration that starts, from {@code from} to {@code to}.
+     */
+    public boolean isUpcoming(ReadOnlyTask task, ZonedDateTime from, ZonedDateTime to) {
+        ZonedDateTime dateTime;
+        if (task.getStartEndDateTime().isPresent()) {
+            dateTime = task.getStartEndDateTime().get().getStartDateTime();
+        } else if (task.getDeadline().isPresent()) {
+            dateTime = task.getDeadline().get().getDateTime();
+        } else {
+            return false;
+        }
+        return !(dateTime.isBefore(from) || dateTime.isAfter(to));
+    }
+
 }
@@ -0,0 +1,73 @@
+package onlythree.imanager.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import onlythree.imanager.model.task.ReadOnlyTask;
+
+/**
+ * An inverted index from each word in the task names to the tasks whose names contain that word.
+ * Words are compared case insensitively. Tasks are compared by reference, so a task must be removed from the
+ * index with the same object that was added.
+ */
+class NameKeywordIndex {
+
+    private final Map<String, Set<ReadOnlyTask>> tasksByWord = new HashMap<>();
+
+    /**
+     * Returns {@code word} in the form used as a key of the index.
+     */
+    static String normalize(String word) {
+        return word.trim().toLowerCase();
+    }
+
+    public void add(ReadOnlyTask task) {
+        for (String word : getWords(task)) {
+            tasksByWord.computeIfAbsent(word, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(task);
+        }
+    }
+
+    public void addAll(Iterable<? extends ReadOnlyTask> tasks) {
+        tasks.forEach(this::add);
+    }
+
+    public void remove(ReadOnlyTask task) {
+        for (String word : getWords(task)) {
+            Set<ReadOnlyTask> tasks = tasksByWord.get(word);
+            if (tasks == null) {
+                continue;
+            }
+            tasks.remove(task);
+            if (tasks.isEmpty()) {
+                tasksByWord.remove(word);
+            }
+        }
+    }
+
+    public void clear() {
+        tasksByWord.clear();
+    }
+
+    /**
+     * Returns true if the name of {@code task} contains any of {@code normalizedWords}.
+     * @param normalizedWords words that have been through {@link #normalize(String)}
+     */
+    public boolean containsAnyWord(ReadOnlyTask task, Collection<String> normalizedWords) {
+        for (String word : normalizedWords) {
+            Set<ReadOnlyTask> tasks = tasksByWord.get(word);
+            if (tasks != null && tasks.contains(task)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String[] getWords(ReadOnlyTask task) {
+        return normalize(task.getName().value).split("\\s+");
+    }
+}
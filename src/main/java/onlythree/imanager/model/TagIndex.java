@@ -0,0 +1,98 @@
+package onlythree.imanager.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import onlythree.imanager.model.tag.Tag;
+import onlythree.imanager.model.task.ReadOnlyTask;
+
+/**
+ * An inverted index from each tag to the ids of the tasks that have it, so that tasks can be matched by tag
+ * without going through their tags, and the number of tasks with a tag is known without counting them.
+ * Tasks are compared by id, so every task in the index must have an id that no other task in it has.
+ */
+class TagIndex {
+
+    private final Map<Tag, Set<Long>> taskIdsByTag = new HashMap<>();
+    private int modificationCount;
+
+    public void add(ReadOnlyTask task) {
+        assert task.getId() != ReadOnlyTask.NO_ID;
+        modificationCount++;
+        for (Tag tag : task.getTagSet()) {
+            taskIdsByTag.computeIfAbsent(tag, unused -> new HashSet<>()).add(task.getId());
+        }
+    }
+
+    public void addAll(Iterable<? extends ReadOnlyTask> tasks) {
+        tasks.forEach(this::add);
+    }
+
+    public void remove(ReadOnlyTask task) {
+        modificationCount++;
+        for (Tag tag : task.getTagSet()) {
+            Set<Long> taskIds = taskIdsByTag.get(tag);
+            if (taskIds == null) {
+                continue;
+            }
+            taskIds.remove(task.getId());
+            if (taskIds.isEmpty()) {
+                taskIdsByTag.remove(tag);
+            }
+        }
+    }
+
+    public void clear() {
+        modificationCount++;
+        taskIdsByTag.clear();
+    }
+
+    /**
+     * Returns a number that changes whenever a task is added to or removed from the index, so that results
+     * computed from the index can tell when they are out of date.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the number of tasks that have {@code tag}.
+     */
+    public int getTaskCount(Tag tag) {
+        Set<Long> taskIds = taskIdsByTag.get(tag);
+        return taskIds == null ? 0 : taskIds.size();
+    }
+
+    /**
+     * Returns the ids of the tasks that have at least one tag from every one of {@code tagGroups}, which must not
+     * be empty. The tasks of each group are found as the union of the tasks of its tags, and the groups are then
+     * intersected starting from the one with the fewest tasks.
+     */
+    public Set<Long> getTaskIdsWithAnyTagOfEach(List<Set<Tag>> tagGroups) {
+        assert !tagGroups.isEmpty();
+        List<Set<Long>> taskIdsOfGroups = new ArrayList<>();
+        for (Set<Tag> group : tagGroups) {
+            Set<Long> taskIdsOfGroup = new HashSet<>();
+            for (Tag tag : group) {
+                taskIdsOfGroup.addAll(taskIdsByTag.getOrDefault(tag, Collections.emptySet()));
+            }
+            if (taskIdsOfGroup.isEmpty()) {
+                return Collections.emptySet();
+            }
+            taskIdsOfGroups.add(taskIdsOfGroup);
+        }
+
+        taskIdsOfGroups.sort(Comparator.comparingInt(Set::size));
+        Set<Long> taskIds = taskIdsOfGroups.get(0);
+        for (int i = 1; i < taskIdsOfGroups.size() && !taskIds.isEmpty(); i++) {
+            taskIds.retainAll(taskIdsOfGroups.get(i));
+        }
+        return taskIds;
+    }
+}
@@ -1,12 +1,14 @@
 package onlythree.imanager.model;
 
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import onlythree.imanager.commons.core.UnmodifiableObservableList;
@@ -20,11 +22,18 @@ import onlythree.imanager.model.task.Task;
 /**
  * Wraps all data at the task list level
  * Duplicates are not allowed for tags (by .equals comparison)
+ * Every task is given an id that is unique in the task list when it is added, unless it already has one.
  */
 public class TaskList implements ReadOnlyTaskList {
 
     private final IterableTaskList tasks;
     private final UniqueTagList tags;
+    // must be updated before the tasks are changed, as the task list's listeners may query them
+    private final NameKeywordIndex nameIndex;
+    private final TaskTimeIndex timeIndex;
+    private final TagIndex tagIndex;
+    // the id given to the next task added without an id, always greater than the id of every task added
+    private long nextId = 1;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -36,6 +45,9 @@ public class TaskList implements ReadOnlyTaskList {
     {
         tasks = new IterableTaskList();
         tags = new UniqueTagList();
+        nameIndex = new NameKeywordIndex();
+        timeIndex = new TaskTimeIndex();
+        tagIndex = new TagIndex();
     }
 
     public TaskList() {}
@@ -51,11 +63,32 @@ public class TaskList implements ReadOnlyTaskList {
 //// list overwrite operations
 
     public void setTasks(List<? extends ReadOnlyTask> tasks) {
-        this.tasks.setTasks(tasks);
+        IterableTaskList replacement = new IterableTaskList();
+        for (ReadOnlyTask task : tasks) {
+            Task copy;
+            try {
+                copy = new Task(task);
+            } catch (IllegalValueException e) {
+                throw new AssertionError("Copying a valid task should always result in a valid task");
+            }
+            assignId(copy, replacement);
+            replacement.add(copy);
+        }
+        nameIndex.clear();
+        nameIndex.addAll(replacement);
+        timeIndex.clear();
+        timeIndex.addAll(replacement);
+        tagIndex.clear();
+        tagIndex.addAll(replacement);
+        this.tasks.setTasks(replacement);
     }
 
     public void setTags(Collection<Tag> tags) throws UniqueTagList.DuplicateTagException {
-        this.tags.setTags(tags);
+        List<Tag> internedTags = new ArrayList<>(tags.size());
+        for (Tag tag : tags) {
+            internedTags.add(Tag.intern(tag));
+        }
+        this.tags.setTags(internedTags);
     }
 
     public void resetData(ReadOnlyTaskList newData) {
@@ -78,19 +111,49 @@ public class TaskList implements ReadOnlyTaskList {
      * and updates the Tag objects in the task to point to those in {@link #tags}.
      */
     public int addTask(Task p) {
+        assignId(p, tasks);
         syncMasterTagListWith(p);
+        addToIndices(p);
         return tasks.add(p);
     }
 
+    /**
+     * Inserts a task at position {@code index} of the task list.
+     * Tags are handled the same way as {@link #addTask(Task)}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} < 0 or > the size of the list.
+     */
+    public void addTask(int index, Task p) {
+        if (index < 0 || index > tasks.asObservableList().size()) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        assignId(p, tasks);
+        syncMasterTagListWith(p);
+        addToIndices(p);
+        tasks.add(index, p);
+    }
+
     //@@author
     /**
-     * Updates the task in the list at position {@code index} with {@code editedReadOnlyTask}.
+     * Gives {@code task} a new id if it has none, or if its id is already used by a task in {@code tasks}.
+     */
+    private void assignId(Task task, IterableTaskList tasks) {
+        if (task.getId() == ReadOnlyTask.NO_ID || tasks.indexOfId(task.getId()) >= 0) {
+            task.setId(nextId);
+        }
+        nextId = Math.max(nextId, task.getId() + 1);
+    }
+
+    /**
+     * Updates the task in the list at position {@code index} in place with the details of
+     * {@code editedReadOnlyTask}, and returns a copy of the task as it was before. The task keeps its id.
      * {@code TaskList}'s tag list will be updated with the tags of {@code editedReadOnlyTask}.
      * @see #syncMasterTagListWith(Task)
+     * @see IterableTaskList#updateTask(int, ReadOnlyTask)
      *
      * @throws IndexOutOfBoundsException if {@code index} < 0 or >= the size of the list.
      */
-    public void updateTask(int index, ReadOnlyTask editedReadOnlyTask) {
+    public Task updateTask(int index, ReadOnlyTask editedReadOnlyTask) {
         assert editedReadOnlyTask != null;
 
         Task editedTask;
@@ -103,51 +166,197 @@ public class TaskList implements ReadOnlyTaskList {
         // TODO: the tags master list will be updated even though the below line fails.
         // This can cause the tags master list to have additional tags that are not tagged to any task
         // in the task list.
-        tasks.updateTask(index, editedTask);
+        Task task = tasks.get(index);
+        // the indices find tasks by their details, so the task must be removed before its details change
+        removeFromIndices(task);
+        Task before = tasks.updateTask(index, editedTask);
+        addToIndices(task);
+        // the filtered lists look the task up in the indices when they check it again
+        tasks.fireUpdated(index);
+        return before;
     }
 
     /**
-     * Ensures that every tag in this task:
-     *  - exists in the master list {@link #tags}
-     *  - points to a Tag object in the master list
+     * Ensures that every tag in this task exists in the master list {@link #tags}.
+     * The task and the master list share the same Tag objects, as both hold interned tags.
+     * A tag already used by a task in {@link #tagIndex} is in the master list, so only new tags are looked up.
      */
     private void syncMasterTagListWith(Task task) {
-        final UniqueTagList taskTags = task.getTags();
-        tags.mergeFrom(taskTags);
-
-        // Create map with values = tag object references in the master list
-        // used for checking task tag references
-        final Map<Tag, Tag> masterTagObjects = new HashMap<>();
-        tags.forEach(tag -> masterTagObjects.put(tag, tag));
-
-        // Rebuild the list of task tags to point to the relevant tags in the master tag list.
-        final Set<Tag> correctTagReferences = new HashSet<>();
-        taskTags.forEach(tag -> correctTagReferences.add(masterTagObjects.get(tag)));
-        task.setTags(new UniqueTagList(correctTagReferences));
+        Set<Tag> taskTags = new HashSet<>();
+        for (Tag tag : task.getTagSet()) {
+            if (tagIndex.getTaskCount(tag) == 0) {
+                addToMasterTagList(tag);
+            }
+            taskTags.add(tag);
+        }
+        if (taskTags.size() > 1) {
+            // the tags of a task are kept in the same order wherever they came from
+            task.setTags(new UniqueTagList(taskTags));
+        }
     }
 
     /**
-     * Ensures that every tag in these tasks:
-     *  - exists in the master list {@link #tags}
-     *  - points to a Tag object in the master list
-     *  @see #syncMasterTagListWith(Task)
+     * Ensures that every tag in these tasks exists in the master list {@link #tags}.
+     * Unlike {@link #syncMasterTagListWith(Task)}, this looks up every tag, as the master list may have been
+     * replaced.
      */
     private void syncMasterTagListWith(IterableTaskList tasks) {
-        tasks.forEach(this::syncMasterTagListWith);
+        for (Task task : tasks) {
+            for (Tag tag : task.getTagSet()) {
+                addToMasterTagList(tag);
+            }
+        }
+    }
+
+    private void addToMasterTagList(Tag tag) {
+        if (tags.contains(tag)) {
+            return;
+        }
+        try {
+            tags.add(Tag.intern(tag));
+        } catch (UniqueTagList.DuplicateTagException e) {
+            throw new AssertionError("A tag not in the master list cannot be a duplicate", e);
+        }
     }
 
     public boolean removeTask(ReadOnlyTask key) throws IterableTaskList.TaskNotFoundException {
-        if (tasks.remove(key)) {
-            return true;
-        } else {
+        int index = tasks.indexOf(key);
+        if (index == -1) {
             throw new IterableTaskList.TaskNotFoundException();
         }
+        removeTask(index);
+        return true;
+    }
+
+    /**
+     * Removes the task at position {@code index} and returns it.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} < 0 or >= the size of the list.
+     */
+    public Task removeTask(int index) {
+        removeFromIndices(tasks.get(index));
+        return tasks.remove(index);
+    }
+
+    /**
+     * Returns the task at position {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} < 0 or >= the size of the list.
+     */
+    public Task getTask(int index) {
+        return tasks.get(index);
+    }
+
+    /**
+     * Returns the position of the task with the id of {@code task}, or -1 if there is no such task.
+     */
+    public int indexOf(ReadOnlyTask task) {
+        return tasks.indexOf(task);
+    }
+
+    /**
+     * Returns the position of the task with id {@code id}, or -1 if there is no such task.
+     */
+    public int indexOfId(long id) {
+        return tasks.indexOfId(id);
+    }
+
+    /**
+     * Returns a predicate that is true for the tasks in this task list whose names contain any of
+     * {@code keywords} as a full word, ignoring case.
+     * The predicate looks tasks up in an index of the task names instead of searching the names, and stays
+     * correct as this task list changes. It is false for tasks that are not elements of {@link #getTaskList()}.
+     */
+    public Predicate<ReadOnlyTask> nameContainsAnyWord(Collection<String> keywords) {
+        List<String> normalizedKeywords = keywords.stream()
+                .map(NameKeywordIndex::normalize)
+                .collect(Collectors.toList());
+        return task -> nameIndex.containsAnyWord(task, normalizedKeywords);
+    }
+
+    /**
+     * Returns a predicate that is true for the tasks in this task list that have at least one tag from every one
+     * of {@code tagGroups}. For example, groups {work} and {urgent, later} match the tasks tagged work and
+     * either urgent or later.
+     * The ids of the matching tasks are found from an index of the tags when the predicate is first tested, so
+     * testing a task only takes a single lookup. They are found again the next time it is tested after this task
+     * list changes, so like {@link #nameContainsAnyWord(Collection)}, the predicate stays correct as this task list
+     * changes and is false for tasks that are not elements of {@link #getTaskList()}.
+     */
+    public Predicate<ReadOnlyTask> hasAnyTagOfEach(List<Set<Tag>> tagGroups) {
+        if (tagGroups.isEmpty()) {
+            return task -> true;
+        }
+        List<Set<Tag>> groups = new ArrayList<>(tagGroups);
+        return new Predicate<ReadOnlyTask>() {
+            private Set<Long> matchingTaskIds;
+            private int tagIndexModificationCount;
+
+            @Override
+            public boolean test(ReadOnlyTask task) {
+                if (matchingTaskIds == null || tagIndexModificationCount != tagIndex.getModificationCount()) {
+                    matchingTaskIds = tagIndex.getTaskIdsWithAnyTagOfEach(groups);
+                    tagIndexModificationCount = tagIndex.getModificationCount();
+                }
+                return matchingTaskIds.contains(task.getId());
+            }
+        };
+    }
+
+    /**
+     * Returns the number of tasks in this task list that have {@code tag}.
+     */
+    public int getTagUsageCount(Tag tag) {
+        return tagIndex.getTaskCount(tag);
+    }
+
+    /**
+     * Returns the tasks that are due strictly before {@code dateTime}.
+     * A task is due at the end of its duration, or at its deadline. Floating tasks are never due.
+     */
+    public Set<ReadOnlyTask> getTasksDueBefore(ZonedDateTime dateTime) {
+        return timeIndex.getTasksDueBefore(dateTime.toInstant());
+    }
+
+    /**
+     * Returns the tasks that are due at or after {@code dateTime}.
+     * @see #getTasksDueBefore(ZonedDateTime)
+     */
+    public Set<ReadOnlyTask> getTasksDueFrom(ZonedDateTime dateTime) {
+        return timeIndex.getTasksDueFrom(dateTime.toInstant());
+    }
+
+    /**
+     * Returns the tasks that are due from {@code from} to {@code to}, both inclusive.
+     * @see #getTasksDueBefore(ZonedDateTime)
+     */
+    public Set<ReadOnlyTask> getTasksDueBetween(ZonedDateTime from, ZonedDateTime to) {
+        return timeIndex.getTasksDueBetween(from.toInstant(), to.toInstant());
+    }
+
+    /**
+     * Returns the tasks with a duration that starts from {@code from} to {@code to}, both inclusive.
+     */
+    public Set<ReadOnlyTask> getTasksStartingBetween(ZonedDateTime from, ZonedDateTime to) {
+        return timeIndex.getTasksStartingBetween(from.toInstant(), to.toInstant());
+    }
+
+    private void addToIndices(Task task) {
+        nameIndex.add(task);
+        timeIndex.add(task);
+        tagIndex.add(task);
+    }
+
+    private void removeFromIndices(Task task) {
+        nameIndex.remove(task);
+        timeIndex.remove(task);
+        tagIndex.remove(task);
     }
 
 //// tag-level operations
 
     public void addTag(Tag t) throws UniqueTagList.DuplicateTagException {
-        tags.add(t);
+        tags.add(Tag.intern(t));
     }
 
 //// util methods
@@ -0,0 +1,102 @@
+package onlythree.imanager.model;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import onlythree.imanager.model.task.ReadOnlyTask;
+import onlythree.imanager.model.task.StartEndDateTime;
+
+/**
+ * Indexes tasks by the instants at which they are due, so that the tasks due within a range of time can be found
+ * without checking every task. A task is due at the end of its duration, or at its deadline.
+ * Tasks with a duration are also indexed by the instant at which they start.
+ * Tasks are compared by reference, so a task must be removed from the index with the same object that was added.
+ */
+class TaskTimeIndex {
+
+    private final NavigableMap<Instant, Set<ReadOnlyTask>> tasksByDueInstant = new TreeMap<>();
+    private final NavigableMap<Instant, Set<ReadOnlyTask>> tasksByStartInstant = new TreeMap<>();
+
+    public void add(ReadOnlyTask task) {
+        if (task.getStartEndDateTime().isPresent()) {
+            StartEndDateTime startEndDateTime = task.getStartEndDateTime().get();
+            addTo(tasksByDueInstant, startEndDateTime.getEndDateTime().toInstant(), task);
+            addTo(tasksByStartInstant, startEndDateTime.getStartDateTime().toInstant(), task);
+        } else if (task.getDeadline().isPresent()) {
+            addTo(tasksByDueInstant, task.getDeadline().get().getDateTime().toInstant(), task);
+        }
+    }
+
+    public void addAll(Iterable<? extends ReadOnlyTask> tasks) {
+        tasks.forEach(this::add);
+    }
+
+    public void remove(ReadOnlyTask task) {
+        if (task.getStartEndDateTime().isPresent()) {
+            StartEndDateTime startEndDateTime = task.getStartEndDateTime().get();
+            removeFrom(tasksByDueInstant, startEndDateTime.getEndDateTime().toInstant(), task);
+            removeFrom(tasksByStartInstant, startEndDateTime.getStartDateTime().toInstant(), task);
+        } else if (task.getDeadline().isPresent()) {
+            removeFrom(tasksByDueInstant, task.getDeadline().get().getDateTime().toInstant(), task);
+        }
+    }
+
+    public void clear() {
+        tasksByDueInstant.clear();
+        tasksByStartInstant.clear();
+    }
+
+    /**
+     * Returns the tasks that are due strictly before {@code instant}.
+     */
+    public Set<ReadOnlyTask> getTasksDueBefore(Instant instant) {
+        return union(tasksByDueInstant.headMap(instant, false));
+    }
+
+    /**
+     * Returns the tasks that are due at or after {@code instant}.
+     */
+    public Set<ReadOnlyTask> getTasksDueFrom(Instant instant) {
+        return union(tasksByDueInstant.tailMap(instant, true));
+    }
+
+    /**
+     * Returns the tasks that are due from {@code from} to {@code to}, both inclusive.
+     */
+    public Set<ReadOnlyTask> getTasksDueBetween(Instant from, Instant to) {
+        return union(tasksByDueInstant.subMap(from, true, to, true));
+    }
+
+    /**
+     * Returns the tasks with a duration that starts from {@code from} to {@code to}, both inclusive.
+     */
+    public Set<ReadOnlyTask> getTasksStartingBetween(Instant from, Instant to) {
+        return union(tasksByStartInstant.subMap(from, true, to, true));
+    }
+
+    private static void addTo(Map<Instant, Set<ReadOnlyTask>> index, Instant instant, ReadOnlyTask task) {
+        index.computeIfAbsent(instant, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(task);
+    }
+
+    private static void removeFrom(Map<Instant, Set<ReadOnlyTask>> index, Instant instant, ReadOnlyTask task) {
+        Set<ReadOnlyTask> tasks = index.get(instant);
+        if (tasks == null) {
+            return;
+        }
+        tasks.remove(task);
+        if (tasks.isEmpty()) {
+            index.remove(instant);
+        }
+    }
+
+    private static Set<ReadOnlyTask> union(Map<Instant, Set<ReadOnlyTask>> range) {
+        Set<ReadOnlyTask> tasks = Collections.newSetFromMap(new IdentityHashMap<>());
+        range.values().forEach(tasks::addAll);
+        return tasks;
+    }
+}
@@ -9,7 +9,12 @@ import onlythree.imanager.commons.core.GuiSettings;
  */
 public class UserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_LIMIT = 100;
+    public static final long DEFAULT_UNDO_MEMORY_BUDGET_IN_BYTES = 16 * 1024 * 1024;
+
     public GuiSettings guiSettings;
+    private int undoHistoryLimit = DEFAULT_UNDO_HISTORY_LIMIT;
+    private long undoMemoryBudgetInBytes = DEFAULT_UNDO_MEMORY_BUDGET_IN_BYTES;
 
     public GuiSettings getGuiSettings() {
         return guiSettings == null ? new GuiSettings() : guiSettings;
@@ -27,6 +32,30 @@ public class UserPrefs {
         guiSettings = new GuiSettings(width, height, x, y);
     }
 
+    /**
+     * Returns the maximum number of commands that can be undone.
+     * Falls back to the default if the stored value is not positive.
+     */
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit > 0 ? undoHistoryLimit : DEFAULT_UNDO_HISTORY_LIMIT;
+    }
+
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    /**
+     * Returns the estimated memory, in bytes, that the undo history may use.
+     * Falls back to the default if the stored value is not positive.
+     */
+    public long getUndoMemoryBudgetInBytes() {
+        return undoMemoryBudgetInBytes > 0 ? undoMemoryBudgetInBytes : DEFAULT_UNDO_MEMORY_BUDGET_IN_BYTES;
+    }
+
+    public void setUndoMemoryBudgetInBytes(long undoMemoryBudgetInBytes) {
+        this.undoMemoryBudgetInBytes = undoMemoryBudgetInBytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -38,17 +67,23 @@ public class UserPrefs {
 
         UserPrefs o = (UserPrefs) other;
 
-        return Objects.equals(guiSettings, o.guiSettings);
+        return Objects.equals(guiSettings, o.guiSettings)
+                && undoHistoryLimit == o.undoHistoryLimit
+                && undoMemoryBudgetInBytes == o.undoMemoryBudgetInBytes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings);
+        return Objects.hash(guiSettings, undoHistoryLimit, undoMemoryBudgetInBytes);
     }
 
     @Override
     public String toString() {
-        return guiSettings.toString();
+        StringBuilder sb = new StringBuilder();
+        sb.append(guiSettings.toString());
+        sb.append("\nUndo history limit : " + undoHistoryLimit);
+        sb.append("\nUndo memory budget : " + undoMemoryBudgetInBytes + " bytes");
+        return sb.toString();
     }
 
 }
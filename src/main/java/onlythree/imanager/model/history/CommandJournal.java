@@ -0,0 +1,170 @@
+package onlythree.imanager.model.history;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+import onlythree.imanager.model.TaskList;
+
+/**
+ * Keeps track of the changes made by each command so that they can be undone and redone.
+ * Instead of keeping a copy of the whole task list for every command, only the {@link TaskListChange}s made by
+ * the command are kept, so undoing or redoing a command only costs as much as the changes it made.
+ *
+ * The number of commands kept is bounded by a maximum depth and by an estimated memory budget. When either is
+ * exceeded, the oldest commands are forgotten first.
+ */
+public class CommandJournal {
+
+    /**
+     * Rough estimate of the memory used by a task kept alive by the journal, including its fields and tags.
+     */
+    public static final long ESTIMATED_BYTES_PER_TASK = 512;
+
+    /**
+     * Rough estimate of the memory used by a journal entry excluding the tasks it keeps alive.
+     */
+    public static final long ESTIMATED_BYTES_PER_ENTRY = 64;
+
+    private final Deque<Entry> undoEntries = new ArrayDeque<>();
+    private final Deque<Entry> redoEntries = new ArrayDeque<>();
+    private List<TaskListChange> pendingChanges = new ArrayList<>();
+
+    private final int maxDepth;
+    private final long memoryBudgetInBytes;
+    private long estimatedBytesUsed;
+
+    /**
+     * @param maxDepth the maximum number of commands that can be undone, must be positive
+     * @param memoryBudgetInBytes the estimated memory the journal may use, must be positive
+     */
+    public CommandJournal(int maxDepth, long memoryBudgetInBytes) {
+        assert maxDepth > 0 && memoryBudgetInBytes > 0;
+        this.maxDepth = maxDepth;
+        this.memoryBudgetInBytes = memoryBudgetInBytes;
+    }
+
+    /**
+     * Records a change that has just been made. The change becomes undoable once {@link #commit(String)} is called.
+     */
+    public void record(TaskListChange change) {
+        assert change != null;
+        pendingChanges.add(change);
+    }
+
+    /**
+     * Groups all changes recorded since the last commit as a single undoable command.
+     * Commands that have been undone can no longer be redone once a new command with changes is committed.
+     */
+    public void commit(String commandWord) {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        clearRedoEntries();
+        pushUndoEntry(new Entry(commandWord, pendingChanges));
+        pendingChanges = new ArrayList<>();
+        trimToLimits();
+    }
+
+    public boolean canUndo() {
+        return !undoEntries.isEmpty() || !pendingChanges.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoEntries.isEmpty();
+    }
+
+    /**
+     * Reverts the most recent command on {@code taskList} and returns the changes applied to do so, in order.
+     * Changes that were recorded but not committed are treated as a command of their own.
+     */
+    public List<TaskListChange> undo(TaskList taskList) {
+        assert canUndo();
+        commit("");
+
+        Entry entry = undoEntries.pop();
+        List<TaskListChange> changes = entry.changes;
+        List<TaskListChange> appliedChanges = new ArrayList<>();
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            TaskListChange inverse = changes.get(i).inverse();
+            inverse.apply(taskList);
+            appliedChanges.add(inverse);
+        }
+        redoEntries.push(entry);
+        return appliedChanges;
+    }
+
+    /**
+     * Re-applies the most recently undone command on {@code taskList} and returns the changes applied, in order.
+     */
+    public List<TaskListChange> redo(TaskList taskList) {
+        assert canRedo();
+
+        Entry entry = redoEntries.pop();
+        for (TaskListChange change : entry.changes) {
+            change.apply(taskList);
+        }
+        undoEntries.push(entry);
+        return entry.changes;
+    }
+
+    /**
+     * Returns the number of commands that can currently be undone.
+     */
+    public int getUndoDepth() {
+        return undoEntries.size();
+    }
+
+    /**
+     * Returns the estimated memory used by the undoable and redoable commands.
+     */
+    public long getEstimatedBytesUsed() {
+        return estimatedBytesUsed;
+    }
+
+    private void pushUndoEntry(Entry entry) {
+        undoEntries.push(entry);
+        estimatedBytesUsed += entry.estimatedBytes;
+    }
+
+    private void clearRedoEntries() {
+        for (Entry entry : redoEntries) {
+            estimatedBytesUsed -= entry.estimatedBytes;
+        }
+        redoEntries.clear();
+    }
+
+    /**
+     * Forgets the oldest commands until the journal is within its depth and memory limits.
+     * The most recent command is always kept so that it can be undone.
+     */
+    private void trimToLimits() {
+        while (undoEntries.size() > maxDepth
+                || (estimatedBytesUsed > memoryBudgetInBytes && undoEntries.size() > 1)) {
+            Entry oldest = undoEntries.removeLast();
+            estimatedBytesUsed -= oldest.estimatedBytes;
+        }
+    }
+
+    /**
+     * The changes made by a single command.
+     */
+    private static class Entry {
+        private final String commandWord;
+        private final List<TaskListChange> changes;
+        private final long estimatedBytes;
+
+        Entry(String commandWord, List<TaskListChange> changes) {
+            this.commandWord = commandWord;
+            this.changes = Collections.unmodifiableList(changes);
+
+            long retainedTasks = 0;
+            for (TaskListChange change : changes) {
+                retainedTasks += change.getRetainedTaskCount();
+            }
+            this.estimatedBytes = ESTIMATED_BYTES_PER_ENTRY + retainedTasks * ESTIMATED_BYTES_PER_TASK;
+        }
+    }
+}
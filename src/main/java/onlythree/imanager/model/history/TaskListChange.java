@@ -0,0 +1,201 @@
+package onlythree.imanager.model.history;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import onlythree.imanager.commons.exceptions.IllegalValueException;
+import onlythree.imanager.model.ReadOnlyTaskList;
+import onlythree.imanager.model.TaskList;
+import onlythree.imanager.model.task.Task;
+
+/**
+ * Represents a single change made to a {@link TaskList}, together with enough information to revert it.
+ * Tasks are identified by their position in the task list at the time the change was made, which stays
+ * valid as long as changes are reverted and re-applied in the order they were recorded.
+ *
+ * A task in a task list is updated in place, so a change keeps a copy of the task it added or updated, rather
+ * than the task in the list.
+ */
+public class TaskListChange {
+
+    /**
+     * The kinds of changes that can be made to a {@link TaskList}.
+     */
+    public enum Type {
+        ADD, REMOVE, UPDATE, RESET
+    }
+
+    private final Type type;
+    private final int index;
+    private final Task before;
+    private final Task after;
+    private final ReadOnlyTaskList dataBefore;
+    private final ReadOnlyTaskList dataAfter;
+
+    private TaskListChange(Type type, int index, Task before, Task after,
+            ReadOnlyTaskList dataBefore, ReadOnlyTaskList dataAfter) {
+        this.type = type;
+        this.index = index;
+        this.before = before;
+        this.after = after;
+        this.dataBefore = dataBefore;
+        this.dataAfter = dataAfter;
+    }
+
+    /**
+     * Returns a change representing {@code added} being added at position {@code index}.
+     */
+    public static TaskListChange added(int index, Task added) {
+        assert added != null;
+        return new TaskListChange(Type.ADD, index, null, copyOf(added), null, null);
+    }
+
+    /**
+     * Returns a change representing {@code removed} being removed from position {@code index}.
+     */
+    public static TaskListChange removed(int index, Task removed) {
+        assert removed != null;
+        return new TaskListChange(Type.REMOVE, index, removed, null, null, null);
+    }
+
+    /**
+     * Returns a change representing the task at position {@code index} being updated, e.g. by an edit or by
+     * marking it as done.
+     */
+    public static TaskListChange updated(int index, Task before, Task after) {
+        assert before != null && after != null;
+        return new TaskListChange(Type.UPDATE, index, before, copyOf(after), null, null);
+    }
+
+    /**
+     * Returns a change representing the whole task list being replaced.
+     * Both arguments should be copies that are not modified afterwards.
+     */
+    public static TaskListChange reset(ReadOnlyTaskList dataBefore, ReadOnlyTaskList dataAfter) {
+        assert dataBefore != null && dataAfter != null;
+        return new TaskListChange(Type.RESET, -1, null, null, dataBefore, dataAfter);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the position of the changed task, or -1 for a {@link Type#RESET}.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the task before the change, or null if the task did not exist before.
+     */
+    public Task getBefore() {
+        return before;
+    }
+
+    /**
+     * Returns the task after the change, or null if the task no longer exists.
+     */
+    public Task getAfter() {
+        return after;
+    }
+
+    /**
+     * Returns the whole task list after a {@link Type#RESET}, or null for other changes.
+     */
+    public ReadOnlyTaskList getDataAfter() {
+        return dataAfter;
+    }
+
+    /**
+     * Re-applies this change to {@code taskList}, which must be in the state this change was made from.
+     * Tasks are copied into {@code taskList}, so the same change can be applied to several task lists.
+     */
+    public void apply(TaskList taskList) {
+        switch (type) {
+        case ADD:
+            taskList.addTask(index, copyOf(after));
+            break;
+        case REMOVE:
+            taskList.removeTask(index);
+            break;
+        case UPDATE:
+            taskList.updateTask(index, after);
+            break;
+        case RESET:
+            taskList.resetData(dataAfter);
+            break;
+        default:
+            throw new AssertionError("Unknown change type " + type);
+        }
+    }
+
+    /**
+     * Reverts this change on {@code taskList}, which must be in the state right after this change was made.
+     */
+    public void revert(TaskList taskList) {
+        inverse().apply(taskList);
+    }
+
+    /**
+     * Returns the change that reverts this change.
+     */
+    public TaskListChange inverse() {
+        switch (type) {
+        case ADD:
+            return removed(index, after);
+        case REMOVE:
+            return added(index, before);
+        case UPDATE:
+            return updated(index, after, before);
+        case RESET:
+            return reset(dataAfter, dataBefore);
+        default:
+            throw new AssertionError("Unknown change type " + type);
+        }
+    }
+
+    private static Task copyOf(Task task) {
+        try {
+            return new Task(task);
+        } catch (IllegalValueException e) {
+            throw new AssertionError("Copying a valid task should always result in a valid task");
+        }
+    }
+
+    /**
+     * Returns the number of tasks kept alive by this change, used to estimate the memory it takes up.
+     */
+    public int getRetainedTaskCount() {
+        switch (type) {
+        case ADD:
+        case REMOVE:
+            return 1;
+        case UPDATE:
+            return 2;
+        case RESET:
+            return dataBefore.getTaskList().size() + dataAfter.getTaskList().size();
+        default:
+            throw new AssertionError("Unknown change type " + type);
+        }
+    }
+
+    /**
+     * Returns the number of changes of each type in {@code changes}, e.g. {@code ADD 2, REMOVE 1}.
+     */
+    public static String summarize(List<TaskListChange> changes) {
+        Map<Type, Integer> counts = new EnumMap<>(Type.class);
+        changes.forEach(change -> counts.merge(change.type, 1, Integer::sum));
+        return counts.entrySet().stream()
+                .map(count -> count.getKey() + " " + count.getValue())
+                .collect(Collectors.joining(", "));
+    }
+
+    @Override
+    public String toString() {
+        return type + (index >= 0 ? " at " + index : "");
+    }
+}
@@ -0,0 +1,147 @@
+package onlythree.imanager.model.history;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import onlythree.imanager.model.task.ReadOnlyTask;
+
+/**
+ * The net effect of a sequence of {@link TaskListChange}s on each task, identified by its id: which tasks were
+ * added, removed or updated, with their values before and after. Unlike the changes, the delta does not depend
+ * on the positions of the tasks, so it can be used by anything that keeps its own copy or index of the tasks.
+ *
+ * A task that is added and then removed again does not appear in the delta, and neither does a task that ends
+ * up with the same details it started with.
+ */
+public class TaskListDelta {
+
+    private static final TaskListDelta RESET = new TaskListDelta(true, Collections.emptyList(),
+            Collections.emptyList(), Collections.emptyList());
+
+    private final boolean isReset;
+    private final List<TaskDelta> added;
+    private final List<TaskDelta> removed;
+    private final List<TaskDelta> updated;
+
+    private TaskListDelta(boolean isReset, List<TaskDelta> added, List<TaskDelta> removed,
+            List<TaskDelta> updated) {
+        this.isReset = isReset;
+        this.added = Collections.unmodifiableList(added);
+        this.removed = Collections.unmodifiableList(removed);
+        this.updated = Collections.unmodifiableList(updated);
+    }
+
+    /**
+     * Returns the net effect of {@code changes}, which must be in the order they were made.
+     * If the changes are empty or replace the whole task list, the delta is a reset instead, as the
+     * changed tasks are then not known.
+     */
+    public static TaskListDelta of(List<TaskListChange> changes) {
+        if (changes.isEmpty()) {
+            return RESET;
+        }
+
+        // the value of each changed task before the first change and after the last change, in order of first change
+        Map<Long, ReadOnlyTask[]> beforeAndAfterById = new LinkedHashMap<>();
+        for (TaskListChange change : changes) {
+            if (change.getType() == TaskListChange.Type.RESET) {
+                return RESET;
+            }
+            ReadOnlyTask before = change.getBefore();
+            ReadOnlyTask after = change.getAfter();
+            long id = after != null ? after.getId() : before.getId();
+            ReadOnlyTask[] beforeAndAfter = beforeAndAfterById.computeIfAbsent(id,
+                unused -> new ReadOnlyTask[] {before, null});
+            beforeAndAfter[1] = after;
+        }
+
+        List<TaskDelta> added = new ArrayList<>();
+        List<TaskDelta> removed = new ArrayList<>();
+        List<TaskDelta> updated = new ArrayList<>();
+        beforeAndAfterById.forEach((id, beforeAndAfter) -> {
+            TaskDelta delta = new TaskDelta(id, beforeAndAfter[0], beforeAndAfter[1]);
+            if (delta.before == null && delta.after != null) {
+                added.add(delta);
+            } else if (delta.before != null && delta.after == null) {
+                removed.add(delta);
+            } else if (delta.before != null && !delta.before.equals(delta.after)) {
+                updated.add(delta);
+            }
+        });
+        return new TaskListDelta(false, added, removed, updated);
+    }
+
+    /**
+     * Returns true if the whole task list was replaced, e.g. by {@code clear} or by loading another file.
+     * The added, removed and updated tasks are then empty, and the whole task list should be treated as changed.
+     */
+    public boolean isReset() {
+        return isReset;
+    }
+
+    public List<TaskDelta> getAdded() {
+        return added;
+    }
+
+    public List<TaskDelta> getRemoved() {
+        return removed;
+    }
+
+    public List<TaskDelta> getUpdated() {
+        return updated;
+    }
+
+    /**
+     * Returns true if no task was changed and the task list was not replaced.
+     */
+    public boolean isEmpty() {
+        return !isReset && added.isEmpty() && removed.isEmpty() && updated.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return isReset ? "RESET"
+                : "added " + added.size() + ", removed " + removed.size() + ", updated " + updated.size();
+    }
+
+    /**
+     * The net change to a single task.
+     */
+    public static class TaskDelta {
+        private final long id;
+        private final ReadOnlyTask before;
+        private final ReadOnlyTask after;
+
+        TaskDelta(long id, ReadOnlyTask before, ReadOnlyTask after) {
+            this.id = id;
+            this.before = before;
+            this.after = after;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        /**
+         * Returns the task before it was changed, or null if it was added.
+         */
+        public ReadOnlyTask getBefore() {
+            return before;
+        }
+
+        /**
+         * Returns the task after it was changed, or null if it was removed.
+         */
+        public ReadOnlyTask getAfter() {
+            return after;
+        }
+
+        @Override
+        public String toString() {
+            return "task " + id + ": " + before + " -> " + after;
+        }
+    }
+}
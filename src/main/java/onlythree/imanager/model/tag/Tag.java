@@ -1,5 +1,8 @@
 package onlythree.imanager.model.tag;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import onlythree.imanager.commons.exceptions.IllegalValueException;
 
 /**
@@ -11,6 +14,9 @@ public class Tag {
     public static final String MESSAGE_TAG_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String TAG_VALIDATION_REGEX = "\\p{Alnum}+";
 
+    /** The canonical instance of each tag name, there are few enough tag names to keep all of them. */
+    private static final ConcurrentMap<String, Tag> internedTags = new ConcurrentHashMap<>();
+
     public final String tagName;
 
     /**
@@ -34,6 +40,15 @@ public class Tag {
         return test.matches(TAG_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the canonical {@code Tag} equal to {@code tag}, so that equal tags can share one instance.
+     */
+    public static Tag intern(Tag tag) {
+        assert tag != null;
+        Tag internedTag = internedTags.putIfAbsent(tag.tagName, tag);
+        return internedTag != null ? internedTag : tag;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,84 @@
+package onlythree.imanager.model.tag;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * An immutable list of unique tags, in the order they were given, kept as compactly as possible because every
+ * task holds one. The tags are interned with {@link Tag#intern(Tag)}, so tasks with the same tag share one
+ * {@code Tag} and tasks with no tags share one empty {@code TagSet}.
+ */
+public final class TagSet implements Iterable<Tag> {
+
+    private static final TagSet EMPTY = new TagSet(new Tag[0]);
+
+    private final Tag[] tags;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+    }
+
+    public static TagSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a {@code TagSet} of the tags in {@code source}, in the same order.
+     */
+    public static TagSet of(UniqueTagList source) {
+        assert source != null;
+        Tag[] tags = source.asObservableList().toArray(new Tag[0]);
+        if (tags.length == 0) {
+            return EMPTY;
+        }
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = Tag.intern(tags[i]);
+        }
+        return new TagSet(tags);
+    }
+
+    public int size() {
+        return tags.length;
+    }
+
+    public boolean isEmpty() {
+        return tags.length == 0;
+    }
+
+    /**
+     * Returns true if this set contains an equivalent Tag as the given argument.
+     */
+    public boolean contains(Tag toCheck) {
+        assert toCheck != null;
+        for (Tag tag : tags) {
+            if (tag.equals(toCheck)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the tags as a new {@code UniqueTagList}, which can be changed without affecting this set.
+     */
+    public UniqueTagList toUniqueTagList() {
+        return UniqueTagList.copyOfUniqueTags(tags);
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return Arrays.asList(tags).iterator();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagSet // instanceof handles nulls
+                && Arrays.equals(this.tags, ((TagSet) other).tags)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(tags);
+    }
+}
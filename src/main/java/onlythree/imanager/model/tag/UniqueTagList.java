@@ -83,6 +83,15 @@ public class UniqueTagList implements Iterable<Tag> {
         internalList.addAll(source.internalList); // insulate internal list from changes in argument
     }
 
+    /**
+     * Returns a list of {@code tags}, which must already be unique and not null.
+     */
+    static UniqueTagList copyOfUniqueTags(Tag[] tags) {
+        UniqueTagList list = new UniqueTagList();
+        list.internalList.setAll(tags);
+        return list;
+    }
+
     /**
      * Returns all tags in this list as a Set.
      * This set is mutable and change-insulated against the internal list.
@@ -1,22 +1,31 @@
 package onlythree.imanager.model.task;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import javafx.collections.ModifiableObservableListBase;
 import onlythree.imanager.commons.core.UnmodifiableObservableList;
 import onlythree.imanager.commons.exceptions.IllegalValueException;
 
 /**
  * A list of tasks that does not allow nulls that can be iterated.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. Tasks with an id can be found by their id without searching
+ * the list, so the ids of the tasks in the list must be unique.
  *
  */
 public class IterableTaskList implements Iterable<Task> {
 
-    private final ObservableList<Task> internalList = FXCollections.observableArrayList();
+    private final TaskObservableList internalList = new TaskObservableList();
+    // the position of each task with an id; every such task in the list has an entry, but only the positions
+    // below validPositionCount are up to date, as the positions of the tasks after a task inserted or removed
+    // are only updated when one of them is looked up
+    private final Map<Long, Integer> positionsById = new HashMap<>();
+    private int validPositionCount;
 
     //@@author A0140023E
     /**
@@ -25,43 +34,125 @@ public class IterableTaskList implements Iterable<Task> {
     public int add(Task toAdd) {
         assert toAdd != null;
         internalList.add(toAdd);
+        putPosition(toAdd, internalList.size() - 1);
+        if (validPositionCount == internalList.size() - 1) {
+            validPositionCount++;
+        }
 
         return internalList.size() - 1;
     }
 
+    /**
+     * Inserts a task at position {@code index}, shifting the tasks after it.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} < 0 or > the size of the list.
+     */
+    public void add(int index, Task toAdd) {
+        assert toAdd != null;
+        internalList.add(index, toAdd);
+        putPosition(toAdd, index);
+        invalidatePositionsFrom(index);
+    }
+
     //@@author
     /**
-     * Updates the task in the list at position {@code index} with {@code editedTask}.
+     * Updates the task in the list at position {@code index} in place with the details of {@code editedTask},
+     * and returns a copy of the task as it was before, which can be used to revert the update.
+     *
+     * Observers of the task's properties are notified of the details that changed, but observers of the list are
+     * not notified until {@link #fireUpdated(int)} is called, so that anything they look up about the task (e.g.
+     * an index of the tasks by their details) can be brought up to date first.
      *
      * @throws IndexOutOfBoundsException if {@code index} < 0 or >= the size of the list.
      */
-    public void updateTask(int index, ReadOnlyTask editedTask) {
+    public Task updateTask(int index, ReadOnlyTask editedTask) {
         assert editedTask != null;
 
-        Task taskToUpdate = internalList.get(index);
+        Task task = internalList.get(index);
+        Task before;
+        try {
+            before = new Task(task);
+        } catch (IllegalValueException e) {
+            throw new AssertionError("Copying a valid task should always result in a valid task");
+        }
+        task.resetData(editedTask);
+        return before;
+    }
 
-        taskToUpdate.resetData(editedTask);
-        // TODO: The code below is just a workaround to notify observers of the updated task.
-        // The right way is to implement observable properties in the Task class.
-        // Then, TaskCard should then bind its text labels to those observable properties.
-        internalList.set(index, taskToUpdate);
+    /**
+     * Notifies the observers of the list that the task at position {@code index} has been updated in place.
+     * They get an update change for this position alone, so e.g. a filtered list only checks this task again.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} < 0 or >= the size of the list.
+     */
+    public void fireUpdated(int index) {
+        internalList.fireUpdated(index);
     }
 
     /**
-     * Removes the equivalent task from the list.
+     * Removes the task with the id of {@code toRemove} from the list.
      *
      * @throws TaskNotFoundException if no such task could be found in the list.
      */
     public boolean remove(ReadOnlyTask toRemove) throws TaskNotFoundException {
         assert toRemove != null;
-        final boolean taskFoundAndDeleted = internalList.remove(toRemove);
-        if (!taskFoundAndDeleted) {
+        int index = indexOf(toRemove);
+        if (index < 0) {
             throw new TaskNotFoundException();
         }
-        return taskFoundAndDeleted;
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Removes the task at position {@code index} and returns it.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} < 0 or >= the size of the list.
+     */
+    public Task remove(int index) {
+        Task removed = internalList.remove(index);
+        positionsById.remove(removed.getId());
+        invalidatePositionsFrom(index);
+        return removed;
+    }
+
+    /**
+     * Returns the task at position {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} < 0 or >= the size of the list.
+     */
+    public Task get(int index) {
+        return internalList.get(index);
+    }
+
+    /**
+     * Returns the position of the task with the id of {@code task}, or -1 if there is no such task.
+     * Tasks are not compared by their details, so a task without an id is never found.
+     */
+    public int indexOf(ReadOnlyTask task) {
+        assert task != null;
+        return indexOfId(task.getId());
+    }
+
+    /**
+     * Returns the position of the task with id {@code id}, or -1 if there is no such task.
+     */
+    public int indexOfId(long id) {
+        Integer index = positionsById.get(id);
+        if (index == null) {
+            return -1;
+        }
+        if (index >= validPositionCount) {
+            updatePositions();
+            index = positionsById.get(id);
+        }
+        return index;
     }
 
     public void setTasks(IterableTaskList replacement) {
+        this.positionsById.clear();
+        this.positionsById.putAll(replacement.positionsById);
+        this.validPositionCount = replacement.validPositionCount;
         this.internalList.setAll(replacement.internalList);
     }
 
@@ -77,6 +168,30 @@ public class IterableTaskList implements Iterable<Task> {
         setTasks(replacement);
     }
 
+    private void putPosition(Task task, int index) {
+        if (task.getId() != ReadOnlyTask.NO_ID) {
+            positionsById.put(task.getId(), index);
+        }
+    }
+
+    /**
+     * Marks the positions of the tasks from position {@code index} onwards as out of date, after they have moved.
+     * A batch of insertions or removals then updates the positions once, on the next lookup.
+     */
+    private void invalidatePositionsFrom(int index) {
+        validPositionCount = Math.min(validPositionCount, index);
+    }
+
+    /**
+     * Updates the positions that are out of date.
+     */
+    private void updatePositions() {
+        for (int i = validPositionCount; i < internalList.size(); i++) {
+            putPosition(internalList.get(i), i);
+        }
+        validPositionCount = internalList.size();
+    }
+
     public UnmodifiableObservableList<Task> asObservableList() {
         return new UnmodifiableObservableList<>(internalList);
     }
@@ -99,6 +214,69 @@ public class IterableTaskList implements Iterable<Task> {
         return internalList.hashCode();
     }
 
+    /**
+     * An observable list of tasks that can tell its observers that the task at a position has been updated in
+     * place, which {@code FXCollections.observableArrayList()} can only do for lists with an extractor.
+     */
+    private static class TaskObservableList extends ModifiableObservableListBase<Task> {
+        private final List<Task> tasks = new ArrayList<>();
+
+        /**
+         * Notifies the observers of this list that the task at position {@code index} has been updated.
+         */
+        void fireUpdated(int index) {
+            beginChange();
+            nextUpdate(index);
+            endChange();
+        }
+
+        /**
+         * Replaces every task as one change. Unlike the inherited {@code setAll}, the tasks are not removed one
+         * at a time, which takes quadratic time.
+         */
+        @Override
+        public boolean setAll(Collection<? extends Task> replacement) {
+            if (tasks.isEmpty() && replacement.isEmpty()) {
+                return false;
+            }
+            beginChange();
+            try {
+                List<Task> removed = new ArrayList<>(tasks);
+                tasks.clear();
+                tasks.addAll(replacement);
+                nextReplace(0, tasks.size(), removed);
+            } finally {
+                endChange();
+            }
+            return true;
+        }
+
+        @Override
+        public Task get(int index) {
+            return tasks.get(index);
+        }
+
+        @Override
+        public int size() {
+            return tasks.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Task element) {
+            tasks.add(index, element);
+        }
+
+        @Override
+        protected Task doSet(int index, Task element) {
+            return tasks.set(index, element);
+        }
+
+        @Override
+        protected Task doRemove(int index) {
+            return tasks.remove(index);
+        }
+    }
+
     /**
      * Signals that an operation targeting a specified task in the list would fail because
      * there is no such matching task in the list.
@@ -3,6 +3,7 @@ package onlythree.imanager.model.task;
 import java.util.Objects;
 import java.util.Optional;
 
+import onlythree.imanager.model.tag.TagSet;
 import onlythree.imanager.model.tag.UniqueTagList;
 
 /**
@@ -11,6 +12,15 @@ import onlythree.imanager.model.tag.UniqueTagList;
  */
 public abstract class ReadOnlyTask {
 
+    /** The id of a task that has not been added to a task list. */
+    public static final long NO_ID = 0;
+
+    /**
+     * Gets the id of the task, which identifies it in its task list even when other tasks have the same details.
+     * The id stays the same when the task is edited, and is {@link #NO_ID} until the task is added to a task list.
+     */
+    public abstract long getId();
+
     /**
      * Gets the name of the task.
      */
@@ -32,12 +42,23 @@ public abstract class ReadOnlyTask {
      */
     public abstract UniqueTagList getTags();
 
+    /**
+     * Returns the tags of the task as an immutable {@link TagSet}. Unlike {@link #getTags()}, this does not need
+     * to copy the tags, so subclasses that keep their tags as a {@code TagSet} should return it directly.
+     */
+    public TagSet getTagSet() {
+        return TagSet.of(getTags());
+    }
+
     /**
      * Returns whether the task is completed.
      */
     public abstract boolean isComplete();
 
     //@@author A0140023E
+    /**
+     * Returns true if {@code o} is a task of the same class with the same details. The id is not compared.
+     */
     @Override
     public boolean equals(Object o) {
         if (o == null) {
@@ -54,13 +75,13 @@ public abstract class ReadOnlyTask {
         return Objects.equals(getName(), other.getName())
                 && Objects.equals(getDeadline(), other.getDeadline())
                 && Objects.equals(getStartEndDateTime(), other.getStartEndDateTime())
-                && Objects.equals(getTags(), other.getTags())
+                && Objects.equals(getTagSet(), other.getTagSet())
                 && isComplete() == other.isComplete();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getName(), getDeadline(), getStartEndDateTime(), getTags(), isComplete());
+        return Objects.hash(getName(), getDeadline(), getStartEndDateTime(), getTagSet(), isComplete());
     }
 
     /**
@@ -99,7 +120,7 @@ public abstract class ReadOnlyTask {
 
     private void buildTagsString(final StringBuilder builder) {
         builder.append("Tags: ");
-        getTags().forEach(builder::append);
+        getTagSet().forEach(builder::append);
     }
 
     //@@author A0135998H
@@ -2,13 +2,22 @@ package onlythree.imanager.model.task;
 
 import java.util.Optional;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
 import onlythree.imanager.commons.exceptions.IllegalValueException;
 import onlythree.imanager.commons.util.CollectionUtil;
+import onlythree.imanager.model.tag.TagSet;
 import onlythree.imanager.model.tag.UniqueTagList;
 
 /**
  * Represents a Task in the task list.
  * Guarantees: details are present and not null, field values are validated.
+ *
+ * A task in a task list is updated in place, so each detail can also be observed as a property, e.g. by the
+ * card showing the task. The properties are only created when they are first asked for, as there are many tasks
+ * and few of them are shown at once.
  */
 public class Task extends ReadOnlyTask {
 
@@ -17,18 +26,29 @@ public class Task extends ReadOnlyTask {
             "Task cannot have both deadline and start and end date/time";
 
     //@@author
+    private long id = NO_ID;
+
     private Name name;
 
-    private UniqueTagList tags;
+    private TagSet tags;
 
     //@@author A0140023E
-    private Optional<StartEndDateTime> startEndDateTime;
+    // The date-times are kept without Optional wrappers as there are many tasks, null if there is none
+    private StartEndDateTime startEndDateTime;
 
-    private Optional<Deadline> deadline;
+    private Deadline deadline;
 
     //@@author A0135998H
     private boolean complete;
 
+    //@@author
+    // the observable properties of the details above, null until they are first asked for
+    private ReadOnlyObjectWrapper<Name> nameProperty;
+    private ReadOnlyObjectWrapper<Deadline> deadlineProperty;
+    private ReadOnlyObjectWrapper<StartEndDateTime> startEndDateTimeProperty;
+    private ReadOnlyObjectWrapper<TagSet> tagsProperty;
+    private ReadOnlyBooleanWrapper completeProperty;
+
     //@@author A0140023E
     /**
      * Every field must not be null except for the {@code Optional} fields. The task is
@@ -51,6 +71,12 @@ public class Task extends ReadOnlyTask {
      */
     public Task(Name name, Optional<Deadline> deadline, Optional<StartEndDateTime> startEndDateTime,
             UniqueTagList tags, boolean isComplete) throws IllegalValueException {
+        // the tags are copied into a TagSet, which protects internal tags from changes in the arg list
+        this(name, deadline, startEndDateTime, TagSet.of(tags), isComplete);
+    }
+
+    private Task(Name name, Optional<Deadline> deadline, Optional<StartEndDateTime> startEndDateTime,
+            TagSet tags, boolean isComplete) throws IllegalValueException {
         assert !CollectionUtil.isAnyNull(name, deadline, startEndDateTime, tags);
 
         if (deadline.isPresent() && startEndDateTime.isPresent()) {
@@ -58,25 +84,40 @@ public class Task extends ReadOnlyTask {
         }
 
         this.name = name;
-        this.deadline = deadline;
-        this.startEndDateTime = startEndDateTime;
-        this.tags = new UniqueTagList(tags); // protect internal tags from changes in the arg list
+        this.deadline = deadline.orElse(null);
+        this.startEndDateTime = startEndDateTime.orElse(null);
+        this.tags = tags;
         this.complete = isComplete;
     }
 
     /**
-     * Creates a copy of the given ReadOnlyTask.
+     * Creates a copy of the given ReadOnlyTask, with the same id.
      * @throws IllegalValueException if the ReadOnlyTask to be copied has both Deadline and StartEndDateTime
      */
     public Task(ReadOnlyTask source) throws IllegalValueException {
-        this(source.getName(), source.getDeadline(), source.getStartEndDateTime(), source.getTags(),
+        this(source.getName(), source.getDeadline(), source.getStartEndDateTime(), source.getTagSet(),
              source.isComplete());
+        this.id = source.getId();
     }
 
     //@@author
+    @Override
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Sets the id of this task, which should only be done by the task list it is added to.
+     */
+    public void setId(long id) {
+        assert id != NO_ID;
+        this.id = id;
+    }
+
     public void setName(Name name) {
         assert name != null;
         this.name = name;
+        updateProperties();
     }
 
     @Override
@@ -87,7 +128,7 @@ public class Task extends ReadOnlyTask {
     //@@author A0140023E
     @Override
     public Optional<Deadline> getDeadline() {
-        return deadline;
+        return Optional.ofNullable(deadline);
     }
 
     /**
@@ -95,7 +136,8 @@ public class Task extends ReadOnlyTask {
      */
     public void setDeadline(Deadline dateTime) {
         assert dateTime != null;
-        this.deadline = Optional.of(dateTime);
+        this.deadline = dateTime;
+        updateProperties();
     }
 
     //@@author A0135998H
@@ -106,12 +148,13 @@ public class Task extends ReadOnlyTask {
 
     public void setComplete(boolean complete) {
         this.complete = complete;
+        updateProperties();
     }
 
     //@@author A0140023E
     @Override
     public Optional<StartEndDateTime> getStartEndDateTime() {
-        return startEndDateTime;
+        return Optional.ofNullable(startEndDateTime);
     }
 
     /**
@@ -119,26 +162,35 @@ public class Task extends ReadOnlyTask {
      */
     public void setStartEndDateTime(StartEndDateTime startEndDateTime) {
         assert startEndDateTime != null;
-        this.startEndDateTime = Optional.of(startEndDateTime);
+        this.startEndDateTime = startEndDateTime;
+        updateProperties();
     }
 
     //@@author
     @Override
     public UniqueTagList getTags() {
-        return new UniqueTagList(tags);
+        return tags.toUniqueTagList();
+    }
+
+    @Override
+    public TagSet getTagSet() {
+        return tags;
     }
 
     /**
      * Replaces this task's tags with the tags in the argument tag list.
      */
     public void setTags(UniqueTagList replacement) {
-        tags.setTags(replacement);
+        tags = TagSet.of(replacement);
+        updateProperties();
     }
 
     //@@author A0140023E
     /**
      * Updates this task with the details of {@code replacement} using a "shallow copy" of the data. Refer to
      * {@link Object#clone()} for more information about shallow copy.
+     * The properties that changed are only updated once every detail has been copied, so their observers never
+     * see a mix of old and new details.
      */
     public void resetData(ReadOnlyTask replacement) {
         assert replacement != null;
@@ -146,14 +198,79 @@ public class Task extends ReadOnlyTask {
         // Note that we are shallow copying data replacement's data so replacement should not be
         // reused anymore. Otherwise modify this method to do a deep copy
 
-        setName(replacement.getName());
+        name = replacement.getName();
 
-        // Note that the same Optional is being reused from replacement directly
+        // Note that either date-time may be absent
         // Hence the setter method cannot be used for both deadline and startEndDateTime
-        deadline = replacement.getDeadline();
-        startEndDateTime = replacement.getStartEndDateTime();
+        deadline = replacement.getDeadline().orElse(null);
+        startEndDateTime = replacement.getStartEndDateTime().orElse(null);
+
+        tags = replacement.getTagSet();
+        complete = replacement.isComplete();
+        updateProperties();
+    }
+
+    //@@author
+    public ReadOnlyObjectProperty<Name> nameProperty() {
+        if (nameProperty == null) {
+            nameProperty = new ReadOnlyObjectWrapper<>(this, "name", name);
+        }
+        return nameProperty.getReadOnlyProperty();
+    }
 
-        setTags(replacement.getTags());
-        setComplete(replacement.isComplete());
+    /**
+     * Returns the deadline as a property, which is null when the task has no deadline.
+     */
+    public ReadOnlyObjectProperty<Deadline> deadlineProperty() {
+        if (deadlineProperty == null) {
+            deadlineProperty = new ReadOnlyObjectWrapper<>(this, "deadline", deadline);
+        }
+        return deadlineProperty.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the start and end date-time as a property, which is null when the task has none.
+     */
+    public ReadOnlyObjectProperty<StartEndDateTime> startEndDateTimeProperty() {
+        if (startEndDateTimeProperty == null) {
+            startEndDateTimeProperty = new ReadOnlyObjectWrapper<>(this, "startEndDateTime", startEndDateTime);
+        }
+        return startEndDateTimeProperty.getReadOnlyProperty();
+    }
+
+    public ReadOnlyObjectProperty<TagSet> tagsProperty() {
+        if (tagsProperty == null) {
+            tagsProperty = new ReadOnlyObjectWrapper<>(this, "tags", tags);
+        }
+        return tagsProperty.getReadOnlyProperty();
+    }
+
+    public ReadOnlyBooleanProperty completeProperty() {
+        if (completeProperty == null) {
+            completeProperty = new ReadOnlyBooleanWrapper(this, "complete", complete);
+        }
+        return completeProperty.getReadOnlyProperty();
+    }
+
+    /**
+     * Sets the properties that have been created to the current details, which notifies their observers of the
+     * details that changed.
+     */
+    private void updateProperties() {
+        if (nameProperty != null) {
+            nameProperty.set(name);
+        }
+        if (deadlineProperty != null) {
+            deadlineProperty.set(deadline);
+        }
+        if (startEndDateTimeProperty != null) {
+            startEndDateTimeProperty.set(startEndDateTime);
+        }
+        if (tagsProperty != null) {
+            tagsProperty.set(tags);
+        }
+        if (completeProperty != null) {
+            completeProperty.set(complete);
+        }
     }
 }
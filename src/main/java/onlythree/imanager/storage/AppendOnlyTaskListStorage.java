@@ -0,0 +1,565 @@
+package onlythree.imanager.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+import onlythree.imanager.commons.core.LogsCenter;
+import onlythree.imanager.commons.exceptions.DataConversionException;
+import onlythree.imanager.commons.exceptions.IllegalValueException;
+import onlythree.imanager.commons.util.FileUtil;
+import onlythree.imanager.commons.util.StringUtil;
+import onlythree.imanager.model.ReadOnlyTaskList;
+import onlythree.imanager.model.TaskList;
+import onlythree.imanager.model.history.TaskListChange;
+import onlythree.imanager.model.task.exceptions.InvalidDurationException;
+
+/**
+ * A class to access TaskList data stored as an xml snapshot plus a log of the changes made since the snapshot.
+ *
+ * Instead of rewriting the whole task list on every change, each change is appended to {@code <file>.log} as a
+ * single line record. Records are synced to the disk in batches. Once the log has grown long enough, it is moved
+ * aside to {@code <file>.log.<last sequence number>} and folded into a new snapshot in the background.
+ * Reading the task list replays the log records on top of the snapshot.
+ *
+ * Every record has a sequence number and the snapshot keeps the sequence number of the last record it includes,
+ * so records already included in the snapshot are skipped no matter when the app was stopped.
+ */
+public class AppendOnlyTaskListStorage implements TaskListStorage {
+
+    /** The number of records appended before the log is synced to the disk. */
+    public static final int DEFAULT_SYNC_BATCH_SIZE = 16;
+
+    /** The number of records in the log before it is folded into a new snapshot. */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(AppendOnlyTaskListStorage.class);
+
+    private static final String LOG_FILE_SUFFIX = ".log";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String UNREPLAYED_LOG_FILE_SUFFIX = ".unreplayed-";
+    private static final long UNKNOWN_SEQUENCE = -1;
+
+    private final int syncBatchSize;
+    private final int compactionThreshold;
+    private final Marshaller marshaller;
+    private final Unmarshaller unmarshaller;
+    private final ExecutorService compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Task list compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private String filePath;
+    private FileChannel logChannel;
+    private long lastSequence = UNKNOWN_SEQUENCE;
+    private int unsyncedRecordCount;
+    private int logRecordCount;
+    private boolean isFullSaveNeeded;
+    private Future<?> pendingCompaction;
+
+    // guarded by this lock as snapshots can be written by both the caller and the compaction thread
+    private final Object snapshotLock = new Object();
+    private String latestSnapshotFilePath;
+    private long latestSnapshotSequence = UNKNOWN_SEQUENCE;
+
+    public AppendOnlyTaskListStorage(String filePath) {
+        this(filePath, DEFAULT_SYNC_BATCH_SIZE, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * @param syncBatchSize the number of records appended before the log is synced to the disk, must be positive
+     * @param compactionThreshold the number of records in the log before it is folded into a new snapshot,
+     *        must be positive
+     */
+    public AppendOnlyTaskListStorage(String filePath, int syncBatchSize, int compactionThreshold) {
+        assert syncBatchSize > 0 && compactionThreshold > 0;
+        this.filePath = filePath;
+        this.syncBatchSize = syncBatchSize;
+        this.compactionThreshold = compactionThreshold;
+
+        try {
+            JAXBContext context = JAXBContext.newInstance(XmlAdaptedTaskListChange.class);
+            marshaller = context.createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, false);
+            unmarshaller = context.createUnmarshaller();
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String getTaskListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void setTaskListFilePath(String filePath) {
+        try {
+            closeLog();
+        } catch (IOException e) {
+            logger.warning("Failed to close task list log " + StringUtil.getDetails(e));
+        }
+        this.filePath = filePath;
+        lastSequence = UNKNOWN_SEQUENCE;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskList> readTaskList() throws DataConversionException, IOException {
+        return readTaskList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskList()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the snapshot is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskList> readTaskList(String filePath) throws DataConversionException, IOException {
+        assert filePath != null;
+
+        Recovery recovery = recover(filePath);
+        if (filePath.equals(this.filePath) && lastSequence == UNKNOWN_SEQUENCE) {
+            initializeLog(recovery);
+        }
+
+        if (!recovery.hasSnapshot && recovery.sequence == 0) {
+            logger.info("TaskList file " + filePath + " not found");
+            return Optional.empty();
+        }
+        return Optional.of(recovery.taskList);
+    }
+
+    @Override
+    public void saveTaskList(ReadOnlyTaskList taskList) throws IOException {
+        saveTaskList(taskList, filePath);
+    }
+
+    /**
+     * Writes a new snapshot of {@code taskList} and clears the log.
+     * If {@code filePath} is not the storage's own file path, only a plain xml file is written.
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveTaskList(ReadOnlyTaskList taskList, String filePath) throws IOException {
+        assert taskList != null;
+        assert filePath != null;
+
+        if (!filePath.equals(this.filePath)) {
+            File file = new File(filePath);
+            FileUtil.createIfMissing(file);
+            XmlFileStorage.saveDataToFile(file, new XmlSerializableTaskList(taskList));
+            return;
+        }
+
+        ensureLogInitialized();
+        closeLog();
+        writeSnapshot(filePath, taskList, lastSequence);
+        Files.deleteIfExists(getLogFile(filePath).toPath());
+        deleteRotatedLogsUpTo(filePath, lastSequence);
+        logRecordCount = 0;
+        isFullSaveNeeded = false;
+    }
+
+    /**
+     * Appends a record for each of {@code changes} to the log.
+     * Writes a new snapshot instead if the whole task list was replaced, or if a previous append failed.
+     */
+    @Override
+    public void saveTaskListChanges(ReadOnlyTaskList taskList, List<TaskListChange> changes) throws IOException {
+        assert taskList != null && changes != null;
+
+        ensureLogInitialized();
+        boolean isReset = changes.stream().anyMatch(change -> change.getType() == TaskListChange.Type.RESET);
+        if (isReset || isFullSaveNeeded) {
+            saveTaskList(taskList);
+            return;
+        }
+
+        StringBuilder records = new StringBuilder();
+        long sequence = lastSequence;
+        for (TaskListChange change : changes) {
+            sequence++;
+            records.append(toRecord(new XmlAdaptedTaskListChange(sequence, change))).append('\n');
+        }
+
+        try {
+            appendToLog(records.toString());
+        } catch (IOException e) {
+            // the log may now end with a partial record, so the next save has to start from a new snapshot
+            isFullSaveNeeded = true;
+            closeLogQuietly();
+            throw e;
+        }
+        lastSequence = sequence;
+        unsyncedRecordCount += changes.size();
+        logRecordCount += changes.size();
+
+        if (unsyncedRecordCount >= syncBatchSize) {
+            syncLog();
+        }
+        if (logRecordCount >= compactionThreshold) {
+            startCompaction(taskList);
+        }
+    }
+
+    /**
+     * Syncs the log to the disk and waits for any compaction in progress to finish.
+     */
+    @Override
+    public void flushTaskList() throws IOException {
+        syncLog();
+        if (pendingCompaction == null) {
+            return;
+        }
+        try {
+            pendingCompaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+    }
+
+    //=========== Log ========================================================================================
+
+    private void ensureLogInitialized() throws IOException {
+        if (lastSequence != UNKNOWN_SEQUENCE) {
+            return;
+        }
+        try {
+            initializeLog(recover(filePath));
+        } catch (DataConversionException e) {
+            logger.warning("Task list snapshot is not in the correct format, discarding its log. "
+                    + StringUtil.getDetails(e));
+            for (File logFile : getAllLogFiles(filePath)) {
+                Files.deleteIfExists(logFile.toPath());
+            }
+            lastSequence = 0;
+            logRecordCount = 0;
+            isFullSaveNeeded = true;
+        }
+    }
+
+    /**
+     * Continues the log from the state found by {@link #recover(String)}.
+     * If the log could not be replayed cleanly, a new snapshot is written straight away and all logs are
+     * discarded, so that no record is ever written after an unreadable one. Logs that were not replayed at all
+     * because records of the snapshot were skipped are moved aside instead, as their changes are not in the
+     * new snapshot.
+     */
+    private void initializeLog(Recovery recovery) throws IOException {
+        lastSequence = recovery.sequence;
+        logRecordCount = recovery.activeLogRecordCount;
+        isFullSaveNeeded = false;
+        if (!recovery.isClean) {
+            logger.info("Task list log was not closed cleanly, writing a new snapshot");
+            if (recovery.hasUnreplayedLogs) {
+                // moved before the snapshot is saved, as saving deletes the logs
+                moveLogsAside(filePath);
+            }
+            saveTaskList(recovery.taskList, filePath);
+            for (File logFile : getAllLogFiles(filePath)) {
+                Files.deleteIfExists(logFile.toPath());
+            }
+        }
+    }
+
+    private String toRecord(XmlAdaptedTaskListChange change) {
+        StringWriter writer = new StringWriter();
+        try {
+            marshaller.marshal(change, writer);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage());
+        }
+        return writer.toString();
+    }
+
+    private void appendToLog(String records) throws IOException {
+        if (logChannel == null) {
+            File logFile = getLogFile(filePath);
+            FileUtil.createParentDirsOfFile(logFile);
+            logChannel = FileChannel.open(logFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        }
+        ByteBuffer buffer = StandardCharsets.UTF_8.encode(records);
+        while (buffer.hasRemaining()) {
+            logChannel.write(buffer);
+        }
+    }
+
+    private void syncLog() throws IOException {
+        if (logChannel != null && unsyncedRecordCount > 0) {
+            logChannel.force(false);
+        }
+        unsyncedRecordCount = 0;
+    }
+
+    private void closeLog() throws IOException {
+        if (logChannel == null) {
+            return;
+        }
+        syncLog();
+        logChannel.close();
+        logChannel = null;
+    }
+
+    private void closeLogQuietly() {
+        try {
+            closeLog();
+        } catch (IOException e) {
+            logChannel = null;
+        }
+    }
+
+    //=========== Compaction =================================================================================
+
+    /**
+     * Moves the log aside and folds it into a new snapshot in the background.
+     * Does nothing if a previous compaction is still in progress, the log will be compacted after a later save.
+     */
+    private void startCompaction(ReadOnlyTaskList taskList) throws IOException {
+        if (pendingCompaction != null && !pendingCompaction.isDone()) {
+            return;
+        }
+
+        closeLog();
+        File rotatedLogFile = new File(getLogFile(filePath).getPath() + "." + lastSequence);
+        moveAtomically(getLogFile(filePath), rotatedLogFile);
+        logRecordCount = 0;
+
+        // copied so that the task list can keep changing while the snapshot is being written
+        TaskList snapshotData = new TaskList(taskList);
+        String snapshotFilePath = filePath;
+        long snapshotSequence = lastSequence;
+        pendingCompaction = compactionExecutor.submit(() -> {
+            try {
+                writeSnapshot(snapshotFilePath, snapshotData, snapshotSequence);
+                deleteRotatedLogsUpTo(snapshotFilePath, snapshotSequence);
+            } catch (IOException e) {
+                // the rotated log is kept, so the changes can still be recovered on the next start
+                logger.warning("Failed to compact task list log " + StringUtil.getDetails(e));
+            }
+        });
+    }
+
+    /**
+     * Atomically replaces the snapshot at {@code filePath} with {@code taskList}, unless a newer snapshot
+     * has already been written there.
+     */
+    private void writeSnapshot(String filePath, ReadOnlyTaskList taskList, long sequence) throws IOException {
+        synchronized (snapshotLock) {
+            if (filePath.equals(latestSnapshotFilePath) && sequence < latestSnapshotSequence) {
+                return;
+            }
+
+            File snapshotFile = new File(filePath);
+            File tempFile = new File(filePath + TEMP_FILE_SUFFIX);
+            FileUtil.createIfMissing(tempFile);
+            XmlFileStorage.saveDataToFile(tempFile, new XmlSerializableTaskList(taskList, sequence));
+            try (FileChannel channel = FileChannel.open(tempFile.toPath(), StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            moveAtomically(tempFile, snapshotFile);
+
+            latestSnapshotFilePath = filePath;
+            latestSnapshotSequence = sequence;
+        }
+    }
+
+    private static void moveAtomically(File source, File target) throws IOException {
+        try {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Renames every log of {@code filePath} so that it is no longer read, keeping it for the user to recover by hand.
+     */
+    private static void moveLogsAside(String filePath) throws IOException {
+        String suffix = UNREPLAYED_LOG_FILE_SUFFIX + System.currentTimeMillis();
+        for (File logFile : getAllLogFiles(filePath)) {
+            File movedLogFile = new File(logFile.getPath() + suffix);
+            moveAtomically(logFile, movedLogFile);
+            logger.warning("Kept task list log that could not be replayed as " + movedLogFile);
+        }
+    }
+
+    private static void deleteRotatedLogsUpTo(String filePath, long sequence) throws IOException {
+        for (File rotatedLogFile : getRotatedLogFiles(filePath)) {
+            if (getRotatedLogSequence(rotatedLogFile) <= sequence) {
+                Files.deleteIfExists(rotatedLogFile.toPath());
+            }
+        }
+    }
+
+    //=========== Recovery ===================================================================================
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays every log record that is not yet in the snapshot.
+     * Replaying stops at the first record that cannot be read, such as a record that was only partially written.
+     * The log is not replayed at all if any record of the snapshot was skipped.
+     */
+    private Recovery recover(String filePath) throws DataConversionException, IOException {
+        Recovery recovery = new Recovery();
+        List<File> logFiles = getAllLogFiles(filePath);
+        File snapshotFile = new File(filePath);
+
+        if (snapshotFile.exists()) {
+            XmlTaskListReader snapshotReader = new XmlTaskListReader(snapshotFile);
+            recovery.taskList = snapshotReader.read();
+            recovery.hasSnapshot = true;
+
+            if (!snapshotReader.getLogSequence().isPresent()) {
+                // the snapshot was written by something else, so the log does not belong to it
+                if (!logFiles.isEmpty()) {
+                    logger.warning("Ignoring task list log that does not belong to " + filePath);
+                    recovery.isClean = false;
+                }
+                return recovery;
+            }
+            recovery.sequence = snapshotReader.getLogSequence().get();
+
+            if (!snapshotReader.getRecordErrors().isEmpty()) {
+                // the log finds tasks by their position, which the skipped records have shifted, so replaying it
+                // would change the wrong tasks
+                if (!logFiles.isEmpty()) {
+                    logger.warning("Not replaying task list log as records of " + filePath + " were skipped");
+                    recovery.isClean = false;
+                    recovery.hasUnreplayedLogs = true;
+                }
+                return recovery;
+            }
+        }
+
+        File activeLogFile = getLogFile(filePath);
+        for (File logFile : logFiles) {
+            if (!logFile.equals(activeLogFile)) {
+                // a compaction did not finish
+                recovery.isClean = false;
+            }
+            if (!replayLog(logFile, recovery)) {
+                recovery.isClean = false;
+                break;
+            }
+        }
+        return recovery;
+    }
+
+    /**
+     * Replays the records in {@code logFile} on {@code recovery}.
+     * Returns false if a record could not be replayed.
+     */
+    private boolean replayLog(File logFile, Recovery recovery) throws IOException {
+        byte[] bytes = Files.readAllBytes(logFile.toPath());
+        boolean isActiveLog = logFile.getName().endsWith(LOG_FILE_SUFFIX);
+        int lineStart = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] != '\n') {
+                continue;
+            }
+            String record = new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8);
+            lineStart = i + 1;
+            try {
+                XmlAdaptedTaskListChange change =
+                        (XmlAdaptedTaskListChange) unmarshaller.unmarshal(new StringReader(record));
+                if (change.getSequence() <= recovery.sequence) {
+                    continue;
+                }
+                if (change.getSequence() != recovery.sequence + 1) {
+                    logger.warning("Task list log " + logFile + " is missing records before "
+                            + change.getSequence());
+                    return false;
+                }
+                change.applyTo(recovery.taskList);
+                recovery.sequence = change.getSequence();
+                if (isActiveLog) {
+                    recovery.activeLogRecordCount++;
+                }
+            } catch (JAXBException | ClassCastException | IllegalValueException | InvalidDurationException e) {
+                logger.warning("Unreadable record in task list log " + logFile + ": " + e.getMessage());
+                return false;
+            }
+        }
+        // anything after the last line break was only partially written
+        return lineStart == bytes.length;
+    }
+
+    private static File getLogFile(String filePath) {
+        return new File(filePath + LOG_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the rotated logs followed by the active log, oldest first.
+     */
+    private static List<File> getAllLogFiles(String filePath) {
+        List<File> logFiles = getRotatedLogFiles(filePath);
+        File activeLogFile = getLogFile(filePath);
+        if (activeLogFile.exists()) {
+            logFiles.add(activeLogFile);
+        }
+        return logFiles;
+    }
+
+    /**
+     * Returns the logs that were moved aside for compaction, oldest first.
+     */
+    private static List<File> getRotatedLogFiles(String filePath) {
+        File activeLogFile = getLogFile(filePath).getAbsoluteFile();
+        String prefix = activeLogFile.getName() + ".";
+        File[] rotatedLogFiles = activeLogFile.getParentFile().listFiles((dir, name) ->
+                name.startsWith(prefix) && name.substring(prefix.length()).matches("\\d+"));
+
+        if (rotatedLogFiles == null) {
+            return new ArrayList<>();
+        }
+        List<File> sortedLogFiles = new ArrayList<>(Arrays.asList(rotatedLogFiles));
+        sortedLogFiles.sort(Comparator.comparingLong(AppendOnlyTaskListStorage::getRotatedLogSequence));
+        return sortedLogFiles;
+    }
+
+    private static long getRotatedLogSequence(File rotatedLogFile) {
+        String name = rotatedLogFile.getName();
+        return Long.parseLong(name.substring(name.lastIndexOf('.') + 1));
+    }
+
+    /**
+     * The task list rebuilt from a snapshot and its log.
+     */
+    private static class Recovery {
+        private TaskList taskList = new TaskList();
+        private boolean hasSnapshot;
+        private long sequence;
+        private int activeLogRecordCount;
+        private boolean isClean = true;
+        // true if there are logs that were not replayed at all, rather than replayed up to a bad record
+        private boolean hasUnreplayedLogs;
+    }
+}
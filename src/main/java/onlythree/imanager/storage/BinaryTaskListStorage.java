@@ -0,0 +1,419 @@
+package onlythree.imanager.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import onlythree.imanager.commons.core.LogsCenter;
+import onlythree.imanager.commons.exceptions.DataConversionException;
+import onlythree.imanager.commons.exceptions.IllegalValueException;
+import onlythree.imanager.commons.util.FileUtil;
+import onlythree.imanager.model.ReadOnlyTaskList;
+import onlythree.imanager.model.TaskList;
+import onlythree.imanager.model.history.TaskListChange;
+import onlythree.imanager.model.tag.Tag;
+import onlythree.imanager.model.tag.UniqueTagList;
+import onlythree.imanager.model.task.Deadline;
+import onlythree.imanager.model.task.Name;
+import onlythree.imanager.model.task.ReadOnlyTask;
+import onlythree.imanager.model.task.StartEndDateTime;
+import onlythree.imanager.model.task.Task;
+import onlythree.imanager.model.task.exceptions.InvalidDurationException;
+import onlythree.imanager.model.task.exceptions.PastDateTimeException;
+
+/**
+ * A class to access TaskList data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with {@link #MAGIC} and the format version, followed by the master tag list and then one
+ * record for each task, so that it can be read and written as a stream. Since version 2, each task record
+ * starts with the id of the task. A date-time is stored as its epoch
+ * second, nanosecond and zone id. Each tag name and zone id is written out in full only the first time it is
+ * used, and is referred to by number after that.
+ */
+public class BinaryTaskListStorage implements TaskListStorage {
+
+    public static final String FILE_EXTENSION = ".imb";
+
+    /** The first four bytes of every binary task list file, "IMB" followed by a byte that is not text. */
+    public static final int MAGIC = 0x494D4200;
+    /** The version of the format written by this class. Increase it when the format changes. */
+    public static final int FORMAT_VERSION = 2;
+    /** The oldest version of the format that can still be read, before tasks had ids. */
+    private static final int FIRST_FORMAT_VERSION = 1;
+
+    private static final int FLAG_COMPLETE = 1;
+    private static final int FLAG_DEADLINE = 1 << 1;
+    private static final int FLAG_START_END_DATE_TIME = 1 << 2;
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTaskListStorage.class);
+
+    private String filePath;
+
+    public BinaryTaskListStorage(String filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if {@code filePath} names a binary task list file.
+     */
+    public static boolean isBinaryFilePath(String filePath) {
+        return filePath.toLowerCase().endsWith(FILE_EXTENSION);
+    }
+
+    @Override
+    public String getTaskListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void setTaskListFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskList> readTaskList() throws DataConversionException, IOException {
+        return readTaskList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskList()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskList> readTaskList(String filePath) throws DataConversionException, IOException {
+        assert filePath != null;
+
+        File taskListFile = new File(filePath);
+        if (!taskListFile.exists()) {
+            logger.info("TaskList file " + taskListFile + " not found");
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(taskListFile)))) {
+            return Optional.of(new Reader(in).readTaskList());
+        } catch (EOFException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveTaskList(ReadOnlyTaskList taskList) throws IOException {
+        saveTaskList(taskList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskList(ReadOnlyTaskList)}
+     * The task list is written to a temporary file that then replaces the file at {@code filePath}, so the old
+     * file is left as it was if the task list cannot be written in full.
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveTaskList(ReadOnlyTaskList taskList, String filePath) throws IOException {
+        assert taskList != null;
+        assert filePath != null;
+
+        File file = new File(filePath);
+        File tempFile = new File(filePath + TEMP_FILE_SUFFIX);
+        FileUtil.createIfMissing(tempFile);
+        boolean isWritten = false;
+        try {
+            FileOutputStream fileOut = new FileOutputStream(tempFile);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut))) {
+                new Writer(out).writeTaskList(taskList);
+                out.flush();
+                fileOut.getFD().sync();
+            }
+            moveAtomically(tempFile, file);
+            isWritten = true;
+        } finally {
+            if (!isWritten) {
+                Files.deleteIfExists(tempFile.toPath());
+            }
+        }
+    }
+
+    private static void moveAtomically(File source, File target) throws IOException {
+        try {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Saves the whole of {@code taskList} as the binary file cannot be updated incrementally.
+     */
+    @Override
+    public void saveTaskListChanges(ReadOnlyTaskList taskList, List<TaskListChange> changes) throws IOException {
+        saveTaskList(taskList);
+    }
+
+    @Override
+    public void flushTaskList() {
+        // every save is written to the file straight away
+    }
+
+    /**
+     * Writes unsigned {@code value} in as few bytes as needed, 7 bits at a time.
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        assert value >= 0;
+        while (value >= 0x80) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Writes unsigned {@code value} in as few bytes as needed, 7 bits at a time.
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        assert value >= 0;
+        while (value >= 0x80) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException, DataConversionException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new DataConversionException(new IllegalValueException("Malformed number in binary task list"));
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException, DataConversionException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new DataConversionException(new IllegalValueException("Malformed number in binary task list"));
+    }
+
+    /**
+     * Writes a task list to a stream in the binary format.
+     */
+    private static class Writer {
+
+        private final DataOutputStream out;
+        private final Map<String, Integer> tagIds = new HashMap<>();
+        private final Map<String, Integer> zoneIds = new HashMap<>();
+
+        Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        void writeTaskList(ReadOnlyTaskList taskList) throws IOException {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+
+            writeVarInt(out, taskList.getTagList().size());
+            for (Tag tag : taskList.getTagList()) {
+                writeInterned(tagIds, tag.tagName);
+            }
+
+            writeVarInt(out, taskList.getTaskList().size());
+            for (ReadOnlyTask task : taskList.getTaskList()) {
+                writeTask(task);
+            }
+        }
+
+        private void writeTask(ReadOnlyTask task) throws IOException {
+            int flags = (task.isComplete() ? FLAG_COMPLETE : 0)
+                    | (task.getDeadline().isPresent() ? FLAG_DEADLINE : 0)
+                    | (task.getStartEndDateTime().isPresent() ? FLAG_START_END_DATE_TIME : 0);
+            writeVarLong(out, task.getId());
+            out.writeByte(flags);
+            out.writeUTF(task.getName().value);
+
+            if (task.getDeadline().isPresent()) {
+                writeDateTime(task.getDeadline().get().getDateTime());
+            }
+            if (task.getStartEndDateTime().isPresent()) {
+                writeDateTime(task.getStartEndDateTime().get().getStartDateTime());
+                writeDateTime(task.getStartEndDateTime().get().getEndDateTime());
+            }
+
+            writeVarInt(out, task.getTagSet().size());
+            for (Tag tag : task.getTagSet()) {
+                writeInterned(tagIds, tag.tagName);
+            }
+        }
+
+        private void writeDateTime(ZonedDateTime dateTime) throws IOException {
+            Instant instant = dateTime.toInstant();
+            out.writeLong(instant.getEpochSecond());
+            writeVarInt(out, instant.getNano());
+            writeInterned(zoneIds, dateTime.getZone().getId());
+        }
+
+        /**
+         * Writes 0 followed by {@code value} the first time {@code value} is written, and its number plus one
+         * after that.
+         */
+        private void writeInterned(Map<String, Integer> ids, String value) throws IOException {
+            Integer id = ids.get(value);
+            if (id != null) {
+                writeVarInt(out, id + 1);
+                return;
+            }
+            ids.put(value, ids.size());
+            writeVarInt(out, 0);
+            out.writeUTF(value);
+        }
+    }
+
+    /**
+     * Reads a task list from a stream in the binary format.
+     */
+    private static class Reader {
+
+        private final DataInputStream in;
+        private final List<String> tagNames = new ArrayList<>();
+        private final Map<String, Tag> tags = new HashMap<>();
+        private final List<String> zoneIdNames = new ArrayList<>();
+        private final Map<String, ZoneId> zones = new HashMap<>();
+        private int version;
+
+        Reader(DataInputStream in) {
+            this.in = in;
+        }
+
+        TaskList readTaskList() throws DataConversionException, IOException {
+            if (in.readInt() != MAGIC) {
+                throw new DataConversionException(new IllegalValueException("Not a binary task list file"));
+            }
+            version = in.readInt();
+            if (version < FIRST_FORMAT_VERSION || version > FORMAT_VERSION) {
+                throw new DataConversionException(
+                        new IllegalValueException("Unsupported binary task list version: " + version));
+            }
+
+            TaskList taskList = new TaskList();
+            try {
+                int tagCount = readVarInt(in);
+                for (int i = 0; i < tagCount; i++) {
+                    taskList.addTag(readTag());
+                }
+
+                int taskCount = readVarInt(in);
+                for (int i = 0; i < taskCount; i++) {
+                    taskList.addTask(readTask());
+                }
+            } catch (IllegalValueException | InvalidDurationException | DateTimeException e) {
+                throw new DataConversionException(e);
+            }
+            return taskList;
+        }
+
+        private Task readTask() throws DataConversionException, IOException, IllegalValueException,
+                InvalidDurationException {
+            // files of the first version have no ids, so the task list gives the tasks new ids
+            long id = version > FIRST_FORMAT_VERSION ? readVarLong(in) : ReadOnlyTask.NO_ID;
+            int flags = in.readUnsignedByte();
+            Name name = new Name(in.readUTF());
+
+            Optional<Deadline> deadline = Optional.empty();
+            Optional<StartEndDateTime> startEndDateTime = Optional.empty();
+            try {
+                // dates in the past are allowed because this is loaded from storage
+                if ((flags & FLAG_DEADLINE) != 0) {
+                    deadline = Optional.of(new Deadline(readDateTime(), true));
+                }
+                if ((flags & FLAG_START_END_DATE_TIME) != 0) {
+                    startEndDateTime = Optional.of(new StartEndDateTime(readDateTime(), readDateTime(), true));
+                }
+            } catch (PastDateTimeException e) {
+                throw new AssertionError("Date-times constructed from storage should never be in the past", e);
+            }
+
+            int tagCount = readVarInt(in);
+            List<Tag> taskTags = new ArrayList<>(tagCount);
+            for (int i = 0; i < tagCount; i++) {
+                taskTags.add(readTag());
+            }
+
+            Task task = new Task(name, deadline, startEndDateTime, new UniqueTagList(taskTags),
+                    (flags & FLAG_COMPLETE) != 0);
+            if (id != ReadOnlyTask.NO_ID) {
+                task.setId(id);
+            }
+            return task;
+        }
+
+        private ZonedDateTime readDateTime() throws DataConversionException, IOException {
+            long epochSecond = in.readLong();
+            int nano = readVarInt(in);
+            ZoneId zone = zones.computeIfAbsent(readInterned(zoneIdNames), ZoneId::of);
+            return ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nano), zone);
+        }
+
+        private Tag readTag() throws DataConversionException, IOException, IllegalValueException {
+            String tagName = readInterned(tagNames);
+            Tag tag = tags.get(tagName);
+            if (tag == null) {
+                tag = new Tag(tagName);
+                tags.put(tagName, tag);
+            }
+            return tag;
+        }
+
+        /**
+         * Reads a value written by {@link Writer#writeInterned(Map, String)}, adding it to {@code values} the first
+         * time it is read.
+         */
+        private String readInterned(List<String> values) throws DataConversionException, IOException {
+            int id = readVarInt(in);
+            if (id == 0) {
+                String value = in.readUTF();
+                values.add(value);
+                return value;
+            }
+            if (id > values.size()) {
+                throw new DataConversionException(
+                        new IllegalValueException("Reference to unknown value in binary task list: " + id));
+            }
+            return values.get(id - 1);
+        }
+    }
+}
@@ -1,37 +1,102 @@
 package onlythree.imanager.storage;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
 import onlythree.imanager.commons.core.ComponentManager;
 import onlythree.imanager.commons.core.LogsCenter;
+import onlythree.imanager.commons.core.MetricsCenter;
 import onlythree.imanager.commons.events.model.TaskListChangedEvent;
 import onlythree.imanager.commons.events.storage.DataSavingExceptionEvent;
 import onlythree.imanager.commons.events.storage.FileLocationChangedEvent;
 import onlythree.imanager.commons.exceptions.DataConversionException;
 import onlythree.imanager.model.ReadOnlyTaskList;
+import onlythree.imanager.model.TaskList;
 import onlythree.imanager.model.UserPrefs;
+import onlythree.imanager.model.history.TaskListChange;
 
 /**
  * Manages storage of TaskList data in local storage.
+ *
+ * TaskList data is written on a dedicated writer thread so that saving never blocks the command that made the
+ * change. Changes made within the save delay of the first unsaved change are saved together.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
+    /** The default time in milliseconds that a change waits for further changes to be saved together with. */
+    public static final long DEFAULT_SAVE_DELAY_IN_MILLIS = 200;
+    /** The {@link MetricsCenter} histogram of the time taken by each save, in nanoseconds. */
+    public static final String METRICS_SAVE = "storage.save";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
-    private TaskListStorage taskListStorage;
+    // replaced on the writer thread when the file path changes to a file of another format
+    private volatile TaskListStorage taskListStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final long saveDelayInMillis;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Storage writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // guarded by pendingSaveLock, written by the thread raising TaskListChangedEvent and read by the writer thread
+    private final Object pendingSaveLock = new Object();
+    private List<TaskListChange> pendingChanges = new ArrayList<>();
+    private TaskList pendingTaskList;
+    private boolean isFullSavePending;
+    private boolean isSavedTaskListKnown;
+    private ScheduledFuture<?> scheduledSave;
+
+    // only used by the writer thread: a copy of the task list as last handed to taskListStorage
+    private TaskList savedTaskList;
+
     public StorageManager(TaskListStorage taskListStorage, UserPrefsStorage userPrefsStorage) {
+        this(taskListStorage, userPrefsStorage, DEFAULT_SAVE_DELAY_IN_MILLIS);
+    }
+
+    /**
+     * @param saveDelayInMillis the time that a change waits for further changes to be saved together with
+     */
+    public StorageManager(TaskListStorage taskListStorage, UserPrefsStorage userPrefsStorage,
+            long saveDelayInMillis) {
         super();
+        assert saveDelayInMillis >= 0;
         this.taskListStorage = taskListStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saveDelayInMillis = saveDelayInMillis;
     }
 
     public StorageManager(String taskListFilePath, String userPrefsFilePath) {
-        this(new XmlTaskListStorage(taskListFilePath), new JsonUserPrefsStorage(userPrefsFilePath));
+        this(createTaskListStorage(taskListFilePath), new JsonUserPrefsStorage(userPrefsFilePath));
+    }
+
+    public StorageManager(String taskListFilePath, String userPrefsFilePath, long saveDelayInMillis) {
+        this(createTaskListStorage(taskListFilePath), new JsonUserPrefsStorage(userPrefsFilePath),
+                saveDelayInMillis);
+    }
+
+    /**
+     * Returns a storage for the task list file at {@code filePath} in the format given by its extension:
+     * a {@link BinaryTaskListStorage} for {@value BinaryTaskListStorage#FILE_EXTENSION} files, and an
+     * {@link AppendOnlyTaskListStorage} otherwise.
+     */
+    public static TaskListStorage createTaskListStorage(String filePath) {
+        if (BinaryTaskListStorage.isBinaryFilePath(filePath)) {
+            return new BinaryTaskListStorage(filePath);
+        }
+        return new AppendOnlyTaskListStorage(filePath);
     }
 
     // ================ UserPrefs methods ==============================
@@ -48,6 +113,7 @@ public class StorageManager extends ComponentManager implements Storage {
 
 
     // ================ TaskList methods ==============================
+    // These run on the writer thread, and wait for it, so that they never interleave with a background save.
 
     @Override
     public String getTaskListFilePath() {
@@ -62,7 +128,7 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     public Optional<ReadOnlyTaskList> readTaskList(String filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return taskListStorage.readTaskList(filePath);
+        return runOnWriter(() -> taskListStorage.readTaskList(filePath));
     }
 
     @Override
@@ -73,29 +139,203 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     public void saveTaskList(ReadOnlyTaskList taskList, String filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        taskListStorage.saveTaskList(taskList, filePath);
+        runOnWriterWithoutConversion(() -> {
+            savePendingChanges();
+            forgetSavedTaskList();
+            taskListStorage.saveTaskList(taskList, filePath);
+            return null;
+        });
     }
 
+    @Override
+    public void saveTaskListChanges(ReadOnlyTaskList taskList, List<TaskListChange> changes) throws IOException {
+        logger.fine("Attempting to write " + changes.size() + " changes to data file: " + getTaskListFilePath());
+        runOnWriterWithoutConversion(() -> {
+            savePendingChanges();
+            forgetSavedTaskList();
+            taskListStorage.saveTaskListChanges(taskList, changes);
+            return null;
+        });
+    }
+
+    /**
+     * Saves any pending changes straight away and waits until everything saved so far is on the disk.
+     */
+    @Override
+    public void flushTaskList() throws IOException {
+        runOnWriterWithoutConversion(() -> {
+            savePendingChanges();
+            taskListStorage.flushTaskList();
+            return null;
+        });
+    }
+
+    /**
+     * Makes the task list be saved to {@code filePath} from now on. If {@code filePath} is in another format
+     * than the current task list file, the task list storage is replaced with one for that format.
+     * @see #createTaskListStorage(String)
+     */
     public void setTaskListFilePath(String filePath) {
-        taskListStorage.setTaskListFilePath(filePath);
+        try {
+            runOnWriterWithoutConversion(() -> {
+                savePendingChanges();
+                forgetSavedTaskList();
+                if (BinaryTaskListStorage.isBinaryFilePath(filePath)
+                        != BinaryTaskListStorage.isBinaryFilePath(taskListStorage.getTaskListFilePath())) {
+                    TaskListStorage replacedStorage = taskListStorage;
+                    taskListStorage = createTaskListStorage(filePath);
+                    replacedStorage.flushTaskList();
+                } else {
+                    taskListStorage.setTaskListFilePath(filePath);
+                }
+                return null;
+            });
+        } catch (IOException e) {
+            // only flushing the replaced storage can fail, the new file path is used all the same
+            raise(new DataSavingExceptionEvent(e));
+        }
     }
 
 
+    /**
+     * Queues the changes in {@code event} to be saved on the writer thread.
+     * Raises {@link DataSavingExceptionEvent} from the writer thread if the changes could not be saved.
+     */
     @Override
     @Subscribe
     public void handleTaskListChangedEvent(TaskListChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        synchronized (pendingSaveLock) {
+            pendingChanges.addAll(event.changes);
+            if (event.changes.isEmpty() || !isSavedTaskListKnown) {
+                // the writer cannot work out the new task list from the changes, so give it a copy
+                pendingTaskList = new TaskList(event.data);
+                isFullSavePending |= event.changes.isEmpty();
+                isSavedTaskListKnown = true;
+            } else if (pendingTaskList != null) {
+                // keep the copy waiting to be saved up to date
+                event.changes.forEach(change -> change.apply(pendingTaskList));
+            }
+
+            if (scheduledSave == null) {
+                scheduledSave = writer.schedule(this::savePendingChanges, saveDelayInMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Saves the changes queued by {@link #handleTaskListChangedEvent(TaskListChangedEvent)}.
+     * Must only be run on the writer thread.
+     */
+    private void savePendingChanges() {
+        List<TaskListChange> changes;
+        TaskList newTaskList;
+        boolean isFullSave;
+        synchronized (pendingSaveLock) {
+            changes = pendingChanges;
+            newTaskList = pendingTaskList;
+            isFullSave = isFullSavePending;
+            pendingChanges = new ArrayList<>();
+            pendingTaskList = null;
+            isFullSavePending = false;
+            if (scheduledSave != null) {
+                scheduledSave.cancel(false);
+                scheduledSave = null;
+            }
+        }
+        if (newTaskList == null && changes.isEmpty()) {
+            return;
+        }
+
+        if (newTaskList == null && savedTaskList == null) {
+            // a previous save failed unexpectedly, the next change will save the whole task list
+            return;
+        }
+
+        long startNanos = System.nanoTime();
         try {
-            saveTaskList(event.data);
+            if (newTaskList != null) {
+                savedTaskList = newTaskList;
+            } else {
+                changes.forEach(change -> change.apply(savedTaskList));
+            }
+
+            if (isFullSave) {
+                taskListStorage.saveTaskList(savedTaskList);
+            } else {
+                taskListStorage.saveTaskListChanges(savedTaskList, changes);
+            }
         } catch (IOException e) {
             raise(new DataSavingExceptionEvent(e));
+        } catch (RuntimeException e) {
+            logger.severe("Unexpected error while saving task list: " + e);
+            savedTaskList = null;
+            synchronized (pendingSaveLock) {
+                isSavedTaskListKnown = false;
+                isFullSavePending = true;
+            }
+            raise(new DataSavingExceptionEvent(e));
+        } finally {
+            // saves are not attributed to commands, as changes made by several commands are saved together
+            MetricsCenter.getInstance().getHistogram(METRICS_SAVE).record(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Makes the next {@link TaskListChangedEvent} hand a copy of the whole task list to the writer thread,
+     * as the task list storage may no longer match {@link #savedTaskList}.
+     */
+    private void forgetSavedTaskList() {
+        synchronized (pendingSaveLock) {
+            isSavedTaskListKnown = false;
+        }
+    }
+
+    /**
+     * Runs {@code task} on the writer thread and waits for its result.
+     */
+    private <T> T runOnWriter(StorageTask<T> task) throws DataConversionException, IOException {
+        Future<T> result = writer.submit(() -> task.run());
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the storage writer", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DataConversionException) {
+                throw (DataConversionException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
         }
     }
 
+    private <T> T runOnWriterWithoutConversion(StorageTask<T> task) throws IOException {
+        try {
+            return runOnWriter(task);
+        } catch (DataConversionException e) {
+            throw new AssertionError("Only reading can throw DataConversionException", e);
+        }
+    }
+
+    /**
+     * A storage operation that can be run on the writer thread.
+     */
+    @FunctionalInterface
+    private interface StorageTask<T> {
+        T run() throws DataConversionException, IOException;
+    }
+
     //@@author A0148052L
     public void handleFileLocationChangedEvent(FileLocationChangedEvent event) throws
         DataConversionException {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "File Location is changed."));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event, "File Location is changed."));
         setTaskListFilePath(event.getFilePath());
         try {
             saveTaskList(event.getData());
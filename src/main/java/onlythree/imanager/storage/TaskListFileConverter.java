@@ -0,0 +1,66 @@
+package onlythree.imanager.storage;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import onlythree.imanager.commons.exceptions.DataConversionException;
+import onlythree.imanager.commons.exceptions.IllegalValueException;
+import onlythree.imanager.model.ReadOnlyTaskList;
+import onlythree.imanager.model.TaskList;
+
+/**
+ * Converts a task list file between the xml and the binary formats, e.g. to migrate existing data files.
+ * The format of each file is given by its extension, as in {@link StorageManager#createTaskListStorage(String)}.
+ *
+ * Usage: {@code java onlythree.imanager.storage.TaskListFileConverter SOURCE_FILE TARGET_FILE}
+ */
+public class TaskListFileConverter {
+
+    private TaskListFileConverter() {}
+
+    /**
+     * Reads the task list at {@code sourceFilePath} and writes it to {@code targetFilePath}.
+     * An xml source is read with any changes still in its log. An xml target is written as a plain xml file.
+     * The target is read back afterwards to check that the conversion did not lose any data.
+     *
+     * @throws DataConversionException if the source is not in the expected format, or the target does not hold
+     *             the same task list as the source after the conversion.
+     * @throws IOException if there was any problem reading or writing the files.
+     */
+    public static void convert(String sourceFilePath, String targetFilePath)
+            throws DataConversionException, IOException {
+        Optional<ReadOnlyTaskList> source = StorageManager.createTaskListStorage(sourceFilePath).readTaskList();
+        if (!source.isPresent()) {
+            throw new IOException("Task list file " + sourceFilePath + " not found");
+        }
+        TaskList sourceTaskList = new TaskList(source.get());
+
+        TaskListStorage target = BinaryTaskListStorage.isBinaryFilePath(targetFilePath)
+                ? new BinaryTaskListStorage(targetFilePath)
+                : new XmlTaskListStorage(targetFilePath);
+        target.saveTaskList(sourceTaskList);
+
+        Optional<ReadOnlyTaskList> converted = target.readTaskList();
+        if (!converted.isPresent() || !sourceTaskList.equals(new TaskList(converted.get()))) {
+            throw new DataConversionException(
+                    new IllegalValueException("The converted task list does not match " + sourceFilePath));
+        }
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: TaskListFileConverter SOURCE_FILE TARGET_FILE");
+            System.err.println("Files ending in " + BinaryTaskListStorage.FILE_EXTENSION
+                    + " are in the binary format, other files are in the xml format.");
+            System.exit(2);
+        }
+
+        try {
+            convert(args[0], args[1]);
+            System.out.println("Converted " + args[0] + " to " + args[1]);
+        } catch (DataConversionException | IOException e) {
+            System.err.println("Could not convert " + args[0] + ": " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package onlythree.imanager.storage;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 
 import onlythree.imanager.commons.exceptions.DataConversionException;
 import onlythree.imanager.model.ReadOnlyTaskList;
+import onlythree.imanager.model.history.TaskListChange;
 
 /**
  * Represents a storage for {@link onlythree.imanager.model.TaskList}.
@@ -41,6 +43,21 @@ public interface TaskListStorage {
      */
     void saveTaskList(ReadOnlyTaskList taskList, String filePath) throws IOException;
 
+    /**
+     * Saves {@code changes}, which were made to {@code taskList} after it was last saved, to the storage.
+     * Storages that cannot save changes one by one may save the whole of {@code taskList} instead.
+     * @param taskList the task list after all the changes were made, cannot be null.
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveTaskListChanges(ReadOnlyTaskList taskList, List<TaskListChange> changes) throws IOException;
+
+    /**
+     * Makes sure everything saved so far has been written to the disk.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushTaskList() throws IOException;
+
     /*
      *Set saving file path
      *@param filePath
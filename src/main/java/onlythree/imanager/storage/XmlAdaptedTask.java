@@ -11,6 +11,7 @@ import javax.xml.bind.annotation.XmlElement;
 import onlythree.imanager.commons.core.DateTimeFormats;
 import onlythree.imanager.commons.exceptions.IllegalValueException;
 import onlythree.imanager.model.tag.Tag;
+import onlythree.imanager.model.tag.TagSet;
 import onlythree.imanager.model.tag.UniqueTagList;
 import onlythree.imanager.model.tag.UniqueTagList.DuplicateTagException;
 import onlythree.imanager.model.task.Deadline;
@@ -27,6 +28,9 @@ import onlythree.imanager.model.task.exceptions.PastDateTimeException;
  */
 public class XmlAdaptedTask {
 
+    @XmlElement(name = "id")
+    private Long idElement;
+
     @XmlElement(name = "name", required = true)
     private String nameElement;
 
@@ -58,17 +62,28 @@ public class XmlAdaptedTask {
      * @param source future changes to this will not affect the created XmlAdaptedTask
      */
     public XmlAdaptedTask(ReadOnlyTask source) {
+        setIdElementIfPresent(source.getId());
+
         setNameElement(source.getName().value);
 
         setDeadlineElementIfPresent(source.getDeadline());
         // the start and end date elements must be set together because they cannot exist separately
         setStartEndDateElementsIfPresent(source.getStartEndDateTime());
 
-        setTagElement(source.getTags());
+        setTagElement(source.getTagSet());
 
         setCompleteElement(source.isComplete());
     }
 
+    /**
+     * Sets the XmlElement id to the source task's id if it has one
+     */
+    private void setIdElementIfPresent(long sourceId) {
+        if (sourceId != ReadOnlyTask.NO_ID) {
+            idElement = sourceId;
+        }
+    }
+
     /**
      * Sets the XmlElement name to the source task's name
      */
@@ -98,9 +113,9 @@ public class XmlAdaptedTask {
     }
 
     /**
-     * Sets each tag XmlElement to the source task's tags from its unique tag list
+     * Sets each tag XmlElement to the source task's tags from its tag set
      */
-    private void setTagElement(UniqueTagList sourceTagList) {
+    private void setTagElement(TagSet sourceTagList) {
         tagElements = new ArrayList<>();
         for (Tag tag : sourceTagList) {
             tagElements.add(new XmlAdaptedTag(tag));
@@ -127,7 +142,12 @@ public class XmlAdaptedTask {
         final UniqueTagList tagList = buildTagListFromXmlElement();
         final boolean isComplete = buildIsCompleteFromXmlElement();
 
-        return new Task(name, deadline, startEndDateTime, tagList, isComplete);
+        final Task task = new Task(name, deadline, startEndDateTime, tagList, isComplete);
+        // files saved before tasks had ids have none, so the task list gives them one
+        if (idElement != null && idElement > 0) {
+            task.setId(idElement);
+        }
+        return task;
     }
 
     /**
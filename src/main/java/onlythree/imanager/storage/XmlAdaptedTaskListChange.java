@@ -0,0 +1,88 @@
+package onlythree.imanager.storage;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import onlythree.imanager.commons.exceptions.IllegalValueException;
+import onlythree.imanager.model.TaskList;
+import onlythree.imanager.model.history.TaskListChange;
+import onlythree.imanager.model.task.exceptions.InvalidDurationException;
+
+/**
+ * JAXB-friendly version of a {@link TaskListChange}, used as a record in the task list log.
+ * Only the information needed to re-apply the change is kept.
+ * @see AppendOnlyTaskListStorage
+ */
+@XmlRootElement(name = "change")
+public class XmlAdaptedTaskListChange {
+
+    @XmlAttribute(required = true)
+    private long sequence;
+
+    @XmlAttribute(required = true)
+    private TaskListChange.Type type;
+
+    @XmlAttribute
+    private int index;
+
+    @XmlElement
+    private XmlAdaptedTask task;
+
+    /**
+     * Constructs an XmlAdaptedTaskListChange.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedTaskListChange() {}
+
+    /**
+     * Converts a given TaskListChange into this class for JAXB use.
+     * {@link TaskListChange.Type#RESET} changes cannot be converted.
+     *
+     * @param sequence the position of this record in the task list log
+     */
+    public XmlAdaptedTaskListChange(long sequence, TaskListChange source) {
+        assert source.getType() != TaskListChange.Type.RESET;
+
+        this.sequence = sequence;
+        type = source.getType();
+        index = source.getIndex();
+        if (source.getAfter() != null) {
+            task = new XmlAdaptedTask(source.getAfter());
+        }
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Re-applies this change to {@code taskList}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change
+     * @throws InvalidDurationException if the end DateTime of the adapted task is before or same as the start DateTime
+     */
+    public void applyTo(TaskList taskList) throws IllegalValueException, InvalidDurationException {
+        if (type == null || (type != TaskListChange.Type.REMOVE && task == null)) {
+            throw new IllegalValueException("Incomplete task list change: " + type);
+        }
+        if (index < 0 || index > taskList.getTaskList().size()
+                || (type != TaskListChange.Type.ADD && index == taskList.getTaskList().size())) {
+            throw new IllegalValueException("Task list change index out of bounds: " + index);
+        }
+
+        switch (type) {
+        case ADD:
+            taskList.addTask(index, task.toModelType());
+            break;
+        case REMOVE:
+            taskList.removeTask(index);
+            break;
+        case UPDATE:
+            taskList.updateTask(index, task.toModelType());
+            break;
+        default:
+            throw new IllegalValueException("Unexpected task list change: " + type);
+        }
+    }
+}
@@ -2,8 +2,10 @@ package onlythree.imanager.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -27,6 +29,8 @@ public class XmlSerializableTaskList implements ReadOnlyTaskList {
     private List<XmlAdaptedTask> tasks;
     @XmlElement
     private List<XmlAdaptedTag> tags;
+    @XmlAttribute
+    private Long logSequence;
 
     /**
      * Creates an empty XmlSerializableTaskList.
@@ -46,6 +50,25 @@ public class XmlSerializableTaskList implements ReadOnlyTaskList {
         tags.addAll(src.getTagList().stream().map(XmlAdaptedTag::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Conversion, also recording that {@code src} includes every change in the task list log
+     * up to {@code logSequence}.
+     * @see AppendOnlyTaskListStorage
+     */
+    public XmlSerializableTaskList(ReadOnlyTaskList src, long logSequence) {
+        this(src);
+        this.logSequence = logSequence;
+    }
+
+    /**
+     * Returns the sequence number of the last task list log record included in this task list,
+     * or empty if this task list was not written together with a log.
+     * @see AppendOnlyTaskListStorage
+     */
+    public Optional<Long> getLogSequence() {
+        return Optional.ofNullable(logSequence);
+    }
+
     @Override
     public ObservableList<ReadOnlyTask> getTaskList() {
         final ObservableList<Task> tasks = this.tasks.stream().map(p -> {
@@ -0,0 +1,367 @@
+package onlythree.imanager.storage;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import onlythree.imanager.commons.core.DateTimeFormats;
+import onlythree.imanager.commons.core.LogsCenter;
+import onlythree.imanager.commons.exceptions.DataConversionException;
+import onlythree.imanager.commons.exceptions.IllegalValueException;
+import onlythree.imanager.model.TaskList;
+import onlythree.imanager.model.tag.Tag;
+import onlythree.imanager.model.tag.UniqueTagList;
+import onlythree.imanager.model.tag.UniqueTagList.DuplicateTagException;
+import onlythree.imanager.model.task.Deadline;
+import onlythree.imanager.model.task.Name;
+import onlythree.imanager.model.task.ReadOnlyTask;
+import onlythree.imanager.model.task.StartEndDateTime;
+import onlythree.imanager.model.task.Task;
+import onlythree.imanager.model.task.exceptions.InvalidDurationException;
+import onlythree.imanager.model.task.exceptions.PastDateTimeException;
+
+/**
+ * Reads a task list xml file in the format written by {@link XmlSerializableTaskList} as a stream, building each
+ * task as soon as its record has been read rather than loading the whole document before converting it.
+ *
+ * A task or tag record that does not hold valid data is skipped and reported in {@link #getRecordErrors()},
+ * so that one bad record does not cost the rest of the task list. A file that is not well-formed xml is still
+ * rejected as a whole.
+ */
+public class XmlTaskListReader {
+
+    private static final Logger logger = LogsCenter.getLogger(XmlTaskListReader.class);
+
+    private static final String ROOT_ELEMENT = "tasklist";
+    private static final String LOG_SEQUENCE_ATTRIBUTE = "logSequence";
+    private static final String TASK_ELEMENT = "task";
+    private static final String MASTER_TAG_ELEMENT = "tags";
+    private static final String ID_ELEMENT = "id";
+    private static final String NAME_ELEMENT = "name";
+    private static final String DEADLINE_ELEMENT = "deadline";
+    private static final String START_DATE_ELEMENT = "startDate";
+    private static final String END_DATE_ELEMENT = "endDate";
+    private static final String TAG_ELEMENT = "tag";
+    private static final String COMPLETED_ELEMENT = "completed";
+
+    private static final XMLInputFactory inputFactory = createInputFactory();
+
+    private final File file;
+    private final List<String> recordErrors = new ArrayList<>();
+    private final Map<String, Tag> tags = new HashMap<>();
+    private Long logSequence;
+    private int taskRecordCount;
+
+    public XmlTaskListReader(File file) {
+        assert file != null;
+        this.file = file;
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // a task list file never needs a DTD, so do not resolve anything outside the file
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * Reads the task list in the file, skipping any record that does not hold valid data.
+     * @throws DataConversionException if the file is not a well-formed task list xml file.
+     * @throws FileNotFoundException if the file does not exist.
+     */
+    public TaskList read() throws DataConversionException, FileNotFoundException {
+        TaskList taskList = new TaskList();
+        XMLStreamReader reader = null;
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            reader = inputFactory.createXMLStreamReader(in);
+            readTaskList(reader, taskList);
+        } catch (FileNotFoundException e) {
+            throw e;
+        } catch (XMLStreamException | IOException e) {
+            throw new DataConversionException(e);
+        } finally {
+            close(reader);
+        }
+
+        for (String recordError : recordErrors) {
+            logger.warning("Skipped a record in " + file + ": " + recordError);
+        }
+        return taskList;
+    }
+
+    /**
+     * Returns the log sequence number recorded in the file by {@link XmlSerializableTaskList#getLogSequence()},
+     * or empty if there is none. Only available after {@link #read()}.
+     */
+    public Optional<Long> getLogSequence() {
+        return Optional.ofNullable(logSequence);
+    }
+
+    /**
+     * Returns a description of each record skipped by the last {@link #read()}, in the order they appear.
+     */
+    public List<String> getRecordErrors() {
+        return Collections.unmodifiableList(recordErrors);
+    }
+
+    private void readTaskList(XMLStreamReader reader, TaskList taskList)
+            throws XMLStreamException, DataConversionException {
+        reader.nextTag();
+        if (!ROOT_ELEMENT.equals(reader.getLocalName())) {
+            throw new DataConversionException(
+                    new IllegalValueException("Unexpected root element: " + reader.getLocalName()));
+        }
+        readLogSequence(reader);
+
+        while (nextChildElement(reader)) {
+            switch (reader.getLocalName()) {
+            case TASK_ELEMENT:
+                readTask(reader, taskList);
+                break;
+            case MASTER_TAG_ELEMENT:
+                readMasterTag(reader, taskList);
+                break;
+            default:
+                skipElement(reader);
+                break;
+            }
+        }
+    }
+
+    private void readLogSequence(XMLStreamReader reader) throws DataConversionException {
+        String value = reader.getAttributeValue(null, LOG_SEQUENCE_ATTRIBUTE);
+        if (value == null) {
+            return;
+        }
+        try {
+            logSequence = Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads one {@code task} element and adds the task it holds to {@code taskList}.
+     * The element is reported and skipped if it does not hold a valid task.
+     */
+    private void readTask(XMLStreamReader reader, TaskList taskList) throws XMLStreamException {
+        taskRecordCount++;
+        int lineNumber = reader.getLocation().getLineNumber();
+
+        long id = ReadOnlyTask.NO_ID;
+        String name = null;
+        String deadline = null;
+        String startDate = null;
+        String endDate = null;
+        List<String> tagNames = new ArrayList<>();
+        boolean isComplete = false;
+
+        while (nextChildElement(reader)) {
+            switch (reader.getLocalName()) {
+            case ID_ELEMENT:
+                id = parseId(reader.getElementText());
+                break;
+            case NAME_ELEMENT:
+                name = reader.getElementText();
+                break;
+            case DEADLINE_ELEMENT:
+                deadline = reader.getElementText();
+                break;
+            case START_DATE_ELEMENT:
+                startDate = reader.getElementText();
+                break;
+            case END_DATE_ELEMENT:
+                endDate = reader.getElementText();
+                break;
+            case TAG_ELEMENT:
+                tagNames.add(reader.getElementText());
+                break;
+            case COMPLETED_ELEMENT:
+                isComplete = parseBoolean(reader.getElementText());
+                break;
+            default:
+                skipElement(reader);
+                break;
+            }
+        }
+
+        try {
+            if (name == null) {
+                throw new IllegalValueException("Task has no name");
+            }
+            Task task = new Task(new Name(name), parseDeadline(deadline),
+                    parseStartEndDateTime(startDate, endDate), toTagList(tagNames), isComplete);
+            if (id != ReadOnlyTask.NO_ID) {
+                task.setId(id);
+            }
+            taskList.addTask(task);
+        } catch (IllegalValueException | InvalidDurationException e) {
+            recordErrors.add("task " + taskRecordCount + " at line " + lineNumber + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads one {@code tags} element of the master tag list and adds the tag it holds to {@code taskList}.
+     * The element is reported and skipped if it does not hold a valid tag.
+     */
+    private void readMasterTag(XMLStreamReader reader, TaskList taskList) throws XMLStreamException {
+        int lineNumber = reader.getLocation().getLineNumber();
+        try {
+            taskList.addTag(getTag(reader.getElementText()));
+        } catch (DuplicateTagException e) {
+            // already added to the master tag list by a task read before it
+        } catch (IllegalValueException e) {
+            recordErrors.add("tag at line " + lineNumber + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the deadline stored as {@code value}, or empty if there is none.
+     * As in {@link XmlAdaptedTask}, a date-time that cannot be parsed is treated as missing.
+     */
+    private static Optional<Deadline> parseDeadline(String value) {
+        Optional<ZonedDateTime> dateTime = parseDateTime(value);
+        if (!dateTime.isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            // dates in the past are allowed because this is loaded from storage
+            return Optional.of(new Deadline(dateTime.get(), true));
+        } catch (PastDateTimeException e) {
+            throw new AssertionError("Deadline constructed from storage should never be in the past", e);
+        }
+    }
+
+    /**
+     * Returns the duration stored as {@code startValue} and {@code endValue}, or empty if either is missing.
+     * @throws InvalidDurationException if the end date-time is not after the start date-time.
+     */
+    private static Optional<StartEndDateTime> parseStartEndDateTime(String startValue, String endValue)
+            throws InvalidDurationException {
+        Optional<ZonedDateTime> startDateTime = parseDateTime(startValue);
+        Optional<ZonedDateTime> endDateTime = parseDateTime(endValue);
+        if (!startDateTime.isPresent() || !endDateTime.isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            // dates in the past are allowed because this is loaded from storage
+            return Optional.of(new StartEndDateTime(startDateTime.get(), endDateTime.get(), true));
+        } catch (PastDateTimeException e) {
+            throw new AssertionError("StartEndDateTime constructed from storage should never be in the past", e);
+        }
+    }
+
+    private static Optional<ZonedDateTime> parseDateTime(String value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(ZonedDateTime.parse(value.trim(), DateTimeFormats.STORAGE_FORMAT));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the task id stored as {@code value}, or {@link ReadOnlyTask#NO_ID} if it is not a valid id,
+     * in which case the task list gives the task a new id.
+     */
+    private static long parseId(String value) {
+        try {
+            long id = Long.parseLong(value.trim());
+            return id > 0 ? id : ReadOnlyTask.NO_ID;
+        } catch (NumberFormatException e) {
+            return ReadOnlyTask.NO_ID;
+        }
+    }
+
+    /**
+     * Parses an xml boolean, which is either "true", "false", "1" or "0".
+     */
+    private static boolean parseBoolean(String value) {
+        String trimmedValue = value.trim();
+        return "true".equals(trimmedValue) || "1".equals(trimmedValue);
+    }
+
+    private UniqueTagList toTagList(List<String> tagNames) throws IllegalValueException {
+        List<Tag> taskTags = new ArrayList<>(tagNames.size());
+        for (String tagName : tagNames) {
+            taskTags.add(getTag(tagName));
+        }
+        return new UniqueTagList(taskTags);
+    }
+
+    /**
+     * Returns the tag named {@code tagName}, sharing one {@code Tag} between all the records that use it.
+     */
+    private Tag getTag(String tagName) throws IllegalValueException {
+        Tag tag = tags.get(tagName);
+        if (tag == null) {
+            tag = new Tag(tagName);
+            tags.put(tagName, tag);
+        }
+        return tag;
+    }
+
+    /**
+     * Moves to the next child element of the current element.
+     * Returns false, leaving the reader on the end of the current element, if there are no more children.
+     */
+    private static boolean nextChildElement(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Skips the current element and everything in it.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static void close(XMLStreamReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            logger.fine("Failed to close xml reader: " + e.getMessage());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package onlythree.imanager.storage;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -10,6 +11,7 @@ import onlythree.imanager.commons.core.LogsCenter;
 import onlythree.imanager.commons.exceptions.DataConversionException;
 import onlythree.imanager.commons.util.FileUtil;
 import onlythree.imanager.model.ReadOnlyTaskList;
+import onlythree.imanager.model.history.TaskListChange;
 
 /**
  * A class to access TaskList data stored as an xml file on the hard disk.
@@ -36,6 +38,7 @@ public class XmlTaskListStorage implements TaskListStorage {
     /**
      * Similar to {@link #readTaskList()}
      * @param filePath location of the data. Cannot be null
+     * Records that do not hold a valid task or tag are skipped, see {@link XmlTaskListReader}.
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyTaskList> readTaskList(String filePath) throws DataConversionException,
@@ -49,9 +52,7 @@ public class XmlTaskListStorage implements TaskListStorage {
             return Optional.empty();
         }
 
-        ReadOnlyTaskList taskListOptional = XmlFileStorage.loadDataFromSaveFile(new File(filePath));
-
-        return Optional.of(taskListOptional);
+        return Optional.of(new XmlTaskListReader(taskListFile).read());
     }
 
 
@@ -78,5 +79,17 @@ public class XmlTaskListStorage implements TaskListStorage {
         XmlFileStorage.saveDataToFile(file, new XmlSerializableTaskList(taskList));
     }
 
+    /**
+     * Saves the whole of {@code taskList} as the xml file cannot be updated incrementally.
+     */
+    @Override
+    public void saveTaskListChanges(ReadOnlyTaskList taskList, List<TaskListChange> changes) throws IOException {
+        saveTaskList(taskList);
+    }
+
+    @Override
+    public void flushTaskList() {
+        // every save is written to the file straight away
+    }
 
 }
@@ -10,6 +10,8 @@ import javafx.fxml.FXML;
 import javafx.scene.control.TextArea;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.Region;
+import onlythree.imanager.commons.core.DispatchMode;
+import onlythree.imanager.commons.core.DispatchOn;
 import onlythree.imanager.commons.core.LogsCenter;
 import onlythree.imanager.commons.events.ui.NewResultAvailableEvent;
 import onlythree.imanager.commons.util.FxViewUtil;
@@ -36,8 +38,9 @@ public class ResultDisplay extends UiPart<Region> {
     }
 
     @Subscribe
+    @DispatchOn(DispatchMode.FX_THREAD)
     private void handleNewResultAvailableEvent(NewResultAvailableEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         displayed.setValue(event.message);
     }
 
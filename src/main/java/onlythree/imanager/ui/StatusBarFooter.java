@@ -10,6 +10,8 @@ import com.google.common.eventbus.Subscribe;
 import javafx.fxml.FXML;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.Region;
+import onlythree.imanager.commons.core.DispatchMode;
+import onlythree.imanager.commons.core.DispatchOn;
 import onlythree.imanager.commons.core.LogsCenter;
 import onlythree.imanager.commons.events.model.TaskListChangedEvent;
 import onlythree.imanager.commons.util.FxViewUtil;
@@ -49,9 +51,10 @@ public class StatusBarFooter extends UiPart<Region> {
     }
 
     @Subscribe
+    @DispatchOn(DispatchMode.FX_THREAD)
     public void handleTaskListChangedEvent(TaskListChangedEvent abce) {
         String lastUpdated = (new Date()).toString();
-        logger.info(LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
         setSyncStatus("Last Updated: " + lastUpdated);
     }
 }
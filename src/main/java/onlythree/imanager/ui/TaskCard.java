@@ -2,15 +2,18 @@ package onlythree.imanager.ui;
 
 import java.time.format.DateTimeFormatter;
 
+import javafx.beans.value.ChangeListener;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import onlythree.imanager.commons.core.DateTimeFormats;
+import onlythree.imanager.model.tag.Tag;
 import onlythree.imanager.model.task.Deadline;
 import onlythree.imanager.model.task.ReadOnlyTask;
 import onlythree.imanager.model.task.StartEndDateTime;
+import onlythree.imanager.model.task.Task;
 
 //@@author A0135998H
 /**
@@ -41,11 +44,72 @@ public class TaskCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
-    public TaskCard(ReadOnlyTask task, int displayedIndex) {
+    //@@author
+    // the task shown on this card, and the listeners that show the changes to its details
+    private ReadOnlyTask task;
+    private final ChangeListener<Object> nameListener = (observable, oldValue, newValue) -> showName();
+    private final ChangeListener<Object> dateTimeListener = (observable, oldValue, newValue) -> showDateTimes();
+    private final ChangeListener<Object> tagsListener = (observable, oldValue, newValue) -> showTags();
+
+    /**
+     * Creates a card without a task, to be shown once {@link #setTask(ReadOnlyTask, int)} is called.
+     */
+    public TaskCard() {
         super(FXML);
-        name.setText(task.getName().value);
+    }
+
+    /**
+     * Shows {@code task} on this card in place of the task shown before, reusing the loaded FXML.
+     * If the task can be updated in place, the card follows the changes to its details until another task is
+     * shown, so an update to a task only changes the card showing it.
+     */
+    public void setTask(ReadOnlyTask task, int displayedIndex) {
+        if (task != this.task) {
+            stopFollowingTask();
+            this.task = task;
+            startFollowingTask();
+        }
+
         id.setText(displayedIndex + ". ");
+        showName();
+        showDateTimes();
+        showTags();
+    }
+
+    /**
+     * Stops following the changes to the task shown before, once this card is no longer shown.
+     */
+    public void clearTask() {
+        stopFollowingTask();
+        task = null;
+    }
 
+    private void startFollowingTask() {
+        if (task instanceof Task) {
+            Task observableTask = (Task) task;
+            observableTask.nameProperty().addListener(nameListener);
+            observableTask.deadlineProperty().addListener(dateTimeListener);
+            observableTask.startEndDateTimeProperty().addListener(dateTimeListener);
+            observableTask.tagsProperty().addListener(tagsListener);
+        }
+    }
+
+    private void stopFollowingTask() {
+        if (task instanceof Task) {
+            Task observableTask = (Task) task;
+            observableTask.nameProperty().removeListener(nameListener);
+            observableTask.deadlineProperty().removeListener(dateTimeListener);
+            observableTask.startEndDateTimeProperty().removeListener(dateTimeListener);
+            observableTask.tagsProperty().removeListener(tagsListener);
+        }
+    }
+
+    //@@author A0135998H
+    private void showName() {
+        name.setText(task.getName().value);
+    }
+
+    private void showDateTimes() {
         DateTimeFormatter dateFormat = DateTimeFormats.LOCALIZED_FORMAT;
         StartEndDateTime taskStartEndDateTime = getStartEndDateTime(task);
         Deadline taskDeadline = getDeadline(task);
@@ -62,13 +126,27 @@ public class TaskCard extends UiPart<Region> {
             hideStartEndDateContainer();
             hideDeadlineContainer();
         }
-        initTags(task);
     }
 
-    private void initTags(ReadOnlyTask task) {
-        task.getTags().forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+    //@@author
+    /**
+     * Shows the tags of the task, reusing the labels of the tags shown before.
+     */
+    private void showTags() {
+        int tagCount = 0;
+        for (Tag tag : task.getTagSet()) {
+            if (tagCount < tags.getChildren().size()) {
+                ((Label) tags.getChildren().get(tagCount)).setText(tag.tagName);
+            } else {
+                tags.getChildren().add(new Label(tag.tagName));
+            }
+            tagCount++;
+        }
+        tags.getChildren().remove(tagCount, tags.getChildren().size());
     }
 
+    //@@author A0135998H
+
     private void showStartEndDateContainer() {
         startEndDateContainer.setVisible(true);
     }
@@ -61,17 +61,32 @@ public class TaskListPanel extends UiPart<Region> {
         });
     }
 
+    //@@author
+    /**
+     * A cell that loads its {@link TaskCard} once, when it first shows a task, and then shows every later task
+     * on the same card. The list view reuses its cells as it scrolls, so the card FXML is only loaded about once
+     * for each row that fits in the list view.
+     */
     class TaskListViewCell extends ListCell<ReadOnlyTask> {
 
+        private TaskCard taskCard;
+
         @Override
         protected void updateItem(ReadOnlyTask task, boolean empty) {
             super.updateItem(task, empty);
 
             if (empty || task == null) {
+                if (taskCard != null) {
+                    taskCard.clearTask();
+                }
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TaskCard(task, getIndex() + 1).getRoot());
+                if (taskCard == null) {
+                    taskCard = new TaskCard();
+                }
+                taskCard.setTask(task, getIndex() + 1);
+                setGraphic(taskCard.getRoot());
             }
         }
     }
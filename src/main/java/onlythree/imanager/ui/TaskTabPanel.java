@@ -1,5 +1,7 @@
 package onlythree.imanager.ui;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import javafx.fxml.FXML;
@@ -23,12 +25,10 @@ public class TaskTabPanel extends UiPart<Region> {
 
     private final Logic logic;
 
-    // Independent Ui parts residing in this Ui container
+    // Independent Ui parts residing in this Ui container, one for each tab, and the one that is shown
+    private final Map<AnchorPane, TaskListPanel> taskListPanels = new HashMap<>();
     private TaskListPanel taskListPanel;
 
-    @FXML
-    private AnchorPane currTaskListPlaceHolder;
-
     @FXML
     private Tab allTasksTab;
 
@@ -75,6 +75,12 @@ public class TaskTabPanel extends UiPart<Region> {
         super(FXML);
         this.logic = logic;
         addToPlaceholder(placeholder);
+        addTaskListPanel(allTasksListPanelPlaceholder, ViewCommand.TYPE_ALL);
+        addTaskListPanel(doneTasksListPanelPlaceholder, ViewCommand.TYPE_DONE);
+        addTaskListPanel(floatingTasksListPanelPlaceholder, ViewCommand.TYPE_FLOATING);
+        addTaskListPanel(overdueTasksListPanelPlaceholder, ViewCommand.TYPE_OVERDUE);
+        addTaskListPanel(pendingTasksListPanelPlaceholder, ViewCommand.TYPE_PENDING);
+        addTaskListPanel(todayTasksListPanelPlaceholder, ViewCommand.TYPE_TODAY);
         fillTaskListPanel(allTasksListPanelPlaceholder);
     }
 
@@ -84,14 +90,21 @@ public class TaskTabPanel extends UiPart<Region> {
         placeHolderPane.getChildren().add(taskTabPane);
     }
 
+    //@@author
+    /**
+     * Creates the panel of the tab with {@code placeholder}, which stays in the tab and follows the changes to
+     * the tasks of {@code typeOfList}, so that switching to the tab does not have to create it again.
+     */
+    private void addTaskListPanel(AnchorPane placeholder, String typeOfList) {
+        taskListPanels.put(placeholder, new TaskListPanel(placeholder, logic.getFilteredTaskList(typeOfList)));
+    }
+
     private void fillTaskListPanel(AnchorPane placeholder) {
-        if (currTaskListPlaceHolder != null) {
-            currTaskListPlaceHolder.getChildren().clear();
-        }
-        taskListPanel = new TaskListPanel(placeholder, logic.getFilteredTaskList());
-        currTaskListPlaceHolder = placeholder;
+        taskListPanel = taskListPanels.get(placeholder);
     }
 
+    //@@author A0135998H
+
     public TabPane getTaskTabPane() {
         return taskTabPane;
     }
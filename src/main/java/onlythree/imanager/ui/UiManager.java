@@ -16,6 +16,8 @@ import javafx.stage.Stage;
 import onlythree.imanager.MainApp;
 import onlythree.imanager.commons.core.ComponentManager;
 import onlythree.imanager.commons.core.Config;
+import onlythree.imanager.commons.core.DispatchMode;
+import onlythree.imanager.commons.core.DispatchOn;
 import onlythree.imanager.commons.core.LogsCenter;
 import onlythree.imanager.commons.events.model.ViewListChangedEvent;
 import onlythree.imanager.commons.events.storage.DataSavingExceptionEvent;
@@ -109,38 +111,43 @@ public class UiManager extends ComponentManager implements Ui {
         logger.severe(title + " " + e.getMessage() + StringUtil.getDetails(e));
         showAlertDialogAndWait(Alert.AlertType.ERROR, title, e.getMessage(), e.toString());
         Platform.exit();
+        LogsCenter.flush();
         System.exit(1);
     }
 
     //==================== Event Handling Code ===============================================================
 
     @Subscribe
+    @DispatchOn(DispatchMode.FX_THREAD)
     private void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         showFileOperationAlertAndWait("Could not save data", "Could not save data to file", event.exception);
     }
 
     @Subscribe
+    @DispatchOn(DispatchMode.FX_THREAD)
     private void handleShowHelpEvent(ShowHelpRequestEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         mainWindow.handleHelp();
     }
 
     @Subscribe
+    @DispatchOn(DispatchMode.FX_THREAD)
     private void handleJumpToListRequestEvent(JumpToListRequestEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         mainWindow.getTaskListPanel().scrollTo(event.targetIndex);
     }
 
     @Subscribe
     private void handleTaskPanelSelectionChangedEvent(TaskPanelSelectionChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
     }
 
     //@@author A0135998H
     @Subscribe
+    @DispatchOn(DispatchMode.FX_THREAD)
     private void handleViewListChangedEvent(ViewListChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         mainWindow.switchTabOnCommand(event.getTypeOfListView());
     }
 
@@ -0,0 +1,122 @@
+package guitests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.control.ListView;
+import onlythree.imanager.commons.exceptions.IllegalValueException;
+import onlythree.imanager.model.TaskList;
+import onlythree.imanager.model.task.ReadOnlyTask;
+import onlythree.imanager.model.task.Task;
+import onlythree.imanager.testutil.TaskBuilder;
+
+/**
+ * Measures the time taken by each frame while the task list panel scrolls through a large task list.
+ * The frame times are written to {@code TaskListScrollBenchmark.json} in the directory given by the system property
+ * {@code guiBenchmarks.resultsDir} rather than asserted on, as they depend on the machine running the benchmark.
+ * Run with the {@code guiBenchmarks} Gradle task, as the other test tasks leave it out.
+ */
+public class TaskListScrollBenchmark extends TaskListGuiTest {
+
+    private static final String RESULTS_DIR_PROPERTY = "guiBenchmarks.resultsDir";
+    private static final String DEFAULT_RESULTS_DIR = "build/reports/guiBenchmarks";
+
+    private static final int TASK_COUNT = 10000;
+    /** The number of tasks scrolled past in each frame. */
+    private static final int TASKS_PER_FRAME = 25;
+    private static final long NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Override
+    protected TaskList getInitialData() {
+        TaskList taskList = new TaskList();
+        try {
+            for (int i = 1; i <= TASK_COUNT; i++) {
+                taskList.addTask(new Task(new TaskBuilder().withName("Task " + i).withTags("tag" + (i % 7))
+                        .build()));
+            }
+        } catch (IllegalValueException e) {
+            throw new AssertionError("The benchmark tasks should be valid", e);
+        }
+        return taskList;
+    }
+
+    @Test
+    public void scrollThroughTaskList() throws Exception {
+        ListView<ReadOnlyTask> listView = taskListPanel.getListView();
+        assertEquals(TASK_COUNT, listView.getItems().size());
+
+        List<Long> frameTimes = new ArrayList<>();
+        CountDownLatch scrolledToEnd = new CountDownLatch(1);
+        AnimationTimer scroller = new AnimationTimer() {
+            private int index = 0;
+            private long previousFrame = -1;
+
+            @Override
+            public void handle(long now) {
+                if (previousFrame >= 0) {
+                    frameTimes.add(now - previousFrame);
+                }
+                previousFrame = now;
+
+                if (index >= TASK_COUNT) {
+                    stop();
+                    scrolledToEnd.countDown();
+                    return;
+                }
+                listView.scrollTo(index);
+                index += TASKS_PER_FRAME;
+            }
+        };
+
+        Platform.runLater(scroller::start);
+        assertTrue("Scrolling did not finish", scrolledToEnd.await(5, TimeUnit.MINUTES));
+
+        assertFalse("No frames were drawn while scrolling", frameTimes.isEmpty());
+        Collections.sort(frameTimes);
+        long total = frameTimes.stream().mapToLong(Long::longValue).sum();
+        writeResults(String.format(Locale.ROOT, "{%n"
+                + "  \"taskCount\" : %d,%n"
+                + "  \"frameCount\" : %d,%n"
+                + "  \"meanFrameMillis\" : %.2f,%n"
+                + "  \"medianFrameMillis\" : %.2f,%n"
+                + "  \"95thPercentileFrameMillis\" : %.2f,%n"
+                + "  \"maxFrameMillis\" : %.2f%n"
+                + "}%n", TASK_COUNT, frameTimes.size(),
+                (double) total / frameTimes.size() / NANOS_PER_MILLI,
+                (double) percentile(frameTimes, 50) / NANOS_PER_MILLI,
+                (double) percentile(frameTimes, 95) / NANOS_PER_MILLI,
+                (double) frameTimes.get(frameTimes.size() - 1) / NANOS_PER_MILLI));
+    }
+
+    private void writeResults(String results) throws IOException {
+        Path resultsDir = Paths.get(System.getProperty(RESULTS_DIR_PROPERTY, DEFAULT_RESULTS_DIR));
+        Files.createDirectories(resultsDir);
+        Files.write(resultsDir.resolve(getClass().getSimpleName() + ".json"),
+                results.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the {@code percent}th percentile of {@code sortedValues}.
+     */
+    private static long percentile(List<Long> sortedValues, int percent) {
+        int index = (int) Math.ceil(percent / 100.0 * sortedValues.size()) - 1;
+        return sortedValues.get(Math.max(index, 0));
+    }
+}
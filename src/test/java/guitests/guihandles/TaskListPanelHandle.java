@@ -6,6 +6,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import org.testfx.util.NodeQueryUtils;
+
 import guitests.GuiRobot;
 import javafx.geometry.Point2D;
 import javafx.scene.Node;
@@ -36,8 +38,11 @@ public class TaskListPanelHandle extends GuiHandle {
         return taskListView.getSelectionModel().getSelectedItems();
     }
 
+    /**
+     * Returns the list view of the selected tab, as every tab keeps its own list view.
+     */
     public ListView<ReadOnlyTask> getListView() {
-        return getNode(TASK_LIST_VIEW_ID);
+        return guiRobot.lookup(TASK_LIST_VIEW_ID).match(NodeQueryUtils.isVisible()).query();
     }
 
     /**
@@ -168,7 +173,7 @@ public class TaskListPanelHandle extends GuiHandle {
     }
 
     protected Set<Node> getAllCardNodes() {
-        return guiRobot.lookup(CARD_PANE_ID).queryAll();
+        return guiRobot.from(getListView()).lookup(CARD_PANE_ID).queryAll();
     }
 
     public int getNumberOfTasks() {
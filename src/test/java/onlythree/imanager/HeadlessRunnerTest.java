@@ -0,0 +1,111 @@
+package onlythree.imanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import onlythree.imanager.HeadlessRunner.RunSummary;
+import onlythree.imanager.logic.LogicManager;
+import onlythree.imanager.model.ModelManager;
+import onlythree.imanager.model.TaskList;
+import onlythree.imanager.model.UserPrefs;
+import onlythree.imanager.model.task.ReadOnlyTask;
+import onlythree.imanager.storage.StorageManager;
+
+public class HeadlessRunnerTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final ByteArrayOutputStream errors = new ByteArrayOutputStream();
+    private String taskListFilePath;
+    private String userPrefsFilePath;
+    private ModelManager model;
+    private StorageManager storage;
+
+    @Before
+    public void setUp() {
+        taskListFilePath = testFolder.getRoot().getPath() + "/taskList.xml";
+        userPrefsFilePath = testFolder.getRoot().getPath() + "/prefs.json";
+        model = new ModelManager(new TaskList(), new UserPrefs());
+        // only saved when flushed
+        storage = new StorageManager(taskListFilePath, userPrefsFilePath, Long.MAX_VALUE);
+    }
+
+    @Test
+    public void run_script_commandsRunAndSavedAtCheckpoints() throws Exception {
+        String script = "add Walk the dog\n"
+                + "# a comment\n"
+                + "\n"
+                + "  add Feed the cat t/home  \n"
+                + "bogus\n"
+                + "done 1\n"
+                + "exit\n"
+                + "add Never added\n";
+
+        RunSummary summary = createRunner(2).run(new StringReader(script));
+
+        assertEquals(4, summary.getCommandCount());
+        assertEquals(1, summary.getFailedCount());
+        assertEquals(3, summary.getSaveCount());
+        assertTrue(errors.toString().startsWith("Line 5: bogus: "));
+        assertTrue(!model.isInBatch());
+
+        List<ReadOnlyTask> saved = readSavedTasks();
+        assertEquals(2, saved.size());
+        assertEquals(1, saved.stream().filter(ReadOnlyTask::isComplete).count());
+    }
+
+    @Test
+    public void run_undoInScript_previousCommandUndone() throws Exception {
+        RunSummary summary = createRunner(0).run(new StringReader("add Walk the dog\nadd Feed the cat\nundo\n"));
+
+        assertEquals(3, summary.getCommandCount());
+        assertEquals(0, summary.getFailedCount());
+        assertEquals(1, summary.getSaveCount());
+        List<ReadOnlyTask> saved = readSavedTasks();
+        assertEquals(1, saved.size());
+        assertEquals("Walk the dog", saved.get(0).getName().toString());
+    }
+
+    @Test
+    public void run_saveFailsAtCheckpoint_saveFailureThrown() throws Exception {
+        IOException saveFailure = new IOException("No space left on device");
+        storage = new StorageManager(taskListFilePath, userPrefsFilePath, Long.MAX_VALUE) {
+            @Override
+            public void flushTaskList() throws IOException {
+                throw saveFailure;
+            }
+        };
+
+        try {
+            createRunner(1).run(new StringReader("add Walk the dog\nadd Feed the cat\n"));
+            fail("The save failure should be thrown");
+        } catch (IOException e) {
+            assertEquals(saveFailure, e);
+        }
+        assertFalse(model.isInBatch());
+        assertEquals(1, model.getTaskList().getTaskList().size());
+    }
+
+    private HeadlessRunner createRunner(int checkpointInterval) {
+        return new HeadlessRunner(new LogicManager(model, storage), model, storage, checkpointInterval,
+                new PrintStream(errors, true));
+    }
+
+    private List<ReadOnlyTask> readSavedTasks() throws Exception {
+        return new StorageManager(taskListFilePath, userPrefsFilePath).readTaskList().get().getTaskList();
+    }
+}
@@ -41,6 +41,13 @@ public class TestApp extends MainApp {
         }
     }
 
+    @Override
+    public void init() throws Exception {
+        super.init();
+        // tests start typing commands straight away, so wait for the tasks to be loaded
+        taskListShown.join();
+    }
+
     @Override
     protected Config initConfig(String configFilePath) {
         Config config = super.initConfig(configFilePath);
@@ -0,0 +1,141 @@
+package onlythree.imanager.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.After;
+import org.junit.Test;
+
+import onlythree.imanager.commons.core.AsyncLogHandler.OverflowPolicy;
+
+public class AsyncLogHandlerTest {
+
+    private AsyncLogHandler handler;
+
+    @After
+    public void tearDown() {
+        if (handler != null) {
+            handler.close();
+        }
+    }
+
+    @Test
+    public void publish_blockPolicy_allRecordsPublishedInOrder() {
+        RecordingHandler target = new RecordingHandler(null);
+        handler = new AsyncLogHandler(2, OverflowPolicy.BLOCK, target);
+
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        List<String> messages = target.getMessages();
+        assertEquals(100, messages.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("message " + i, messages.get(i));
+        }
+        assertEquals(0, handler.getDroppedCount());
+    }
+
+    @Test
+    public void publish_dropPolicyWithBufferFull_recordsDroppedAndReported() throws Exception {
+        CountDownLatch targetReleased = new CountDownLatch(1);
+        RecordingHandler target = new RecordingHandler(targetReleased);
+        handler = new AsyncLogHandler(2, OverflowPolicy.DROP, target);
+
+        // the first record keeps the background thread busy, so the rest fill the buffer
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        assertTrue(target.firstPublishStarted.await(1, TimeUnit.SECONDS));
+        for (int i = 0; i < 5; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        assertEquals(3, handler.getDroppedCount());
+
+        targetReleased.countDown();
+        handler.flush();
+        handler.publish(new LogRecord(Level.INFO, "last"));
+        handler.flush();
+        List<String> messages = target.getMessages();
+        assertTrue(messages.contains(String.format(AsyncLogHandler.MESSAGE_RECORDS_DROPPED, 3)));
+        assertEquals("last", messages.get(messages.size() - 1));
+    }
+
+    @Test
+    public void close_recordsWaiting_allRecordsPublished() {
+        RecordingHandler target = new RecordingHandler(null);
+        handler = new AsyncLogHandler(1000, OverflowPolicy.DROP, target);
+
+        for (int i = 0; i < 1000; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.close();
+
+        assertEquals(1000, target.getMessages().size());
+        handler.publish(new LogRecord(Level.INFO, "after close"));
+        assertEquals(1000, target.getMessages().size());
+    }
+
+    @Test
+    public void publish_belowLevel_recordIgnored() {
+        RecordingHandler target = new RecordingHandler(null);
+        handler = new AsyncLogHandler(2, OverflowPolicy.DROP, target);
+        handler.setLevel(Level.WARNING);
+
+        handler.publish(new LogRecord(Level.INFO, "ignored"));
+        handler.publish(new LogRecord(Level.WARNING, "published"));
+        handler.flush();
+
+        assertEquals(1, target.getMessages().size());
+        assertEquals("published", target.getMessages().get(0));
+    }
+
+    /**
+     * A handler that remembers the messages published to it, and can be made to wait before publishing.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = new ArrayList<>();
+        private final CountDownLatch released;
+        private final CountDownLatch firstPublishStarted = new CountDownLatch(1);
+
+        RecordingHandler(CountDownLatch released) {
+            this.released = released;
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            firstPublishStarted.countDown();
+            if (released != null) {
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            synchronized (messages) {
+                messages.add(record.getMessage());
+            }
+        }
+
+        List<String> getMessages() {
+            synchronized (messages) {
+                return new ArrayList<>(messages);
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -16,9 +16,12 @@ public class ConfigTest {
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "App title : iManager\n" +
                 "Current log level : INFO\n" +
+                "Log buffer : 1024 messages, DROP when full\n" +
                 "Preference file Location : preferences.json\n" +
                 "Local data file location : data/tasklist.xml\n" +
-                "TaskList name : MyTaskList";
+                "TaskList name : MyTaskList\n" +
+                "TaskList save delay : 200ms\n" +
+                "Metrics file location : data/metrics.json";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
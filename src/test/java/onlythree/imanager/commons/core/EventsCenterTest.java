@@ -0,0 +1,141 @@
+package onlythree.imanager.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import onlythree.imanager.commons.events.BaseEvent;
+
+public class EventsCenterTest {
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void post_eventPostedByHandler_deliveredAfterCurrentEventToAllHandlers() {
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            private void handle(TestEvent event) {
+                received.add("first " + event);
+                if (event.name.equals("outer")) {
+                    eventsCenter.post(new TestEvent("inner"));
+                }
+            }
+        });
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            private void handle(TestEvent event) {
+                received.add("second " + event);
+            }
+        });
+
+        eventsCenter.post(new TestEvent("outer"));
+
+        assertEquals(Arrays.asList("first outer", "second outer", "first inner", "second inner"), received);
+    }
+
+    @Test
+    public void registerHandler_sameHandlerTwice_eventDeliveredOnce() {
+        RecordingHandler handler = new RecordingHandler();
+        EventsCenter.getInstance().registerHandler(handler).registerHandler(handler);
+
+        EventsCenter.getInstance().post(new TestEvent("event"));
+
+        assertEquals(Collections.singletonList("event"), handler.received);
+    }
+
+    @Test
+    public void post_backgroundHandler_postReturnsBeforeHandlerAndDeliversInOrder() throws Exception {
+        CountDownLatch released = new CountDownLatch(1);
+        CountDownLatch allReceived = new CountDownLatch(3);
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        EventsCenter.getInstance().registerHandler(new Object() {
+            @Subscribe
+            @DispatchOn(DispatchMode.BACKGROUND)
+            private void handle(TestEvent event) throws InterruptedException {
+                released.await();
+                received.add(event.name);
+                threads.add(Thread.currentThread());
+                allReceived.countDown();
+            }
+        });
+
+        // the handler is stuck until released, so the posts would never return if it ran on this thread
+        for (String name : Arrays.asList("a", "b", "c")) {
+            EventsCenter.getInstance().post(new TestEvent(name));
+        }
+        released.countDown();
+
+        assertTrue(allReceived.await(1, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("a", "b", "c"), received);
+        threads.forEach(thread -> assertNotSame(Thread.currentThread(), thread));
+        for (String metric : Arrays.asList("queueDepth", "wait", "handle")) {
+            assertTrue(MetricsCenter.getInstance().getHistograms().keySet().stream()
+                    .anyMatch(name -> name.startsWith("subscriber.") && name.endsWith(".handle." + metric)));
+        }
+    }
+
+    @Test
+    public void post_fxThreadHandlerWithoutJavaFx_handledOnCaller() {
+        List<Thread> threads = new ArrayList<>();
+        EventsCenter.getInstance().registerHandler(new Object() {
+            @Subscribe
+            @DispatchOn(DispatchMode.FX_THREAD)
+            private void handle(TestEvent event) {
+                threads.add(Thread.currentThread());
+            }
+        });
+
+        EventsCenter.getInstance().post(new TestEvent("event"));
+
+        assertEquals(Collections.singletonList(Thread.currentThread()), threads);
+    }
+
+    /**
+     * An event identified by a name.
+     */
+    private static class TestEvent extends BaseEvent {
+        private final String name;
+
+        TestEvent(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * A handler whose handler method is inherited.
+     */
+    private static class RecordingHandler extends BaseRecordingHandler {
+    }
+
+    private static class BaseRecordingHandler {
+        protected final List<String> received = new ArrayList<>();
+
+        @Subscribe
+        private void handle(TestEvent event) {
+            received.add(event.name);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package onlythree.imanager.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void getPercentile_noValues_returnsZero() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(0, histogram.getMean(), 0);
+    }
+
+    @Test
+    public void getPercentile_manyValues_withinBucketPrecision() {
+        Histogram histogram = new Histogram();
+        for (long value = 1; value <= 10000; value++) {
+            histogram.record(value);
+        }
+        assertEquals(10000, histogram.getCount());
+        assertEquals(10000, histogram.getMax());
+        assertEquals(5000.5, histogram.getMean(), 0);
+        assertWithinPrecision(5000, histogram.getPercentile(50));
+        assertWithinPrecision(9900, histogram.getPercentile(99));
+        assertEquals(10000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void bucketIndexOf_largestValueOfBucket_sameBucket() {
+        for (int index = 0; index < Histogram.bucketIndexOf(Long.MAX_VALUE); index++) {
+            long largestValue = Histogram.largestValueOf(index);
+            assertEquals(index, Histogram.bucketIndexOf(largestValue));
+            assertEquals(index + 1, Histogram.bucketIndexOf(largestValue + 1));
+        }
+    }
+
+    private void assertWithinPrecision(long expected, long actual) {
+        assertTrue(actual + " is less than " + expected, actual >= expected);
+        assertTrue(actual + " is too far from " + expected, actual <= expected * 1.125);
+    }
+}
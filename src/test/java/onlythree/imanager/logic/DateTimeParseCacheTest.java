@@ -0,0 +1,91 @@
+package onlythree.imanager.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+import com.joestelmach.natty.DateGroup;
+import com.joestelmach.natty.Parser;
+
+public class DateTimeParseCacheTest {
+
+    private static final String ZONE_ID = "UTC";
+    // 2023-11-14T22:13:20Z, 20 seconds into the minute
+    private static final long REFERENCE = 1700000000000L;
+
+    private final Parser parser = new Parser(TimeZone.getTimeZone(ZONE_ID));
+    private final DateTimeParseCache cache = new DateTimeParseCache(parser, ZONE_ID, 2);
+
+    @Test
+    public void parse_sameTextInSameMinute_cachedResultReturned() {
+        List<DateGroup> first = cache.parse("tomorrow 5pm", new Date(REFERENCE));
+        List<DateGroup> second = cache.parse("tomorrow 5pm", new Date(REFERENCE + 30000));
+
+        assertSame(first.get(0).getDates().get(0), second.get(0).getDates().get(0));
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void parse_relativeExpression_resultMovesWithReference() {
+        for (String text : new String[] {"tmr", "in 3 hours", "next monday"}) {
+            cache.parse(text, new Date(REFERENCE));
+            Date reference = new Date(REFERENCE + 12345);
+            assertParsedDate(parser.parse(text, reference), cache.parse(text, reference));
+        }
+        assertEquals(3, cache.getHitCount());
+    }
+
+    @Test
+    public void parse_differentMinute_parsedAgain() {
+        cache.parse("tmr", new Date(REFERENCE));
+        Date nextMinute = new Date(REFERENCE + 60000);
+        assertParsedDate(parser.parse("tmr", nextMinute), cache.parse("tmr", nextMinute));
+        assertEquals(2, cache.getMissCount());
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    public void parse_differentCaseAndSpacing_cachedResultReturned() {
+        cache.parse("next monday", new Date(REFERENCE));
+        cache.parse("  Next   MONDAY ", new Date(REFERENCE));
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void parse_overCapacity_leastRecentlyUsedEvicted() {
+        Date reference = new Date(REFERENCE);
+        cache.parse("tmr", reference);
+        cache.parse("5pm", reference);
+        cache.parse("tmr", reference);
+        cache.parse("next monday", reference);
+        assertEquals(2, cache.size());
+
+        cache.parse("tmr", reference);
+        assertEquals(2, cache.getHitCount());
+        cache.parse("5pm", reference);
+        assertEquals(2, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    public void clear_afterParsing_emptyWithCountsReset() {
+        cache.parse("tmr", new Date(REFERENCE));
+        cache.parse("tmr", new Date(REFERENCE));
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    private void assertParsedDate(List<DateGroup> expected, List<DateGroup> actual) {
+        assertEquals(1, actual.size());
+        assertEquals(expected.get(0).getDates(), actual.get(0).getDates());
+        assertEquals(expected.get(0).isTimeInferred(), actual.get(0).isTimeInferred());
+    }
+}
@@ -0,0 +1,97 @@
+package onlythree.imanager.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+import com.joestelmach.natty.DateGroup;
+import com.joestelmach.natty.Parser;
+
+public class FastDateTimeParserTest {
+
+    private static final String[] RECOGNIZED_INPUTS = {
+        "2026-10-20", "2026-1-5", "2028-02-29", "2026-10-20 17:00", "2026-10-20 5pm", "2026-1-5 10:00",
+        "2026-10-20T17:00", "2026-10-20 17:00:30", "2026-10-20 at 9:30am", "2026-12-31 23:59",
+        "today", "tomorrow", "tmr", "TMR", "Tomorrow", "today 17:00", "tmr 9am", "tomorrow 9:30pm",
+        "tmr at 9am", "today at 0:00", "tmr 12am", "tmr 12pm", "tmr 12:30am",
+        "9am", "5pm", "9 am", "9:05 PM", "12am", "12pm", "17:00", "9:05", "0:00", "09:00", "23:59", "17:00:30",
+        "  tmr   5pm  ", "\ttoday\t9am"
+    };
+
+    private static final String[] UNRECOGNIZED_INPUTS = {
+        "", "   ", "20/10 5pm", "20/10", "31/12", "2026-02-30 10:00", "2026-13-01 10:00", "26-10-20",
+        "tmr 13pm", "24:00", "9", "5:7pm", "9:60", "17:00pm", "0am", "next monday", "tomorrows", "tmr9am",
+        "tmr at", "at 9am", "9am tmr", "2026-10-20T5pm", "2026-10-20 17:00 extra", "in 3 hours", "12/25"
+    };
+
+    private static final String[] ZONES = {"Asia/Singapore", "UTC", "America/New_York"};
+
+    private static final long[] REFERENCES = {
+        // 2023-11-14T22:13:20.123Z
+        1700000000123L,
+        // 2023-11-15T12:13:20.123Z
+        1700000000123L + 14 * 3600000L,
+        // 2026-03-08T06:59:59.999Z, just before daylight saving time starts in New York
+        1772953199999L,
+        // 2026-12-31T15:59:00Z, a minute before midnight on new year's eve in Singapore
+        1798732740000L
+    };
+
+    @Test
+    public void parse_recognizedInputs_sameAsNatty() {
+        for (String zone : ZONES) {
+            Parser natty = new Parser(TimeZone.getTimeZone(zone));
+            for (long reference : REFERENCES) {
+                for (String input : RECOGNIZED_INPUTS) {
+                    assertSameAsNatty(natty, input, ZoneId.of(zone), reference);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void parse_unrecognizedInputs_empty() {
+        ZonedDateTime reference = ZonedDateTime.ofInstant(Instant.ofEpochMilli(REFERENCES[0]), ZoneId.of("UTC"));
+        for (String input : UNRECOGNIZED_INPUTS) {
+            assertFalse(input, FastDateTimeParser.parse(input, reference).isPresent());
+        }
+    }
+
+    @Test
+    public void parse_timeOnly_dateInferred() {
+        ZonedDateTime reference = ZonedDateTime.ofInstant(Instant.ofEpochMilli(REFERENCES[0]), ZoneId.of("UTC"));
+        FastDateTimeParser.Result result = FastDateTimeParser.parse("5pm", reference).get();
+        assertTrue(result.isDateInferred());
+        assertFalse(result.isTimeInferred());
+        assertFalse(result.isRelativeDate());
+        assertEquals(reference.withHour(17).withMinute(0).withSecond(0).withNano(0), result.getDateTime());
+    }
+
+    private void assertSameAsNatty(Parser natty, String input, ZoneId zone, long reference) {
+        String description = input + " in " + zone + " at " + Instant.ofEpochMilli(reference);
+        List<DateGroup> expected = natty.parse(input, new Date(reference));
+        Optional<FastDateTimeParser.Result> actual =
+                FastDateTimeParser.parse(input, ZonedDateTime.ofInstant(Instant.ofEpochMilli(reference), zone));
+
+        assertTrue(description, actual.isPresent());
+        assertEquals(description, 1, expected.size());
+        DateGroup dateGroup = expected.get(0);
+        assertEquals(description, 1, dateGroup.getDates().size());
+        assertEquals(description, dateGroup.getDates().get(0).toInstant(), actual.get().getDateTime().toInstant());
+        assertEquals(description, dateGroup.isDateInferred(), actual.get().isDateInferred());
+        assertEquals(description, dateGroup.isTimeInferred(), actual.get().isTimeInferred());
+        boolean isNattyRelativeDate = "RELATIVE_DATE".equals(
+                dateGroup.getSyntaxTree().getChild(0).getChild(0).getText());
+        assertEquals(description, isNattyRelativeDate, actual.get().isRelativeDate());
+    }
+}
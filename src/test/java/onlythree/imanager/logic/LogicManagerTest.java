@@ -26,6 +26,8 @@ import com.google.common.eventbus.Subscribe;
 
 import onlythree.imanager.commons.core.DateTimeFormats;
 import onlythree.imanager.commons.core.EventsCenter;
+import onlythree.imanager.commons.core.Messages;
+import onlythree.imanager.commons.core.MetricsCenter;
 import onlythree.imanager.commons.events.model.TaskListChangedEvent;
 import onlythree.imanager.commons.events.ui.JumpToListRequestEvent;
 import onlythree.imanager.commons.events.ui.ShowHelpRequestEvent;
@@ -39,12 +41,14 @@ import onlythree.imanager.logic.commands.FindCommand;
 import onlythree.imanager.logic.commands.HelpCommand;
 import onlythree.imanager.logic.commands.SaveCommand;
 import onlythree.imanager.logic.commands.SelectCommand;
+import onlythree.imanager.logic.commands.StatsCommand;
 import onlythree.imanager.logic.commands.ViewCommand;
 import onlythree.imanager.logic.commands.exceptions.CommandException;
 import onlythree.imanager.model.Model;
 import onlythree.imanager.model.ModelManager;
 import onlythree.imanager.model.ReadOnlyTaskList;
 import onlythree.imanager.model.TaskList;
+import onlythree.imanager.model.UserPrefs;
 import onlythree.imanager.model.tag.Tag;
 import onlythree.imanager.model.tag.UniqueTagList;
 import onlythree.imanager.model.task.Deadline;
@@ -67,12 +71,14 @@ public class LogicManagerTest {
 
     //These are for checking the correctness of the events raised
     private ReadOnlyTaskList latestSavedTaskList;
+    private int taskListChangedEventCount;
     private boolean helpShown;
     private int targetedJumpIndex;
 
     @Subscribe
     private void handleLocalModelChangedEvent(TaskListChangedEvent abce) {
         latestSavedTaskList = new TaskList(abce.data);
+        taskListChangedEventCount++;
     }
 
     @Subscribe
@@ -94,6 +100,7 @@ public class LogicManagerTest {
         EventsCenter.getInstance().registerHandler(this);
 
         latestSavedTaskList = new TaskList(model.getTaskList()); // last saved assumed to be up to date
+        taskListChangedEventCount = 0;
         helpShown = false;
         targetedJumpIndex = -1; // non yet
     }
@@ -234,6 +241,21 @@ public class LogicManagerTest {
                 expectedTaskList.getTaskList());
     }
 
+    @Test
+    public void execute_stats_showsCommandLatencies() throws Exception {
+        MetricsCenter.getInstance().clear();
+        CommandResult result = logic.execute(StatsCommand.COMMAND_WORD);
+        assertEquals(StatsCommand.MESSAGE_NO_STATS, result.feedbackToUser);
+
+        TestDataHelper helper = new TestDataHelper();
+        logic.execute(helper.generateAddCommand(helper.accept()));
+        result = logic.execute(StatsCommand.COMMAND_WORD);
+        assertTrue(result.feedbackToUser.startsWith(StatsCommand.MESSAGE_HEADER));
+        assertTrue(result.feedbackToUser.contains("\nadd x1: parse "));
+        // the first stats command is counted once it has finished
+        assertTrue(result.feedbackToUser.contains("\nstats x1: parse "));
+    }
+
     @Test
     public void execute_view_showsAllTasks() throws Exception {
         // prepare expectations
@@ -250,6 +272,65 @@ public class LogicManagerTest {
                 expectedList);
     }
 
+    @Test
+    public void execute_beforeInitialData_commandRejectedUntilLoaded() throws Exception {
+        model = new ModelManager(new UserPrefs());
+        logic = new LogicManager(model, new StorageManager(saveFolder.getRoot().getPath() + "TempTaskList.xml",
+                saveFolder.getRoot().getPath() + "TempPreferences.json"));
+        assertCommandFailure("clear", Messages.MESSAGE_TASK_LIST_LOADING);
+
+        TestDataHelper helper = new TestDataHelper();
+        TaskList initialData = helper.generateTaskList(2);
+        model.setInitialData(initialData);
+        assertTrue(model.hasInitialData());
+        assertEquals(initialData.getTaskList(), model.getFilteredTaskList());
+        assertFalse(model.canUndo());
+
+        logic.execute("delete 1");
+        assertEquals(1, model.getFilteredTaskList().size());
+    }
+
+    @Test
+    public void execute_viewAfterChange_viewListFollowsChange() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        List<Task> tasks = helper.generateTasks(2);
+        helper.addToModel(model, tasks);
+        List<ReadOnlyTask> doneTasks = model.getFilteredTaskList(ViewCommand.TYPE_DONE);
+        assertTrue(doneTasks.isEmpty());
+
+        logic.execute("done 2");
+        assertEquals(Collections.singletonList(model.getTaskList().getTaskList().get(1)), doneTasks);
+
+        logic.execute("view d");
+        assertEquals(doneTasks, model.getFilteredTaskList());
+        assertEquals(tasks.get(0), model.getFilteredTaskList(ViewCommand.TYPE_PENDING).get(0));
+    }
+
+    @Test
+    public void execute_viewUpcoming_showsTasksStartingWithinDuration() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        List<Task> tasks = helper.generateTasks(3);
+        TaskList expectedTaskList = helper.generateTaskList(tasks);
+        helper.addToModel(model, tasks);
+
+        // the first task starts in 3 days, the others start after that
+        assertCommandSuccess("view upcoming 3d",
+                String.format(ViewCommand.MESSAGE_SUCCESS_VIEW_UPCOMING_TASKS, "3 day(s)"),
+                expectedTaskList,
+                Collections.singletonList(tasks.get(0)));
+        assertCommandSuccess("view u 2 days",
+                String.format(ViewCommand.MESSAGE_SUCCESS_VIEW_UPCOMING_TASKS, "2 day(s)"),
+                expectedTaskList,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void execute_viewUpcomingInvalidDuration_errorMessageShown() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE);
+        assertCommandFailure("view upcoming", expectedMessage);
+        assertCommandFailure("view upcoming soon", expectedMessage);
+    }
+
 
     /**
      * Confirms the 'invalid argument index number behaviour' for the given command
@@ -362,6 +443,56 @@ public class LogicManagerTest {
     }
 
 
+    @Test
+    public void execute_deleteIndexList_removesTasksAsOneChange() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        List<Task> fiveTasks = helper.generateTasks(5);
+
+        TaskList expectedAB = helper.generateTaskList(fiveTasks);
+        expectedAB.removeTask(fiveTasks.get(0));
+        expectedAB.removeTask(fiveTasks.get(2));
+        expectedAB.removeTask(fiveTasks.get(3));
+        helper.addToModel(model, fiveTasks);
+        model.pushCommand(AddCommand.COMMAND_WORD);
+        taskListChangedEventCount = 0;
+
+        assertCommandSuccess("delete 4, 1,3-4",
+                String.format(DeleteCommand.MESSAGE_DELETE_TASKS_SUCCESS, 3),
+                expectedAB,
+                expectedAB.getTaskList());
+        assertEquals(1, taskListChangedEventCount);
+
+        logic.execute("undo");
+        assertEquals(fiveTasks, new ArrayList<>(model.getTaskList().getTaskList()));
+    }
+
+    @Test
+    public void execute_deleteInvalidIndexList_errorMessageShown() throws Exception {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE);
+        assertCommandFailure("delete 3-1", expectedMessage);
+        assertCommandFailure("delete 1,,2", expectedMessage);
+        assertCommandFailure("delete 1-", expectedMessage);
+        assertCommandFailure("delete 1, 0-2", expectedMessage);
+    }
+
+    @Test
+    public void execute_doneIndexRange_marksTasksAsOneChange() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        List<Task> fourTasks = helper.generateTasks(4);
+        helper.addToModel(model, fourTasks);
+        model.pushCommand(AddCommand.COMMAND_WORD);
+        taskListChangedEventCount = 0;
+
+        logic.execute("view p");
+        logic.execute("done 2-4");
+        assertEquals(1, taskListChangedEventCount);
+        assertEquals(3, model.getFilteredTaskList(ViewCommand.TYPE_DONE).size());
+        assertEquals(fourTasks.subList(0, 1), model.getFilteredTaskList(ViewCommand.TYPE_PENDING));
+
+        logic.execute("undo");
+        assertTrue(model.getFilteredTaskList(ViewCommand.TYPE_DONE).isEmpty());
+    }
+
     @Test
     public void execute_find_invalidArgsFormat() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
@@ -425,6 +556,29 @@ public class LogicManagerTest {
                 expectedList);
     }
 
+    @Test
+    public void execute_findByTags_matchesAnyTagOfEachGroup() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Task taskTarget1 = helper.generateTaskWithNameAndTags("Write report", "work", "urgent");
+        Task taskTarget2 = helper.generateTaskWithNameAndTags("Call plumber", "home", "urgent");
+        Task task1 = helper.generateTaskWithNameAndTags("Write memo", "work");
+        Task task2 = helper.generateTaskWithNameAndTags("Buy milk", "urgent");
+
+        List<Task> fourTasks = helper.generateTasks(taskTarget1, task1, taskTarget2, task2);
+        TaskList expectedAB = helper.generateTaskList(fourTasks);
+        List<Task> expectedList = helper.generateTasks(taskTarget1, taskTarget2);
+        helper.addToModel(model, fourTasks);
+
+        assertCommandSuccess("find t/work home t/urgent",
+                Command.getMessageForTaskListShownSummary(expectedList.size()),
+                expectedAB,
+                expectedList);
+        assertCommandSuccess("find write t/urgent",
+                Command.getMessageForTaskListShownSummary(1),
+                expectedAB,
+                helper.generateTasks(taskTarget1));
+    }
+
     /**
      * Returns the task with only the task name and tags.
      */
@@ -594,5 +748,16 @@ public class LogicManagerTest {
                     new UniqueTagList(new Tag("tag"))
             );
         }
+
+        /**
+         * Generates a floating Task with the given name and tags.
+         */
+        private Task generateTaskWithNameAndTags(String name, String... tagNames) throws Exception {
+            UniqueTagList tags = new UniqueTagList();
+            for (String tagName : tagNames) {
+                tags.add(new Tag(tagName));
+            }
+            return new Task(new Name(name), Optional.empty(), Optional.empty(), tags);
+        }
     }
 }
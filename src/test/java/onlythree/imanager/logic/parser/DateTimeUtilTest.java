@@ -2,6 +2,7 @@ package onlythree.imanager.logic.parser;
 
 import static onlythree.imanager.testutil.TestDateTimeHelper.assertEqualsIgnoresUnitBelow;
 import static onlythree.imanager.testutil.TestDateTimeHelper.assertNotEqualsIgnoresUnitBelow;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -13,6 +14,10 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -163,6 +168,72 @@ public class DateTimeUtilTest {
                 DateTimeUtil.parseEditedDateTimeString("5 days after 8pm PST 25 Apr", someDateTime));
     }
 
+    //@@author
+    @Test
+    public void parseAll_manyDateTimes_sameAsParsingEachInOrder() throws IllegalValueException {
+        List<String> dateTimes = repeatAbsoluteDateTimes(2000);
+
+        List<ZonedDateTime> expected = new ArrayList<>();
+        for (String dateTime : dateTimes) {
+            expected.add(DateTimeUtil.parseDateTimeString(dateTime));
+        }
+        assertEquals(expected, DateTimeUtil.parseAll(dateTimes));
+    }
+
+    @Test
+    public void getParseCacheCounts_parsedOnEndedThread_stillCounted() throws Exception {
+        long hitCountBefore = DateTimeUtil.getParseCacheHitCount();
+        long missCountBefore = DateTimeUtil.getParseCacheMissCount();
+
+        // not in a format of the fast parser, so it is parsed by Natty through the thread's parse cache
+        Thread thread = new Thread(() -> {
+            try {
+                DateTimeUtil.parseDateTimeString("5 days after 8pm PST 25 Apr");
+                DateTimeUtil.parseDateTimeString("5 days after 8pm PST 25 Apr");
+            } catch (IllegalValueException e) {
+                throw new AssertionError(e);
+            }
+        });
+        thread.start();
+        thread.join();
+
+        long hitCount = DateTimeUtil.getParseCacheHitCount() - hitCountBefore;
+        long missCount = DateTimeUtil.getParseCacheMissCount() - missCountBefore;
+        assertEquals(2, hitCount + missCount);
+        assertTrue(missCount >= 1);
+    }
+
+    @Test
+    public void parseAll_emptyList_emptyList() throws IllegalValueException {
+        assertEquals(Collections.emptyList(), DateTimeUtil.parseAll(Collections.emptyList()));
+    }
+
+    @Test
+    public void parseAll_invalidDateTimes_firstInvalidDateTimeReported() throws IllegalValueException {
+        List<String> dateTimes = repeatAbsoluteDateTimes(1000);
+        dateTimes.set(300, "not a date");
+        dateTimes.set(900, "neither is this");
+
+        exception.expect(IllegalValueException.class);
+        exception.expectMessage(String.format(DateTimeUtil.MESSAGE_NOT_VALID_DATE_TIME, "not a date"));
+        DateTimeUtil.parseAll(dateTimes);
+    }
+
+    /**
+     * Returns {@code count} date-times that do not depend on the current date-time, some of which are parsed
+     * by Natty and some without it.
+     */
+    private List<String> repeatAbsoluteDateTimes(int count) {
+        List<String> absoluteDateTimes = Arrays.asList(
+                "2099-01-01 10:00", "25 dec 2099 9am", "2099-6-15T17:30", "1 jan 2100 5pm", "2099-03-04 9:15pm");
+        List<String> dateTimes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            dateTimes.add(absoluteDateTimes.get(i % absoluteDateTimes.size()));
+        }
+        return dateTimes;
+    }
+
+    //@@author A0140023E
     private void testInvalidDateTime(String dateTime) throws IllegalValueException {
         exception.expect(IllegalValueException.class);
         exception.expectMessage(String.format(DateTimeUtil.MESSAGE_NOT_VALID_DATE_TIME, dateTime));
@@ -0,0 +1,178 @@
+package onlythree.imanager.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import onlythree.imanager.commons.core.EventsCenter;
+import onlythree.imanager.commons.events.model.TaskListChangedEvent;
+import onlythree.imanager.commons.events.model.TaskListDeltaEvent;
+import onlythree.imanager.commons.events.model.ViewListChangedEvent;
+import onlythree.imanager.model.history.TaskListDelta;
+import onlythree.imanager.model.tag.Tag;
+import onlythree.imanager.model.task.Name;
+import onlythree.imanager.model.task.ReadOnlyTask;
+import onlythree.imanager.model.task.Task;
+import onlythree.imanager.testutil.TypicalTestTasks;
+
+public class ModelManagerTest {
+
+    private final TypicalTestTasks td = new TypicalTestTasks();
+
+    private ModelManager model;
+    private TaskList original;
+    private List<TaskListChangedEvent> taskListChangedEvents;
+    private List<TaskListDeltaEvent> taskListDeltaEvents;
+    private int viewListChangedEventCount;
+
+    @Subscribe
+    private void handleTaskListChangedEvent(TaskListChangedEvent event) {
+        taskListChangedEvents.add(event);
+    }
+
+    @Subscribe
+    private void handleTaskListDeltaEvent(TaskListDeltaEvent event) {
+        taskListDeltaEvents.add(event);
+    }
+
+    @Subscribe
+    private void handleViewListChangedEvent(ViewListChangedEvent event) {
+        viewListChangedEventCount++;
+    }
+
+    @Before
+    public void setUp() {
+        model = new ModelManager(td.getTypicalTaskList(), new UserPrefs());
+        original = new TaskList(model.getTaskList());
+        taskListChangedEvents = new ArrayList<>();
+        taskListDeltaEvents = new ArrayList<>();
+        viewListChangedEventCount = 0;
+        EventsCenter.getInstance().registerHandler(this);
+    }
+
+    @Test
+    public void commit_changesInBatch_singleEventRaisedAndUndoneByCommand() throws Exception {
+        model.beginBatch();
+        model.addTask(new Task(td.helpMe));
+        model.pushCommand("add");
+        TaskList afterAdd = new TaskList(model.getTaskList());
+        model.deleteTask(model.getFilteredTaskList().get(0));
+        model.pushCommand("delete");
+        assertTrue(taskListChangedEvents.isEmpty());
+        assertEquals(0, viewListChangedEventCount);
+        assertEquals(original.getTaskList().size(), model.getTaskList().getTaskList().size());
+
+        model.commit();
+        assertFalse(model.isInBatch());
+        assertEquals(1, taskListChangedEvents.size());
+        assertEquals(2, taskListChangedEvents.get(0).changes.size());
+        assertEquals(1, viewListChangedEventCount);
+
+        model.undo();
+        assertEquals(afterAdd, new TaskList(model.getTaskList()));
+        model.undo();
+        assertEquals(original, new TaskList(model.getTaskList()));
+        assertFalse(model.canUndo());
+    }
+
+    @Test
+    public void commit_changesInBatch_singleDeltaEventWithNetChangeOfEachTask() throws Exception {
+        ReadOnlyTask deleted = model.getTaskList().getTaskList().get(2);
+
+        model.beginBatch();
+        Task added = new Task(td.helpMe);
+        model.addTask(added);
+        Task addedThenDeleted = new Task(td.iAmCode);
+        model.addTask(addedThenDeleted);
+        model.deleteTask(addedThenDeleted);
+        model.deleteTask(deleted);
+        Task updatedBefore = new Task(model.getFilteredTaskList().get(0));
+        Task done = new Task(updatedBefore);
+        done.setComplete(true);
+        model.updateTask(0, done);
+        model.pushCommand("edit");
+        assertTrue(taskListDeltaEvents.isEmpty());
+
+        model.commit();
+        assertEquals(1, taskListDeltaEvents.size());
+        TaskListDelta delta = taskListDeltaEvents.get(0).delta;
+        assertFalse(delta.isReset());
+        assertEquals(1, delta.getAdded().size());
+        assertEquals(added.getId(), delta.getAdded().get(0).getId());
+        assertEquals(1, delta.getRemoved().size());
+        assertEquals(deleted, delta.getRemoved().get(0).getBefore());
+        assertEquals(1, delta.getUpdated().size());
+        assertEquals(updatedBefore, delta.getUpdated().get(0).getBefore());
+        assertEquals(done, delta.getUpdated().get(0).getAfter());
+
+        model.resetData(new TaskList());
+        assertTrue(taskListDeltaEvents.get(1).delta.isReset());
+    }
+
+    @Test
+    public void updateTask_taskInFindResult_taskStillShown() throws Exception {
+        model.updateFilteredTaskList(Collections.singleton("amuse"),
+                Collections.singletonList(Collections.singleton(new Tag("friends"))));
+        assertEquals(1, model.getFilteredTaskList().size());
+
+        Task done = new Task(model.getFilteredTaskList().get(0));
+        done.setComplete(true);
+        model.updateTask(0, done);
+        assertEquals(Collections.singletonList(done), new ArrayList<>(model.getFilteredTaskList()));
+
+        Task renamed = new Task(done);
+        renamed.setName(new Name("Amuse friends again"));
+        model.updateTask(0, renamed);
+        assertEquals(Collections.singletonList(renamed), new ArrayList<>(model.getFilteredTaskList()));
+    }
+
+    @Test
+    public void rollback_filtersChangedInBatch_filtersRestored() throws Exception {
+        model.updateFilteredTaskList(Collections.singleton("amuse"));
+        List<ReadOnlyTask> foundBefore = new ArrayList<>(model.getFilteredTaskList());
+        assertEquals(1, foundBefore.size());
+
+        model.beginBatch();
+        // adding a task shows every task
+        model.addTask(new Task(td.helpMe));
+        model.updateFilteredListToShowDone();
+        model.updateFilteredTaskList(Collections.singleton("dog"));
+        model.pushCommand("find");
+
+        model.rollback();
+        assertEquals(foundBefore, new ArrayList<>(model.getFilteredTaskList()));
+    }
+
+    @Test
+    public void rollback_changesInBatch_taskListRestoredWithoutEvents() throws Exception {
+        model.updateFilteredListToShowDone();
+        viewListChangedEventCount = 0;
+        List<ReadOnlyTask> shownBefore = new ArrayList<>(model.getFilteredTaskList());
+
+        model.beginBatch();
+        model.addTask(new Task(td.helpMe));
+        model.deleteTask(model.getTaskList().getTaskList().get(2));
+        Task done = new Task(model.getFilteredTaskList().get(0));
+        done.setComplete(true);
+        model.updateTask(0, done);
+        model.resetData(new TaskList());
+        model.pushCommand("clear");
+
+        model.rollback();
+        assertFalse(model.isInBatch());
+        assertEquals(original, new TaskList(model.getTaskList()));
+        assertEquals(shownBefore, new ArrayList<>(model.getFilteredTaskList()));
+        assertTrue(taskListChangedEvents.isEmpty());
+        assertEquals(0, viewListChangedEventCount);
+        assertFalse(model.canUndo());
+    }
+}
@@ -1,20 +1,32 @@
 package onlythree.imanager.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
 
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
 import onlythree.imanager.model.tag.Tag;
 import onlythree.imanager.model.task.ReadOnlyTask;
+import onlythree.imanager.model.task.Task;
+import onlythree.imanager.testutil.TaskBuilder;
 import onlythree.imanager.testutil.TypicalTestTasks;
 
 public class TaskListTest {
@@ -56,6 +68,194 @@ public class TaskListTest {
         taskList.resetData(newData);
     }
 
+    @Test
+    public void nameContainsAnyWord_matchesFullWordsIgnoringCase() throws Exception {
+        taskList.resetData(new TypicalTestTasks().getTypicalTaskList());
+        Predicate<ReadOnlyTask> predicate = taskList.nameContainsAnyWord(Arrays.asList("DOG", "flip"));
+
+        assertEquals(3, taskList.getTaskList().filtered(predicate).size());
+        assertTrue(taskList.getTaskList().filtered(taskList.nameContainsAnyWord(Arrays.asList("do"))).isEmpty());
+    }
+
+    @Test
+    public void nameContainsAnyWord_taskListChanged_followsChanges() throws Exception {
+        taskList.resetData(new TypicalTestTasks().getTypicalTaskList());
+        Predicate<ReadOnlyTask> predicate = taskList.nameContainsAnyWord(Arrays.asList("walk"));
+
+        taskList.addTask(1, new Task(new TaskBuilder().withName("Walk the dog").build()));
+        assertTrue(predicate.test(taskList.getTask(1)));
+
+        taskList.updateTask(1, new TaskBuilder().withName("Feed the dog").build());
+        assertFalse(predicate.test(taskList.getTask(1)));
+
+        taskList.updateTask(0, new TaskBuilder().withName("Walk friend").build());
+        Task walkFriend = taskList.getTask(0);
+        assertTrue(predicate.test(walkFriend));
+
+        taskList.removeTask(0);
+        assertFalse(predicate.test(walkFriend));
+    }
+
+    @Test
+    public void updateTask_taskInList_updatedInPlaceAsSingleUpdateChange() throws Exception {
+        taskList.resetData(new TypicalTestTasks().getTypicalTaskList());
+        Task task = taskList.getTask(1);
+        String nameBefore = task.getName().value;
+        List<String> namesShown = new ArrayList<>();
+        task.nameProperty().addListener((observable, oldValue, newValue) -> namesShown.add(newValue.value));
+        List<Integer> updatedIndices = new ArrayList<>();
+        taskList.getTaskList().addListener((ListChangeListener<ReadOnlyTask>) change -> {
+            while (change.next()) {
+                assertTrue(change.wasUpdated());
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    updatedIndices.add(i);
+                }
+            }
+        });
+        int[] predicateCallCount = {0};
+        FilteredList<ReadOnlyTask> filteredTasks = new FilteredList<>(taskList.getTaskList(), unused -> {
+            predicateCallCount[0]++;
+            return true;
+        });
+        predicateCallCount[0] = 0;
+
+        Task before = taskList.updateTask(1, new TaskBuilder().withName("Feed the dog").build());
+
+        assertEquals(nameBefore, before.getName().value);
+        assertEquals(task.getId(), before.getId());
+        assertTrue(task == taskList.getTask(1));
+        assertEquals("Feed the dog", task.getName().value);
+        assertEquals(Collections.singletonList("Feed the dog"), namesShown);
+        assertEquals(Collections.singletonList(1), updatedIndices);
+        assertEquals(1, predicateCallCount[0]);
+        assertEquals(task, filteredTasks.get(1));
+    }
+
+    @Test
+    public void getTasksDue_rangeQueries_followChanges() throws Exception {
+        TypicalTestTasks td = new TypicalTestTasks();
+        taskList.resetData(td.getTypicalTaskList());
+        ZonedDateTime dogDeadline = td.dog.getDeadline().get().getDateTime();
+        ZonedDateTime elephantEnd = td.elephant.getStartEndDateTime().get().getEndDateTime();
+
+        // compared by instant, whatever the time zone
+        assertEquals(Collections.singleton(taskList.getTask(4)),
+                taskList.getTasksDueBefore(dogDeadline.withZoneSameInstant(ZoneOffset.UTC)));
+        assertEquals(2, taskList.getTasksDueBefore(dogDeadline.plusSeconds(1)).size());
+        assertEquals(2, taskList.getTasksDueFrom(elephantEnd).size());
+        assertEquals(1, taskList.getTasksDueBetween(elephantEnd, elephantEnd).size());
+        assertEquals(1, taskList.getTasksStartingBetween(elephantEnd.minusHours(1), dogDeadline).size());
+
+        taskList.removeTask(3);
+        assertEquals(1, taskList.getTasksDueBefore(dogDeadline.plusSeconds(1)).size());
+        assertTrue(taskList.getTasksDueBetween(dogDeadline, dogDeadline).isEmpty());
+    }
+
+    @Test
+    public void removeTask_equalTasks_taskWithSameIdRemoved() throws Exception {
+        Task first = new Task(new TaskBuilder().withName("Walk the dog").build());
+        Task second = new Task(new TaskBuilder().withName("Walk the dog").build());
+        taskList.addTask(first);
+        taskList.addTask(second);
+        assertNotEquals(first.getId(), second.getId());
+
+        taskList.removeTask(second);
+        assertEquals(1, taskList.getTaskList().size());
+        assertEquals(first.getId(), taskList.getTask(0).getId());
+    }
+
+    @Test
+    public void indexOfId_tasksInsertedRemovedAndUpdated_positionsFollowChanges() throws Exception {
+        taskList.resetData(new TypicalTestTasks().getTypicalTaskList());
+        long lastId = taskList.getTask(taskList.getTaskList().size() - 1).getId();
+        long secondId = taskList.getTask(1).getId();
+
+        taskList.removeTask(0);
+        assertEquals(taskList.getTaskList().size() - 1, taskList.indexOfId(lastId));
+        assertEquals(0, taskList.indexOfId(secondId));
+
+        taskList.addTask(0, new Task(new TaskBuilder().withName("Walk the dog").build()));
+        assertEquals(1, taskList.indexOfId(secondId));
+
+        taskList.updateTask(1, new TaskBuilder().withName("Feed the dog").build());
+        assertEquals(secondId, taskList.getTask(1).getId());
+        assertEquals(1, taskList.indexOfId(secondId));
+        assertEquals(-1, taskList.indexOfId(lastId + 100));
+    }
+
+    @Test
+    public void indexOf_insertionsAndRemovalsBeforeLookup_tasksFoundByIdOnly() throws Exception {
+        taskList.resetData(new TypicalTestTasks().getTypicalTaskList());
+        taskList.removeTask(5);
+        taskList.addTask(2, new Task(new TaskBuilder().withName("Walk the dog").build()));
+        taskList.removeTask(0);
+        taskList.addTask(new Task(new TaskBuilder().withName("Feed the dog").build()));
+        taskList.addTask(0, new Task(new TaskBuilder().withName("Wash the dog").build()));
+
+        for (int i = 0; i < taskList.getTaskList().size(); i++) {
+            assertEquals(i, taskList.indexOf(taskList.getTask(i)));
+        }
+        // an equal task without an id is not the task in the list
+        assertEquals(-1, taskList.indexOf(new TaskBuilder().withName("Walk the dog").build()));
+    }
+
+    @Test
+    public void hasAnyTagOfEach_anyTagWithinGroupAndEveryGroup_matched() throws Exception {
+        taskList.addTask(new Task(new TaskBuilder().withName("Report").withTags("work", "urgent").build()));
+        taskList.addTask(new Task(new TaskBuilder().withName("Memo").withTags("work").build()));
+        taskList.addTask(new Task(new TaskBuilder().withName("Plumber").withTags("home", "urgent").build()));
+        Predicate<ReadOnlyTask> predicate = taskList.hasAnyTagOfEach(Arrays.asList(
+                new HashSet<>(Arrays.asList(new Tag("work"), new Tag("home"))),
+                Collections.singleton(new Tag("urgent"))));
+
+        assertTrue(predicate.test(taskList.getTask(0)));
+        assertFalse(predicate.test(taskList.getTask(1)));
+        assertTrue(predicate.test(taskList.getTask(2)));
+
+        taskList.updateTask(1, new TaskBuilder().withName("Memo").withTags("work", "urgent").build());
+        assertTrue(predicate.test(taskList.getTask(1)));
+    }
+
+    @Test
+    public void hasAnyTagOfEach_tasksRemovedAndAddedAfterTesting_matchesFollowChanges() throws Exception {
+        taskList.addTask(new Task(new TaskBuilder().withName("Report").withTags("work", "urgent").build()));
+        taskList.addTask(new Task(new TaskBuilder().withName("Memo").withTags("work").build()));
+        Predicate<ReadOnlyTask> predicate = taskList.hasAnyTagOfEach(Arrays.asList(
+                Collections.singleton(new Tag("work")), Collections.singleton(new Tag("urgent"))));
+        ReadOnlyTask report = taskList.getTask(0);
+        assertTrue(predicate.test(report));
+
+        taskList.removeTask(0);
+        assertFalse(predicate.test(report));
+
+        taskList.addTask(new Task(new TaskBuilder().withName("Invoice").withTags("urgent", "work").build()));
+        assertTrue(predicate.test(taskList.getTask(1)));
+        assertFalse(predicate.test(taskList.getTask(0)));
+
+        // a group whose tags no task has matches nothing
+        assertFalse(taskList.hasAnyTagOfEach(Arrays.asList(Collections.singleton(new Tag("work")),
+                Collections.singleton(new Tag("home")))).test(taskList.getTask(1)));
+    }
+
+    @Test
+    public void getTagUsageCount_tasksAddedUpdatedAndRemoved_countsFollowChanges() throws Exception {
+        Tag work = new Tag("work");
+        assertEquals(0, taskList.getTagUsageCount(work));
+
+        taskList.addTask(new Task(new TaskBuilder().withName("Report").withTags("work", "urgent").build()));
+        taskList.addTask(new Task(new TaskBuilder().withName("Memo").withTags("work").build()));
+        assertEquals(2, taskList.getTagUsageCount(work));
+        assertEquals(1, taskList.getTagUsageCount(new Tag("urgent")));
+
+        taskList.updateTask(1, new TaskBuilder().withName("Memo").withTags("home").build());
+        assertEquals(1, taskList.getTagUsageCount(work));
+        assertEquals(1, taskList.getTagUsageCount(new Tag("home")));
+
+        taskList.removeTask(0);
+        assertEquals(0, taskList.getTagUsageCount(work));
+        assertEquals(0, taskList.getTagUsageCount(new Tag("urgent")));
+    }
+
     /**
      * A stub ReadOnlyTaskList whose tasks and tags lists can violate interface constraints.
      */
@@ -0,0 +1,118 @@
+package onlythree.imanager.model.history;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import onlythree.imanager.commons.exceptions.IllegalValueException;
+import onlythree.imanager.model.TaskList;
+import onlythree.imanager.model.task.ReadOnlyTask;
+import onlythree.imanager.model.task.Task;
+import onlythree.imanager.testutil.TypicalTestTasks;
+
+public class CommandJournalTest {
+
+    private final TypicalTestTasks td = new TypicalTestTasks();
+
+    private TaskList taskList;
+    private CommandJournal journal;
+
+    @Before
+    public void setUp() {
+        taskList = td.getTypicalTaskList();
+        journal = new CommandJournal(10, Long.MAX_VALUE);
+    }
+
+    @Test
+    public void constructor_emptyJournal_cannotUndoOrRedo() {
+        assertFalse(journal.canUndo());
+        assertFalse(journal.canRedo());
+    }
+
+    @Test
+    public void undoRedo_addRemoveUpdate_restoresTaskList() throws IllegalValueException {
+        TaskList original = new TaskList(taskList);
+
+        Task added = new Task(td.helpMe);
+        int addedIndex = taskList.addTask(added);
+        journal.record(TaskListChange.added(addedIndex, added));
+        Task removed = taskList.removeTask(0);
+        journal.record(TaskListChange.removed(0, removed));
+        journal.commit("add");
+
+        Task updated = new Task(taskList.getTask(1));
+        updated.setComplete(true);
+        Task before = taskList.updateTask(1, updated);
+        journal.record(TaskListChange.updated(1, before, taskList.getTask(1)));
+        journal.commit("done");
+        TaskList afterAllCommands = new TaskList(taskList);
+
+        assertEquals(1, journal.undo(taskList).size());
+        assertEquals(2, journal.undo(taskList).size());
+        assertEquals(original, taskList);
+        assertFalse(journal.canUndo());
+
+        assertEquals(2, journal.redo(taskList).size());
+        assertEquals(1, journal.redo(taskList).size());
+        assertEquals(afterAllCommands, taskList);
+        assertFalse(journal.canRedo());
+    }
+
+    @Test
+    public void undoRedo_reset_restoresTaskList() {
+        TaskList original = new TaskList(taskList);
+        taskList.resetData(new TaskList());
+        journal.record(TaskListChange.reset(original, new TaskList()));
+        journal.commit("clear");
+
+        journal.undo(taskList);
+        assertEquals(original, taskList);
+        journal.redo(taskList);
+        assertEquals(new TaskList(), taskList);
+    }
+
+    @Test
+    public void commit_noRecordedChanges_nothingToUndo() {
+        journal.commit("list");
+        assertFalse(journal.canUndo());
+    }
+
+    @Test
+    public void commit_afterUndo_clearsRedo() throws IllegalValueException {
+        addTaskAndCommit(td.helpMe);
+        journal.undo(taskList);
+        assertTrue(journal.canRedo());
+
+        addTaskAndCommit(td.iAmCode);
+        assertFalse(journal.canRedo());
+    }
+
+    @Test
+    public void commit_exceedsMaxDepth_oldestCommandsDropped() throws IllegalValueException {
+        journal = new CommandJournal(2, Long.MAX_VALUE);
+        for (int i = 0; i < 5; i++) {
+            addTaskAndCommit(td.helpMe);
+        }
+        assertEquals(2, journal.getUndoDepth());
+    }
+
+    @Test
+    public void commit_exceedsMemoryBudget_mostRecentCommandKept() throws IllegalValueException {
+        journal = new CommandJournal(10, 1);
+        addTaskAndCommit(td.helpMe);
+        addTaskAndCommit(td.iAmCode);
+
+        assertEquals(1, journal.getUndoDepth());
+        assertTrue(journal.getEstimatedBytesUsed() > 0);
+    }
+
+    private void addTaskAndCommit(ReadOnlyTask toAdd) throws IllegalValueException {
+        Task task = new Task(toAdd);
+        int index = taskList.addTask(task);
+        journal.record(TaskListChange.added(index, task));
+        journal.commit("add");
+    }
+}
@@ -0,0 +1,68 @@
+package onlythree.imanager.model.history;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import onlythree.imanager.model.TaskList;
+import onlythree.imanager.model.task.Task;
+import onlythree.imanager.testutil.TypicalTestTasks;
+
+public class TaskListDeltaTest {
+
+    private final TypicalTestTasks td = new TypicalTestTasks();
+
+    @Test
+    public void of_addedThenUpdated_addedWithLatestValue() throws Exception {
+        Task added = withId(new Task(td.helpMe), 1);
+        Task updated = withId(new Task(td.helpMe), 1);
+        updated.setComplete(true);
+
+        TaskListDelta delta = TaskListDelta.of(Arrays.asList(
+                TaskListChange.added(0, added), TaskListChange.updated(0, added, updated)));
+
+        assertFalse(delta.isReset());
+        assertEquals(1, delta.getAdded().size());
+        assertEquals(1, delta.getAdded().get(0).getId());
+        assertNull(delta.getAdded().get(0).getBefore());
+        assertEquals(updated, delta.getAdded().get(0).getAfter());
+        assertTrue(delta.getRemoved().isEmpty());
+        assertTrue(delta.getUpdated().isEmpty());
+    }
+
+    @Test
+    public void of_changesThatCancelOut_emptyDelta() throws Exception {
+        Task task = withId(new Task(td.helpMe), 1);
+        Task done = withId(new Task(td.helpMe), 1);
+        done.setComplete(true);
+        Task other = withId(new Task(td.iAmCode), 2);
+
+        TaskListDelta delta = TaskListDelta.of(Arrays.asList(
+                TaskListChange.updated(0, task, done), TaskListChange.updated(0, done, task),
+                TaskListChange.added(1, other), TaskListChange.removed(1, other)));
+
+        assertTrue(delta.isEmpty());
+    }
+
+    @Test
+    public void of_resetOrUnknownChanges_resetDelta() throws Exception {
+        Task task = withId(new Task(td.helpMe), 1);
+
+        assertTrue(TaskListDelta.of(Collections.emptyList()).isReset());
+        TaskListDelta delta = TaskListDelta.of(Arrays.asList(TaskListChange.added(0, task),
+                TaskListChange.reset(new TaskList(), new TaskList())));
+        assertTrue(delta.isReset());
+        assertTrue(delta.getAdded().isEmpty());
+    }
+
+    private Task withId(Task task, long id) {
+        task.setId(id);
+        return task;
+    }
+}
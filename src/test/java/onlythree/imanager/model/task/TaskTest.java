@@ -1,6 +1,8 @@
 package onlythree.imanager.model.task;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 
 import java.time.ZonedDateTime;
 import java.util.Optional;
@@ -10,6 +12,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import onlythree.imanager.commons.exceptions.IllegalValueException;
+import onlythree.imanager.model.tag.Tag;
 import onlythree.imanager.model.tag.UniqueTagList;
 import onlythree.imanager.model.task.exceptions.InvalidDurationException;
 import onlythree.imanager.model.task.exceptions.PastDateTimeException;
@@ -65,4 +68,22 @@ public class TaskTest {
         assertNotNull(new Task(new Name("Rumble roll!"), Optional.of(deadline), Optional.of(startEndDateTime),
                 new UniqueTagList()));
     }
+
+    //@@author
+    @Test
+    public void constructor_sameTagName_tagShared() throws IllegalValueException {
+        Task first = new Task(new Name("first"), Optional.empty(), Optional.empty(), new UniqueTagList("shared"));
+        Task second = new Task(new Name("second"), Optional.empty(), Optional.empty(), new UniqueTagList("shared"));
+        assertSame(first.getTagSet().iterator().next(), second.getTagSet().iterator().next());
+    }
+
+    @Test
+    public void getTags_returnedListChanged_taskTagsUnchanged() throws IllegalValueException {
+        Task task = new Task(new Name("task"), Optional.empty(), Optional.empty(), new UniqueTagList("a", "b"));
+        UniqueTagList tags = task.getTags();
+        tags.add(new Tag("c"));
+
+        assertEquals(2, task.getTagSet().size());
+        assertEquals(new UniqueTagList("a", "b"), task.getTags());
+    }
 }
@@ -0,0 +1,169 @@
+package onlythree.imanager.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import onlythree.imanager.commons.util.FileUtil;
+import onlythree.imanager.model.TaskList;
+import onlythree.imanager.model.history.TaskListChange;
+import onlythree.imanager.model.task.Task;
+import onlythree.imanager.testutil.TypicalTestTasks;
+
+public class AppendOnlyTaskListStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final TypicalTestTasks td = new TypicalTestTasks();
+
+    private String filePath;
+    private TaskList taskList;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().getPath() + File.separator + "tasklist.xml";
+        taskList = td.getTypicalTaskList();
+    }
+
+    @Test
+    public void readTaskList_missingFile_emptyResult() throws Exception {
+        assertFalse(new AppendOnlyTaskListStorage(filePath).readTaskList().isPresent());
+    }
+
+    @Test
+    public void saveTaskListChanges_thenRead_changesReplayed() throws Exception {
+        AppendOnlyTaskListStorage storage = new AppendOnlyTaskListStorage(filePath);
+        storage.saveTaskList(taskList);
+        makeChanges(storage);
+        storage.flushTaskList();
+
+        assertTrue(new File(filePath + ".log").exists());
+        assertEquals(taskList, new TaskList(new AppendOnlyTaskListStorage(filePath).readTaskList().get()));
+    }
+
+    @Test
+    public void saveTaskListChanges_reachesCompactionThreshold_logFoldedIntoSnapshot() throws Exception {
+        AppendOnlyTaskListStorage storage = new AppendOnlyTaskListStorage(filePath, 1, 2);
+        storage.saveTaskList(taskList);
+        makeChanges(storage);
+        storage.flushTaskList();
+
+        XmlSerializableTaskList snapshot = XmlFileStorage.loadDataFromSaveFile(new File(filePath));
+        assertEquals(taskList, new TaskList(snapshot));
+        assertEquals(Long.valueOf(3), snapshot.getLogSequence().get());
+        assertFalse(new File(filePath + ".log.3").exists());
+    }
+
+    @Test
+    public void readTaskList_partiallyWrittenRecord_recordIgnored() throws Exception {
+        AppendOnlyTaskListStorage storage = new AppendOnlyTaskListStorage(filePath);
+        storage.saveTaskList(taskList);
+        makeChanges(storage);
+        storage.flushTaskList();
+        TaskList expected = new TaskList(taskList);
+
+        Files.write(new File(filePath + ".log").toPath(), "<change sequence=\"4\" ty".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        AppendOnlyTaskListStorage restarted = new AppendOnlyTaskListStorage(filePath);
+        assertEquals(expected, new TaskList(restarted.readTaskList().get()));
+
+        // the log can still be appended to after recovering from the partial record
+        addTask(restarted, new Task(td.iAmCode));
+        restarted.flushTaskList();
+        assertEquals(taskList, new TaskList(new AppendOnlyTaskListStorage(filePath).readTaskList().get()));
+    }
+
+    @Test
+    public void readTaskList_snapshotWrittenElsewhere_logIgnored() throws Exception {
+        AppendOnlyTaskListStorage storage = new AppendOnlyTaskListStorage(filePath);
+        storage.saveTaskList(taskList);
+        makeChanges(storage);
+        storage.flushTaskList();
+
+        TaskList replacement = new TypicalTestTasks().getTypicalTaskList();
+        FileUtil.createIfMissing(new File(filePath));
+        XmlFileStorage.saveDataToFile(new File(filePath), new XmlSerializableTaskList(replacement));
+
+        assertEquals(replacement, new TaskList(new AppendOnlyTaskListStorage(filePath).readTaskList().get()));
+    }
+
+    @Test
+    public void readTaskList_snapshotRecordSkipped_logKeptWithoutReplaying() throws Exception {
+        AppendOnlyTaskListStorage storage = new AppendOnlyTaskListStorage(filePath);
+        storage.saveTaskList(taskList);
+        Task updated = new Task(taskList.getTask(1));
+        updated.setComplete(true);
+        Task before = taskList.updateTask(1, updated);
+        Task removed = taskList.removeTask(2);
+        storage.saveTaskListChanges(taskList, Arrays.asList(TaskListChange.updated(1, before, taskList.getTask(1)),
+                TaskListChange.removed(2, removed)));
+        storage.flushTaskList();
+
+        // makes the record of the first task invalid, so every task after it would be found one position earlier
+        File snapshotFile = new File(filePath);
+        String snapshot = new String(Files.readAllBytes(snapshotFile.toPath()), StandardCharsets.UTF_8);
+        String firstTaskName = "<name>" + td.amuseFriend.getName().value + "</name>";
+        assertTrue(snapshot.contains(firstTaskName));
+        Files.write(snapshotFile.toPath(), snapshot.replace(firstTaskName, "<name>Amuse/friend</name>")
+                .getBytes(StandardCharsets.UTF_8));
+        TaskList validRecords = new XmlTaskListReader(snapshotFile).read();
+
+        assertEquals(validRecords, new TaskList(new AppendOnlyTaskListStorage(filePath).readTaskList().get()));
+        assertFalse(new File(filePath + ".log").exists());
+        File[] keptLogFiles = testFolder.getRoot().listFiles((dir, name) -> name.startsWith("tasklist.xml.log."));
+        assertEquals(1, keptLogFiles.length);
+        assertTrue(keptLogFiles[0].length() > 0);
+        assertEquals(validRecords, new TaskList(new AppendOnlyTaskListStorage(filePath).readTaskList().get()));
+    }
+
+    @Test
+    public void saveTaskListChanges_reset_snapshotWritten() throws Exception {
+        AppendOnlyTaskListStorage storage = new AppendOnlyTaskListStorage(filePath);
+        storage.saveTaskList(taskList);
+        makeChanges(storage);
+
+        TaskList before = new TaskList(taskList);
+        taskList.resetData(new TaskList());
+        storage.saveTaskListChanges(taskList,
+                Collections.singletonList(TaskListChange.reset(before, new TaskList())));
+
+        assertFalse(new File(filePath + ".log").exists());
+        assertEquals(taskList, new TaskList(new AppendOnlyTaskListStorage(filePath).readTaskList().get()));
+    }
+
+    /**
+     * Adds, updates and removes a task in {@code taskList}, saving each change to {@code storage}.
+     */
+    private void makeChanges(AppendOnlyTaskListStorage storage) throws Exception {
+        addTask(storage, new Task(td.helpMe));
+
+        Task updated = new Task(taskList.getTask(0));
+        updated.setComplete(true);
+        Task before = taskList.updateTask(0, updated);
+        TaskListChange update = TaskListChange.updated(0, before, taskList.getTask(0));
+
+        Task removed = taskList.removeTask(1);
+        TaskListChange removal = TaskListChange.removed(1, removed);
+        storage.saveTaskListChanges(taskList, Arrays.asList(update, removal));
+    }
+
+    private void addTask(AppendOnlyTaskListStorage storage, Task task) throws IOException {
+        int index = taskList.addTask(task);
+        storage.saveTaskListChanges(taskList, Collections.singletonList(TaskListChange.added(index, task)));
+    }
+}
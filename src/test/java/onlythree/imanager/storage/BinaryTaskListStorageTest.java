@@ -0,0 +1,171 @@
+package onlythree.imanager.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import javafx.collections.ObservableList;
+import onlythree.imanager.commons.exceptions.DataConversionException;
+import onlythree.imanager.model.ReadOnlyTaskList;
+import onlythree.imanager.model.TaskList;
+import onlythree.imanager.model.tag.Tag;
+import onlythree.imanager.model.tag.UniqueTagList;
+import onlythree.imanager.model.task.Deadline;
+import onlythree.imanager.model.task.Name;
+import onlythree.imanager.model.task.ReadOnlyTask;
+import onlythree.imanager.model.task.StartEndDateTime;
+import onlythree.imanager.model.task.Task;
+import onlythree.imanager.testutil.TypicalTestTasks;
+
+public class BinaryTaskListStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryTaskListStorage(getTempFilePath("NonExistentFile.imb")).readTaskList().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        String filePath = getTempFilePath("NotBinaryFormatTaskList.imb");
+        Files.write(new File(filePath).toPath(), Arrays.asList("<taskList></taskList>"));
+
+        thrown.expect(DataConversionException.class);
+        new BinaryTaskListStorage(filePath).readTaskList();
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        String filePath = getTempFilePath("TempTaskList.imb");
+        new BinaryTaskListStorage(filePath).saveTaskList(new TypicalTestTasks().getTypicalTaskList());
+        byte[] data = Files.readAllBytes(new File(filePath).toPath());
+        Files.write(new File(filePath).toPath(), Arrays.copyOf(data, data.length - 3));
+
+        thrown.expect(DataConversionException.class);
+        new BinaryTaskListStorage(filePath).readTaskList();
+    }
+
+    @Test
+    public void saveTaskList_writeFails_oldFileKept() throws Exception {
+        String filePath = getTempFilePath("TempTaskList.imb");
+        TaskList original = new TypicalTestTasks().getTypicalTaskList();
+        BinaryTaskListStorage binaryTaskListStorage = new BinaryTaskListStorage(filePath);
+        binaryTaskListStorage.saveTaskList(original);
+
+        // fails after the start of the file has been written, like a disk that becomes full
+        ReadOnlyTaskList failingTaskList = new ReadOnlyTaskList() {
+            @Override
+            public ObservableList<ReadOnlyTask> getTaskList() {
+                throw new UncheckedIOException(new IOException("No space left on device"));
+            }
+
+            @Override
+            public ObservableList<Tag> getTagList() {
+                return original.getTagList();
+            }
+        };
+        try {
+            binaryTaskListStorage.saveTaskList(failingTaskList);
+            fail("The failure to write the task list should be thrown");
+        } catch (UncheckedIOException e) {
+            // expected
+        }
+
+        assertEquals(original, new TaskList(binaryTaskListStorage.readTaskList().get()));
+        assertFalse(new File(filePath + ".tmp").exists());
+    }
+
+    @Test
+    public void readAndSaveTaskList_allInOrder_success() throws Exception {
+        String filePath = getTempFilePath("TempTaskList.imb");
+        TypicalTestTasks td = new TypicalTestTasks();
+        TaskList original = td.getTypicalTaskList();
+        BinaryTaskListStorage binaryTaskListStorage = new BinaryTaskListStorage(filePath);
+
+        binaryTaskListStorage.saveTaskList(original, filePath);
+        assertEquals(original, new TaskList(binaryTaskListStorage.readTaskList(filePath).get()));
+
+        original.addTask(new Task(td.helpMe));
+        original.removeTask(0); // amuseFriend, the first of the typical tasks
+        original.updateTask(0, completed(original.getTask(0)));
+        binaryTaskListStorage.saveTaskList(original);
+        assertEquals(original, new TaskList(binaryTaskListStorage.readTaskList().get()));
+    }
+
+    @Test
+    public void readAndSaveTaskList_taskIds_idsKept() throws Exception {
+        String filePath = getTempFilePath("TempTaskList.imb");
+        TypicalTestTasks td = new TypicalTestTasks();
+        TaskList original = td.getTypicalTaskList();
+        original.removeTask(0);
+        BinaryTaskListStorage binaryTaskListStorage = new BinaryTaskListStorage(filePath);
+
+        binaryTaskListStorage.saveTaskList(original);
+        TaskList read = new TaskList(binaryTaskListStorage.readTaskList().get());
+        for (int i = 0; i < original.getTaskList().size(); i++) {
+            assertEquals(original.getTask(i).getId(), read.getTask(i).getId());
+        }
+    }
+
+    @Test
+    public void readAndSaveTaskList_dateTimesInOtherZones_zonesKept() throws Exception {
+        String filePath = getTempFilePath("TempTaskList.imb");
+        ZonedDateTime start = ZonedDateTime.of(2017, 3, 26, 1, 30, 0, 123456789, ZoneId.of("Europe/London"));
+        TaskList original = new TaskList();
+        original.addTask(new Task(new Name("Summer time"), Optional.empty(),
+                Optional.of(new StartEndDateTime(start, start.plusHours(1), true)), new UniqueTagList()));
+        original.addTask(new Task(new Name("Fixed offset"),
+                Optional.of(new Deadline(ZonedDateTime.parse("2017-04-01T10:00:00+08:00"), true)),
+                Optional.empty(), new UniqueTagList()));
+
+        new BinaryTaskListStorage(filePath).saveTaskList(original);
+        assertEquals(original, new TaskList(new BinaryTaskListStorage(filePath).readTaskList().get()));
+    }
+
+    @Test
+    public void saveTaskList_typicalTaskList_smallerThanXml() throws Exception {
+        TaskList taskList = new TypicalTestTasks().getTypicalTaskList();
+        String binaryFilePath = getTempFilePath("TempTaskList.imb");
+        String xmlFilePath = getTempFilePath("TempTaskList.xml");
+        new BinaryTaskListStorage(binaryFilePath).saveTaskList(taskList);
+        new XmlTaskListStorage(xmlFilePath).saveTaskList(taskList);
+
+        assertTrue(new File(binaryFilePath).length() < new File(xmlFilePath).length());
+    }
+
+    @Test
+    public void saveTaskList_nullTaskList_assertionFailure() throws Exception {
+        thrown.expect(AssertionError.class);
+        new BinaryTaskListStorage(getTempFilePath("SomeFile.imb")).saveTaskList(null);
+    }
+
+    private Task completed(Task task) throws Exception {
+        Task completed = new Task(task);
+        completed.setComplete(true);
+        return completed;
+    }
+
+    private String getTempFilePath(String fileName) {
+        return testFolder.getRoot().getPath() + File.separator + fileName;
+    }
+}
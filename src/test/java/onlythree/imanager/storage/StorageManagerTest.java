@@ -5,6 +5,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -16,6 +18,8 @@ import onlythree.imanager.commons.events.storage.DataSavingExceptionEvent;
 import onlythree.imanager.model.ReadOnlyTaskList;
 import onlythree.imanager.model.TaskList;
 import onlythree.imanager.model.UserPrefs;
+import onlythree.imanager.model.history.TaskListChange;
+import onlythree.imanager.model.task.Task;
 import onlythree.imanager.testutil.EventsCollector;
 import onlythree.imanager.testutil.TypicalTestTasks;
 
@@ -65,6 +69,17 @@ public class StorageManagerTest {
         assertEquals(original, new TaskList(retrieved));
     }
 
+    @Test
+    public void setTaskListFilePath_binaryFile_savedInBinaryFormat() throws Exception {
+        TaskList original = new TypicalTestTasks().getTypicalTaskList();
+        String binaryFilePath = getTempFilePath("taskList" + BinaryTaskListStorage.FILE_EXTENSION);
+        storageManager.setTaskListFilePath(binaryFilePath);
+        storageManager.saveTaskList(original);
+
+        assertEquals(binaryFilePath, storageManager.getTaskListFilePath());
+        assertEquals(original, new TaskList(new BinaryTaskListStorage(binaryFilePath).readTaskList().get()));
+    }
+
     @Test
     public void getTaskListFilePath() {
         assertNotNull(storageManager.getTaskListFilePath());
@@ -77,10 +92,53 @@ public class StorageManagerTest {
                                              new JsonUserPrefsStorage("dummy"));
         EventsCollector eventCollector = new EventsCollector();
         storage.handleTaskListChangedEvent(new TaskListChangedEvent(new TaskList()));
+        storage.flushTaskList();
         assertTrue(eventCollector.get(0) instanceof DataSavingExceptionEvent);
     }
 
 
+    @Test
+    public void handleTaskListChangedEvent_burstOfChanges_savedTogetherOnFlush() throws Exception {
+        SaveCountingXmlTaskListStorageStub taskListStorage =
+                new SaveCountingXmlTaskListStorageStub(getTempFilePath("taskList"));
+        // a long delay so that nothing is saved before the flush
+        Storage storage = new StorageManager(taskListStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                                             60 * 1000);
+        TaskList taskList = new TypicalTestTasks().getTypicalTaskList();
+        for (int i = 0; i < 3; i++) {
+            Task removed = taskList.removeTask(0);
+            storage.handleTaskListChangedEvent(new TaskListChangedEvent(taskList,
+                    Collections.singletonList(TaskListChange.removed(0, removed))));
+        }
+        assertEquals(0, taskListStorage.saveCount);
+
+        storage.flushTaskList();
+        assertEquals(1, taskListStorage.saveCount);
+        assertEquals(3, taskListStorage.savedChangeCount);
+        assertEquals(taskList, new TaskList(storage.readTaskList().get()));
+    }
+
+
+    /**
+     * A Stub class that counts the number of times changes are saved
+     */
+    class SaveCountingXmlTaskListStorageStub extends XmlTaskListStorage {
+        private int saveCount;
+        private int savedChangeCount;
+
+        public SaveCountingXmlTaskListStorageStub(String filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveTaskListChanges(ReadOnlyTaskList taskList, List<TaskListChange> changes)
+                throws IOException {
+            saveCount++;
+            savedChangeCount += changes.size();
+            super.saveTaskListChanges(taskList, changes);
+        }
+    }
+
     /**
      * A Stub class to throw an exception when the save method is called
      */
@@ -0,0 +1,58 @@
+package onlythree.imanager.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import onlythree.imanager.model.TaskList;
+import onlythree.imanager.model.history.TaskListChange;
+import onlythree.imanager.model.task.Task;
+import onlythree.imanager.testutil.TypicalTestTasks;
+
+public class TaskListFileConverterTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void convert_xmlToBinaryAndBack_taskListUnchanged() throws Exception {
+        TypicalTestTasks td = new TypicalTestTasks();
+        TaskList taskList = td.getTypicalTaskList();
+        String xmlFilePath = getTempFilePath("tasklist.xml");
+        AppendOnlyTaskListStorage xmlStorage = new AppendOnlyTaskListStorage(xmlFilePath);
+        xmlStorage.saveTaskList(taskList);
+        // a change still in the log must be converted too
+        Task added = new Task(td.helpMe);
+        int index = taskList.addTask(added);
+        xmlStorage.saveTaskListChanges(taskList, Collections.singletonList(TaskListChange.added(index, added)));
+        xmlStorage.flushTaskList();
+
+        String binaryFilePath = getTempFilePath("tasklist.imb");
+        TaskListFileConverter.convert(xmlFilePath, binaryFilePath);
+        assertEquals(taskList, new TaskList(new BinaryTaskListStorage(binaryFilePath).readTaskList().get()));
+
+        String convertedBackFilePath = getTempFilePath("converted.xml");
+        TaskListFileConverter.convert(binaryFilePath, convertedBackFilePath);
+        assertEquals(taskList, new TaskList(new XmlTaskListStorage(convertedBackFilePath).readTaskList().get()));
+    }
+
+    @Test
+    public void convert_missingSource_exceptionThrown() throws Exception {
+        thrown.expect(IOException.class);
+        TaskListFileConverter.convert(getTempFilePath("missing.xml"), getTempFilePath("tasklist.imb"));
+    }
+
+    private String getTempFilePath(String fileName) {
+        return testFolder.getRoot().getPath() + File.separator + fileName;
+    }
+}
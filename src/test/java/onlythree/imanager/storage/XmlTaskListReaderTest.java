@@ -0,0 +1,107 @@
+package onlythree.imanager.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import onlythree.imanager.commons.exceptions.DataConversionException;
+import onlythree.imanager.commons.util.FileUtil;
+import onlythree.imanager.model.TaskList;
+import onlythree.imanager.model.tag.Tag;
+import onlythree.imanager.model.task.ReadOnlyTask;
+import onlythree.imanager.testutil.TypicalTestTasks;
+
+public class XmlTaskListReaderTest {
+    private static final String TEST_DATA_FOLDER = FileUtil.getPath("./src/test/data/XmlTaskListReaderTest/");
+    private static final File INVALID_RECORDS_FILE = new File(TEST_DATA_FOLDER + "InvalidRecordsTaskList.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_savedTaskList_sameTaskList() throws Exception {
+        File file = testFolder.newFile("TempTaskList.xml");
+        TaskList original = new TypicalTestTasks().getTypicalTaskList();
+        XmlFileStorage.saveDataToFile(file, new XmlSerializableTaskList(original, 7));
+
+        XmlTaskListReader reader = new XmlTaskListReader(file);
+        assertEquals(original, reader.read());
+        assertEquals(Long.valueOf(7), reader.getLogSequence().get());
+        assertTrue(reader.getRecordErrors().isEmpty());
+    }
+
+    @Test
+    public void read_savedTaskList_idsKept() throws Exception {
+        File file = testFolder.newFile("TempTaskList.xml");
+        TaskList original = new TypicalTestTasks().getTypicalTaskList();
+        original.removeTask(0);
+        XmlFileStorage.saveDataToFile(file, new XmlSerializableTaskList(original));
+
+        TaskList read = new XmlTaskListReader(file).read();
+        for (int i = 0; i < original.getTaskList().size(); i++) {
+            assertEquals(original.getTask(i).getId(), read.getTask(i).getId());
+        }
+    }
+
+    @Test
+    public void read_noLogSequence_emptyLogSequence() throws Exception {
+        File file = testFolder.newFile("TempTaskList.xml");
+        XmlFileStorage.saveDataToFile(file, new XmlSerializableTaskList(new TaskList()));
+
+        XmlTaskListReader reader = new XmlTaskListReader(file);
+        assertEquals(new TaskList(), reader.read());
+        assertFalse(reader.getLogSequence().isPresent());
+    }
+
+    @Test
+    public void read_invalidRecords_invalidRecordsSkipped() throws Exception {
+        XmlTaskListReader reader = new XmlTaskListReader(INVALID_RECORDS_FILE);
+        TaskList taskList = reader.read();
+
+        List<ReadOnlyTask> tasks = taskList.getTaskList();
+        assertEquals(2, tasks.size());
+        assertEquals("buy groceries", tasks.get(0).getName().value);
+        assertEquals("meeting", tasks.get(1).getName().value);
+        assertTrue(tasks.get(1).isComplete());
+        assertEquals(2, taskList.getTagList().size());
+        assertTrue(taskList.getTagList().contains(new Tag("work")));
+        assertEquals(Long.valueOf(42), reader.getLogSequence().get());
+
+        List<String> recordErrors = reader.getRecordErrors();
+        assertEquals(4, recordErrors.size());
+        assertTrue(recordErrors.get(0).startsWith("task 2 at line 8"));
+        assertTrue(recordErrors.get(1).startsWith("task 3 at line 12"));
+        assertTrue(recordErrors.get(2).startsWith("task 4 at line 18"));
+        assertTrue(recordErrors.get(3).startsWith("tag at line 34"));
+    }
+
+    @Test
+    public void read_invalidRecordsThroughStorage_validRecordsKept() throws Exception {
+        XmlTaskListStorage storage = new XmlTaskListStorage(INVALID_RECORDS_FILE.getPath());
+        assertEquals(2, storage.readTaskList().get().getTaskList().size());
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new XmlTaskListReader(new File(TEST_DATA_FOLDER + "TruncatedTaskList.xml")).read();
+    }
+
+    @Test
+    public void read_notXmlFormat_exceptionThrown() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new XmlTaskListReader(new File(FileUtil.getPath("./src/test/data/XmlTaskListStorageTest/"),
+                "NotXmlFormatTaskList.xml")).read();
+    }
+}
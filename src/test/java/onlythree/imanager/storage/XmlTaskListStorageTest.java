@@ -72,7 +72,7 @@ public class XmlTaskListStorageTest {
 
         //Modify data, overwrite exiting file, and read back
         original.addTask(new Task(td.helpMe));
-        original.removeTask(new Task(td.amuseFriend));
+        original.removeTask(0); // amuseFriend, the first of the typical tasks
         xmlTaskListStorage.saveTaskList(original, filePath);
         readBack = xmlTaskListStorage.readTaskList(filePath).get();
         assertEquals(original, new TaskList(readBack));